@@ -0,0 +1,58 @@
+package org.example.eiscuno.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Hands the command line to JMH's own {@link Main}, so every JMH option works as usual (a benchmark
+ * regex, {@code -f}, {@code -wi}, {@code -i}, {@code -l}, {@code -lp}, {@code -h}, ...). Unless
+ * {@code -rf}/{@code -rff} are given, {@code -rf json -rff <jar dir>/}{@value #DEFAULT_RESULT_FILE} is
+ * added, so the results are written next to the benchmark jar, i.e. {@code benchmarks/target/},
+ * whatever the working directory, and each run can be archived and compared with the previous ones.
+ */
+public class BenchmarkRunner {
+
+    /** Default name of the results file, written in the directory of the benchmark jar. */
+    public static final String DEFAULT_RESULT_FILE = "jmh-results.json";
+
+    public static void main(String[] args) throws IOException {
+        List<String> jmhArgs = new ArrayList<>();
+        try {
+            CommandLineOptions commandLine = new CommandLineOptions(args);
+            if (!commandLine.getResultFormat().hasValue()) {
+                jmhArgs.addAll(List.of("-rf", "json"));
+            }
+            if (!commandLine.getResult().hasValue()) {
+                jmhArgs.addAll(List.of("-rff", defaultResultPath()));
+            }
+        } catch (CommandLineOptionException e) {
+            // La línea de comandos es inválida: JMH muestra el error y la ayuda
+        }
+        jmhArgs.addAll(Arrays.asList(args));
+        Main.main(jmhArgs.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the default results file: in the directory holding the benchmark jar, or holding the
+     * classes directory when run from an IDE; both are {@code benchmarks/target/}.
+     */
+    static String defaultResultPath() {
+        try {
+            Path location = Path.of(BenchmarkRunner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            return location.getParent().resolve(DEFAULT_RESULT_FILE).toString();
+        } catch (URISyntaxException | RuntimeException e) {
+            // Sin ubicación conocida, se escribe en el directorio de trabajo
+            return DEFAULT_RESULT_FILE;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule checks run for every card on every turn: {@link Card#canBePlayedOver(Card)} and
+ * {@link Player#hasPlayableCard(Card)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+
+    /** Number of card pairs cycled through, so the branch predictor cannot learn a single answer. */
+    private static final int PAIRS = 1024;
+
+    private Card[] cards;
+    private Card[] topCards;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        cards = new Card[PAIRS];
+        topCards = new Card[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            cards[i] = CardCatalog.newCard(random.nextInt(CardCatalog.BASE_CARD_COUNT));
+            topCards[i] = CardCatalog.newCard(random.nextInt(CardCatalog.BASE_CARD_COUNT));
+        }
+    }
+
+    /**
+     * A hand in which no card matches the top card, the worst case: every card is checked.
+     */
+    @State(Scope.Thread)
+    public static class Hand {
+
+        @Param({"7", "30"})
+        public int handSize;
+
+        private Player player;
+        private Card unmatchedTop;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(7);
+            player = new Player("MACHINE_PLAYER");
+            unmatchedTop = new Card(CardCatalog.urlOf(0), "NONE", "NONE");
+            for (int i = 0; i < handSize; i++) {
+                Card card;
+                do {
+                    card = CardCatalog.newCard(random.nextInt(CardCatalog.BASE_CARD_COUNT));
+                } while (card.canBePlayedOver(unmatchedTop));
+                player.addCard(card);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean canBePlayedOver() {
+        int i = next++ & (PAIRS - 1);
+        return cards[i].canBePlayedOver(topCards[i]);
+    }
+
+    @Benchmark
+    public boolean hasPlayableCard(Hand hand) {
+        return hand.player.hasPlayableCard(hand.unmatchedTop);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.exceptions.EmptyDeckException;
+import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole game played headless through {@link GameUno}, from dealing to the first empty hand
+ * (or to an empty deck nobody can play on). Both players follow the machine's rule: play the first
+ * playable card, choose a random color for wild cards, otherwise draw.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    /** Upper bound of turns, in case neither player can finish. */
+    private static final int MAX_TURNS = 1000;
+
+    private final Random random = new Random(42);
+
+    @Setup
+    public void silence() {
+        QuietOutput.enable();
+    }
+
+    @TearDown
+    public void restore() {
+        QuietOutput.disable();
+    }
+
+    @Benchmark
+    public int fullGame() {
+        Player human = new Player("HUMAN_PLAYER");
+        Player machine = new Player("MACHINE_PLAYER");
+        GameUno gameUno = new GameUno(human, machine, new Deck(), new Table());
+        gameUno.startGame();
+
+        Player current = human;
+        int turns = 0;
+        while (turns < MAX_TURNS && !human.getCardsPlayer().isEmpty() && !machine.getCardsPlayer().isEmpty()
+                && !gameUno.isGameOver()) {
+            Player opponent = current == human ? machine : human;
+            if (!playTurn(gameUno, current)) {
+                break;
+            }
+            turns++;
+            // SKIP, REVERSE, +2 y +4 hacen perder el turno al oponente
+            boolean opponentSkipped = opponent == human ? gameUno.isSkipHumanTurn() : gameUno.isSkipMachineTurn();
+            if (opponentSkipped) {
+                if (opponent == human) {
+                    gameUno.clearSkipHumanTurn();
+                } else {
+                    gameUno.clearSkipMachineTurn();
+                }
+            } else {
+                current = opponent;
+            }
+        }
+        return turns;
+    }
+
+    /**
+     * Plays the first playable card of the player, or draws one.
+     *
+     * @return false if the player could neither play nor draw
+     */
+    private boolean playTurn(GameUno gameUno, Player player) {
+        for (Card card : player.getCardsPlayer()) {
+            if (gameUno.canPlay(card)) {
+                try {
+                    gameUno.playCard(card);
+                } catch (InvalidCardPlayException e) {
+                    continue;
+                }
+                if ("WILD".equals(card.getValue()) || "+4".equals(card.getValue())) {
+                    gameUno.chooseColor(CardCatalog.COLORS[random.nextInt(CardCatalog.COLORS.length)]);
+                }
+                return true;
+            }
+        }
+        try {
+            gameUno.drawCard(player);
+            return true;
+        } catch (EmptyDeckException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.effects.CardEffectManager;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single move: {@link GameUno#playCard(Card)} and {@link CardEffectManager#applyCardEffect}.
+ * <p>
+ * A move changes the game (the card leaves the hand, the opponent draws), so every invocation gets
+ * a freshly dealt game. The setup is excluded from the measurement, but JMH has to time each call
+ * separately; use these numbers to compare runs with each other rather than as absolute costs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveBenchmark {
+
+    /** Value of the card played; "5" has no effect, the others go through their effect. */
+    @Param({"5", "+2", "+4", "SKIP", "REVERSE"})
+    public String value;
+
+    private GameUno gameUno;
+    private Player human;
+    private Player machine;
+    private Card card;
+
+    @Setup(Level.Trial)
+    public void silence() {
+        QuietOutput.enable();
+    }
+
+    @TearDown(Level.Trial)
+    public void restore() {
+        QuietOutput.disable();
+    }
+
+    @Setup(Level.Invocation)
+    public void deal() {
+        human = new Player("HUMAN_PLAYER");
+        machine = new Player("MACHINE_PLAYER");
+        Deck deck = new Deck();
+        Table table = new Table();
+        gameUno = new GameUno(human, machine, deck, table);
+        gameUno.startGame();
+        // La carta jugada es roja, igual que la carta en la mesa, así que siempre es válida
+        table.addCardOnTheTable(find("1", "RED"));
+        card = find(value, "+4".equals(value) ? null : "RED");
+        human.addCard(card);
+    }
+
+    @Benchmark
+    public Table playCard() throws InvalidCardPlayException {
+        gameUno.playCard(card);
+        return gameUno.getTable();
+    }
+
+    @Benchmark
+    public Player applyCardEffect() {
+        gameUno.getCardEffectManager().applyCardEffect(gameUno, card, human, machine);
+        return machine;
+    }
+
+    private static Card find(String value, String color) {
+        for (int id = 0; id < CardCatalog.BASE_CARD_COUNT; id++) {
+            if (value.equals(CardCatalog.valueOf(id))
+                    && (color == null || color.equals(CardCatalog.colorOf(id)))) {
+                return CardCatalog.newCard(id);
+            }
+        }
+        throw new IllegalArgumentException("No existe la carta " + value + " " + color);
+    }
+}
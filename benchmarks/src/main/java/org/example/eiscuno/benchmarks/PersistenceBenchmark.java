@@ -0,0 +1,74 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.serializable.BinaryGameStateFileHandler;
+import org.example.eiscuno.model.serializable.GameUnoState;
+import org.example.eiscuno.model.serializable.ISerializableFileHandler;
+import org.example.eiscuno.model.serializable.SerializableFileHandler;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and loading a game in progress, with the Java serialization of {@link SerializableFileHandler}
+ * and with the compact format of {@link BinaryGameStateFileHandler} used by the game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistenceBenchmark {
+
+    @Param({"serializable", "binary"})
+    public String format;
+
+    private ISerializableFileHandler handler;
+    private GameUnoState state;
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+        handler = "binary".equals(format) ? new BinaryGameStateFileHandler() : new SerializableFileHandler();
+        GameUno gameUno = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"), new Deck(), new Table());
+        gameUno.startGame();
+        state = GameUnoState.snapshotOf(gameUno);
+        file = File.createTempFile("eiscuno-bench", ".ser");
+        handler.serialize(file.getPath(), state);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+        new File(file.getPath() + ".tmp").delete();
+        new File(file.getPath() + ".bak").delete();
+    }
+
+    @Benchmark
+    public File save() {
+        handler.serialize(file.getPath(), state);
+        return file;
+    }
+
+    @Benchmark
+    public Object load() {
+        return handler.deserialize(file.getPath());
+    }
+}
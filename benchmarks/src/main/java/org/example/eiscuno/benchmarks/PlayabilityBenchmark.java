@@ -0,0 +1,89 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.card.effects.CardEffectManager;
+import org.example.eiscuno.model.simulation.IPlayabilityKernel;
+import org.example.eiscuno.model.simulation.LockstepSimulator;
+import org.example.eiscuno.model.simulation.PlayabilityKernels;
+import org.example.eiscuno.model.simulation.RuleOptions;
+import org.example.eiscuno.model.simulation.SimulationStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar versus Vector API {@link IPlayabilityKernel}: the kernel alone over a batch of games, and a
+ * whole {@link LockstepSimulator} batch built on it. The fork adds {@code jdk.incubator.vector};
+ * {@code kernel=vector} falls back to the scalar kernel if the module is missing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class PlayabilityBenchmark {
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    @Param({"4096"})
+    public int games;
+
+    private IPlayabilityKernel playability;
+    private long[] hands;
+    private int[] matchIndex;
+    private long[] matchMasks;
+    private long[] playable;
+
+    private LockstepSimulator simulator;
+    private long[] seeds;
+
+    @Setup
+    public void setUp() {
+        playability = "vector".equals(kernel) && PlayabilityKernels.vector() != null
+                ? PlayabilityKernels.vector() : PlayabilityKernels.SCALAR;
+        SplittableRandom random = new SplittableRandom(42);
+        hands = new long[games];
+        matchIndex = new int[games];
+        matchMasks = new long[4 * 15];
+        playable = new long[games];
+        for (int i = 0; i < matchMasks.length; i++) {
+            matchMasks[i] = random.nextLong();
+        }
+        for (int g = 0; g < games; g++) {
+            hands[g] = random.nextLong();
+            matchIndex[g] = random.nextInt(matchMasks.length);
+        }
+
+        simulator = new LockstepSimulator(games, LockstepSimulator.Policy.FIRST, LockstepSimulator.Policy.FIRST,
+                RuleOptions.DEFAULT, new CardEffectManager(), playability);
+        seeds = new long[games];
+        for (int g = 0; g < games; g++) {
+            seeds[g] = g;
+        }
+    }
+
+    @Benchmark
+    public long[] playableMasks() {
+        playability.playableMasks(hands, matchIndex, matchMasks, playable, games);
+        return playable;
+    }
+
+    @Benchmark
+    public SimulationStats lockstepBatch() {
+        SimulationStats stats = new SimulationStats();
+        simulator.playBatch(seeds, games, stats);
+        return stats;
+    }
+}
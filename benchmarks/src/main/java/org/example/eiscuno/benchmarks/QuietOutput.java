@@ -0,0 +1,34 @@
+package org.example.eiscuno.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Silences {@code System.out} while a benchmark runs.
+ * <p>
+ * The card effects and the game log every move to the console; in a benchmark that would measure
+ * the terminal instead of the game. JMH reports its results through its own channel, so replacing
+ * {@code System.out} in the forked benchmark VM does not hide them.
+ */
+final class QuietOutput {
+
+    private static final PrintStream NULL = new PrintStream(OutputStream.nullOutputStream());
+    private static PrintStream original;
+
+    private QuietOutput() {
+    }
+
+    static synchronized void enable() {
+        if (original == null) {
+            original = System.out;
+            System.setOut(NULL);
+        }
+    }
+
+    static synchronized void disable() {
+        if (original != null) {
+            System.setOut(original);
+            original = null;
+        }
+    }
+}
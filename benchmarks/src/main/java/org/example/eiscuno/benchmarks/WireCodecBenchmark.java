@@ -0,0 +1,106 @@
+package org.example.eiscuno.benchmarks;
+
+import org.example.eiscuno.model.server.IWireHandler;
+import org.example.eiscuno.model.server.WireCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of one move of a remote game: the client's PLAY command and the server's answer (the two
+ * cards moved and the resulting state), encoded and decoded with the binary frames of {@link WireCodec}
+ * in a direct buffer, and with the text protocol of the game server for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WireCodecBenchmark {
+
+    private static final int[] HAND = {3, 17, 28, 40, 52, 9, 33};
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private final CountingHandler handler = new CountingHandler();
+    private final StringBuilder text = new StringBuilder(128);
+
+    @Setup
+    public void setUp() {
+        buffer.clear();
+    }
+
+    @Benchmark
+    public int binary() {
+        buffer.clear();
+        WireCodec.putPlayCard(buffer, 12);
+        WireCodec.putCardPlayed(buffer, WireCodec.SEAT_HUMAN, 12, HAND.length);
+        WireCodec.putCardPlayed(buffer, WireCodec.SEAT_MACHINE, 14, 4);
+        WireCodec.putState(buffer, 14, 80, 4, HAND, HAND.length);
+        buffer.flip();
+        handler.sum = 0;
+        WireCodec.decode(buffer, handler);
+        return handler.sum;
+    }
+
+    @Benchmark
+    public int text() {
+        text.setLength(0);
+        text.append("PLAY ").append(2).append('\n');
+        text.append("OK top=").append(14).append(" hand=");
+        for (int i = 0; i < HAND.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(HAND[i]);
+        }
+        text.append(" machine=").append(4).append(" deck=").append(80).append('\n');
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+
+        int sum = 0;
+        for (String line : new String(bytes, StandardCharsets.UTF_8).split("\n")) {
+            for (String field : line.split(" ")) {
+                int equals = field.indexOf('=');
+                if (equals < 0) {
+                    continue;
+                }
+                for (String value : field.substring(equals + 1).split(",")) {
+                    sum += Integer.parseInt(value);
+                }
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Adds up the fields it receives, so that the decoding cannot be optimized away.
+     */
+    private static final class CountingHandler implements IWireHandler {
+        int sum;
+
+        @Override
+        public void onPlayCard(int cardId) { sum += cardId; }
+
+        @Override
+        public void onCardPlayed(int seat, int cardId, int cardsLeft) { sum += cardId + cardsLeft; }
+
+        @Override
+        public void onState(int topCardId, int deckSize, int machineCards, int handCount) {
+            sum += topCardId + deckSize + machineCards;
+        }
+
+        @Override
+        public void onHandCard(int index, int cardId) { sum += cardId; }
+    }
+}
@@ -0,0 +1,261 @@
+package org.example.eiscuno.tools;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build-time tool that packs every card PNG into a single atlas image plus a text index.
+ * <p>
+ * It lives in {@code src/build/java}, outside the application module, and Maven runs it from source
+ * (the single-file launcher of {@code java}) in the {@code process-classes} phase over the copied
+ * resources, so it is never part of the application jar:
+ * <pre>
+ *  java CardAtlasGenerator.java &lt;classes directory&gt; &lt;resource directory&gt; &lt;atlas&gt;[=&lt;width&gt;x&lt;height&gt;]...
+ * </pre>
+ * It reads every {@code *.png} of the resource directory and writes, next to them, the image and
+ * index of every named atlas; the images of an atlas with a size are first resampled to it.
+ * The names and sizes must match the {@code CardAtlas} constants of the application.
+ * Images are placed on shelves with a one-pixel transparent gutter (so smooth scaling never samples
+ * a neighbor card), choosing the number of columns that gives the smallest atlas.
+ * <p>
+ * Images are read and written with {@link ImageIO}; the application itself does not need the
+ * {@code java.desktop} module, since only this tool uses it.
+ */
+public final class CardAtlasGenerator {
+
+    /** Maximum width of the atlas; the height is kept under twice this value. */
+    private static final int MAX_WIDTH = 1024;
+    /** Transparent pixels around each card. */
+    private static final int GUTTER = 1;
+
+    private CardAtlasGenerator() {
+    }
+
+    /**
+     * Generates the atlas.
+     *
+     * @param args the classes directory holding the copied resources
+     * @throws IOException if a card image cannot be read or the atlas cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException(
+                    "Uso: CardAtlasGenerator <directorio de clases> <directorio de recursos> <atlas>[=<ancho>x<alto>]...");
+        }
+        Path classes = Path.of(args[0]);
+        String resourceDirectory = args[1];
+        Path cardsDirectory = classes.resolve(resourceDirectory.substring(1));
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cardsDirectory, "*.png")) {
+            for (Path file : stream) {
+                if (!file.getFileName().toString().startsWith("atlas")) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(null);
+
+        List<Picture> pictures = new ArrayList<>();
+        for (Path file : files) {
+            pictures.add(decode(file));
+        }
+
+        for (int i = 2; i < args.length; i++) {
+            String[] spec = args[i].split("[=x]");
+            List<Picture> variant = pictures;
+            if (spec.length == 3) {
+                int width = Integer.parseInt(spec[1]);
+                int height = Integer.parseInt(spec[2]);
+                variant = new ArrayList<>();
+                for (Picture picture : pictures) {
+                    variant.add(resample(picture, width, height));
+                }
+            } else if (spec.length != 1) {
+                throw new IllegalArgumentException("Atlas inválido: " + args[i]);
+            }
+            writeAtlas(cardsDirectory, resourceDirectory, spec[0], variant);
+        }
+    }
+
+    /**
+     * Packs the pictures and writes the atlas image and index.
+     */
+    private static void writeAtlas(Path cardsDirectory, String resourceDirectory, String name,
+                                   List<Picture> pictures) throws IOException {
+        // Se prueba cada número de columnas y se queda el empaquetado de menor área,
+        // y a igual área el más cuadrado, sin pasar del tamaño máximo de textura
+        Layout layout = null;
+        int maxCellWidth = 0;
+        long sourceBytes = 0;
+        for (Picture picture : pictures) {
+            maxCellWidth = Math.max(maxCellWidth, picture.width + 2 * GUTTER);
+            sourceBytes += 4L * picture.width * picture.height;
+        }
+        for (int columns = 1; columns <= pictures.size() && columns * maxCellWidth <= MAX_WIDTH; columns++) {
+            Layout candidate = pack(pictures, columns * maxCellWidth);
+            if (candidate.height > MAX_WIDTH * 2) {
+                continue;
+            }
+            if (layout == null || candidate.area() < layout.area()
+                    || (candidate.area() == layout.area() && candidate.longestSide() < layout.longestSide())) {
+                layout = candidate;
+            }
+        }
+        if (layout == null) {
+            throw new IOException("Las cartas no caben en un atlas de " + MAX_WIDTH + "x" + 2 * MAX_WIDTH + " px");
+        }
+        int width = layout.width;
+        int height = layout.height;
+        List<int[]> positions = layout.positions;
+
+        StringBuilder index = new StringBuilder();
+        for (int i = 0; i < pictures.size(); i++) {
+            Picture picture = pictures.get(i);
+            int[] position = positions.get(i);
+            index.append(resourceDirectory).append(picture.name).append(' ')
+                    .append(position[0]).append(' ').append(position[1]).append(' ')
+                    .append(picture.width).append(' ').append(picture.height).append('\n');
+        }
+
+        int[] atlas = new int[width * height];
+        for (int i = 0; i < pictures.size(); i++) {
+            Picture picture = pictures.get(i);
+            int[] position = positions.get(i);
+            for (int row = 0; row < picture.height; row++) {
+                System.arraycopy(picture.argb, row * picture.width,
+                        atlas, (position[1] + row) * width + position[0], picture.width);
+            }
+        }
+
+        encode(cardsDirectory.resolve(name + ".png"), width, height, atlas);
+        Files.writeString(cardsDirectory.resolve(name + ".index"), index, StandardCharsets.UTF_8);
+        // Memoria de la imagen decodificada (4 bytes por píxel) frente a decodificar cada carta por separado
+        System.out.printf("Atlas %s%s.png: %d imágenes en %dx%d, %d KB decodificado (%d KB por separado)%n",
+                resourceDirectory, name, pictures.size(), width, height,
+                4L * width * height / 1024, sourceBytes / 1024);
+    }
+
+    /**
+     * Resamples a picture to the given size with an area-averaging filter on premultiplied alpha,
+     * so transparent edges do not darken.
+     */
+    private static Picture resample(Picture source, int width, int height) {
+        int[] argb = new int[width * height];
+        double scaleX = (double) source.width / width;
+        double scaleY = (double) source.height / height;
+        for (int y = 0; y < height; y++) {
+            double top = y * scaleY;
+            double bottom = top + scaleY;
+            for (int x = 0; x < width; x++) {
+                double left = x * scaleX;
+                double right = left + scaleX;
+                double a = 0, r = 0, g = 0, b = 0, total = 0;
+                for (int sy = (int) top; sy < Math.min(source.height, Math.ceil(bottom)); sy++) {
+                    double coverY = Math.min(bottom, sy + 1) - Math.max(top, sy);
+                    for (int sx = (int) left; sx < Math.min(source.width, Math.ceil(right)); sx++) {
+                        double cover = coverY * (Math.min(right, sx + 1) - Math.max(left, sx));
+                        int pixel = source.argb[sy * source.width + sx];
+                        double alpha = (pixel >>> 24) / 255.0;
+                        a += cover * alpha;
+                        r += cover * alpha * ((pixel >>> 16) & 0xFF);
+                        g += cover * alpha * ((pixel >>> 8) & 0xFF);
+                        b += cover * alpha * (pixel & 0xFF);
+                        total += cover;
+                    }
+                }
+                int outAlpha = (int) Math.round(a / total * 255);
+                if (outAlpha == 0) {
+                    continue;
+                }
+                argb[y * width + x] = outAlpha << 24
+                        | (int) Math.round(r / a) << 16 | (int) Math.round(g / a) << 8 | (int) Math.round(b / a);
+            }
+        }
+        return new Picture(source.name, width, height, argb);
+    }
+
+    /**
+     * Places the pictures, in order, on shelves no wider than {@code maxWidth}.
+     */
+    private static Layout pack(List<Picture> pictures, int maxWidth) {
+        Layout layout = new Layout();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (Picture picture : pictures) {
+            int cellWidth = picture.width + 2 * GUTTER;
+            if (x + cellWidth > maxWidth && x > 0) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            layout.positions.add(new int[]{x + GUTTER, y + GUTTER});
+            x += cellWidth;
+            layout.width = Math.max(layout.width, x);
+            shelfHeight = Math.max(shelfHeight, picture.height + 2 * GUTTER);
+        }
+        layout.height = y + shelfHeight;
+        return layout;
+    }
+
+    /**
+     * Position of every picture in the atlas, and the atlas size.
+     */
+    private static final class Layout {
+        private final List<int[]> positions = new ArrayList<>();
+        private int width;
+        private int height;
+
+        private long area() {
+            return (long) width * height;
+        }
+
+        private int longestSide() {
+            return Math.max(width, height);
+        }
+    }
+
+    /**
+     * A decoded image as non-premultiplied ARGB pixels.
+     */
+    private static final class Picture {
+        private final String name;
+        private final int width;
+        private final int height;
+        private final int[] argb;
+
+        private Picture(String name, int width, int height, int[] argb) {
+            this.name = name;
+            this.width = width;
+            this.height = height;
+            this.argb = argb;
+        }
+    }
+
+    private static Picture decode(Path file) throws IOException {
+        BufferedImage image = ImageIO.read(file.toFile());
+        if (image == null) {
+            throw new IOException(file + " no es una imagen soportada");
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+        return new Picture(file.getFileName().toString(), width, height, argb);
+    }
+
+    private static void encode(Path file, int width, int height, int[] argb) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, argb, 0, width);
+        if (!ImageIO.write(image, "png", file.toFile())) {
+            throw new IOException("No hay codificador PNG disponible");
+        }
+    }
+}
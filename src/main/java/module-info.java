@@ -2,10 +2,18 @@ module org.example.eiscuno {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires java.management;
+    requires jdk.jfr;
+    // Opcional: solo para el kernel vectorial de la simulación (--add-modules jdk.incubator.vector)
+    requires static jdk.incubator.vector;
     //requires org.junit.jupiter.api;
 
 
     opens org.example.eiscuno to javafx.fxml;
     opens org.example.eiscuno.controller to javafx.fxml;
     exports org.example.eiscuno;
+    // Las métricas se exponen como MBeans estándar, que JMX lee por reflexión
+    exports org.example.eiscuno.model.metrics to java.management;
+    // Eventos propios de Flight Recorder (-XX:StartFlightRecording)
+    exports org.example.eiscuno.model.metrics.events to jdk.jfr;
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.example.eiscuno;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import org.example.eiscuno.model.metrics.MetricsRegistry;
 import org.example.eiscuno.view.GameUnoStage;
 import org.example.eiscuno.view.WelcomeStage;
 
@@ -29,6 +30,8 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
+        // Métricas visibles con jconsole o jcmd mientras la aplicación corre
+        MetricsRegistry.getInstance().exposeJmx();
         WelcomeStage.getInstance();
     }
 }
\ No newline at end of file
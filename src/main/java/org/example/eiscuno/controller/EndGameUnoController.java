@@ -52,11 +52,10 @@ public class EndGameUnoController {
     }
 
     /**
-     * Initializes the controller. This method is automatically called after
-     * the FXML components are loaded. It applies animations to UI elements.
+     * Plays the entrance animations of the result and the buttons.
+     * Called each time the end-game screen is shown, since the screen is reused across games.
      */
-    @FXML
-    private void initialize() {
+    public void playEntranceAnimations() {
         applyFadeEffect(resultLabel);
         applyTranslateEffect(playAgainButton, 0);
         applyTranslateEffect(exitButton, 0.2);
@@ -64,7 +63,7 @@ public class EndGameUnoController {
 
     /**
      * Handles the action when the user clicks the "Play Again" button.
-     * It closes the current window, resets the game state, and returns
+     * It hides the current window (kept for the next game), resets the game state, and returns
      * the user to the welcome screen.
      * If the welcome screen cannot be loaded, throw IOException.
      */
@@ -82,7 +81,7 @@ public class EndGameUnoController {
 
     /**
      * Handles the action when the user clicks the "Exit" button.
-     * It simply closes the current window.
+     * It simply closes (hides) the current window.
      */
     @FXML
     private void handleExit() {
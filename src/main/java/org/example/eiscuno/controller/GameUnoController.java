@@ -2,21 +2,18 @@ package org.example.eiscuno.controller;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
-import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ChoiceDialog;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
@@ -26,22 +23,37 @@ import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.exceptions.EmptyDeckException;
 import org.example.eiscuno.model.exceptions.IllegalGameStateException;
 import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameStatus;
 import org.example.eiscuno.model.game.GameUno;
 import org.example.eiscuno.model.game.IGameEventListener;
 import org.example.eiscuno.model.game.ThreadCheckGameOver;
+import org.example.eiscuno.model.logging.GameLog;
 import org.example.eiscuno.model.machine.ThreadPlayMachine;
 import org.example.eiscuno.model.machine.ThreadSingUNOMachine;
+import org.example.eiscuno.model.metrics.FxTasks;
+import org.example.eiscuno.model.metrics.GameMetrics;
+import org.example.eiscuno.model.metrics.MetricsRegistry;
+import org.example.eiscuno.model.metrics.events.GameLoadEvent;
+import org.example.eiscuno.model.metrics.events.GameSaveEvent;
+import org.example.eiscuno.model.metrics.events.HandRefreshEvent;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.serializable.AutoSaveService;
 import org.example.eiscuno.model.serializable.GameUnoState;
-import org.example.eiscuno.model.serializable.SerializableFileHandler;
+import org.example.eiscuno.model.serializable.MoveJournal;
+import org.example.eiscuno.model.serializable.BinaryGameStateFileHandler;
 import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.view.CanvasTableRenderer;
+import org.example.eiscuno.view.CardBackPool;
+import org.example.eiscuno.view.EndGameStage;
+import org.example.eiscuno.view.FxPerformanceMonitor;
+import org.example.eiscuno.view.HandRenderer;
+import org.example.eiscuno.view.NotificationQueue;
 import org.example.eiscuno.view.WelcomeStage;
 import org.example.eiscuno.model.planeTextFiles.PlaneTextFileHandler;
 import java.io.File;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -49,12 +61,36 @@ import java.util.Optional;
  */
 public class GameUnoController implements IGameEventListener {
 
+    /** True when the table is drawn on a canvas instead of one node per card ({@code -Deiscuno.renderer=canvas}). */
+    private static final boolean CANVAS_RENDERER = "canvas".equalsIgnoreCase(System.getProperty("eiscuno.renderer"));
+
+    @FXML
+    private AnchorPane rootPane;
+
     @FXML
     private GridPane gridPaneCardsMachine;
 
     @FXML
     private GridPane gridPaneCardsPlayer;
 
+    @FXML
+    private VBox notificationBox;
+
+    /** Non-modal messages shown over the game instead of blocking alerts. */
+    private NotificationQueue notifications;
+
+    /** Reusable card-back nodes that show the hidden machine hand. */
+    private CardBackPool machineCardBacks;
+
+    /** Applies only the changes between two renders of the visible human cards. */
+    private HandRenderer handRenderer;
+
+    /** Draws the whole table on one canvas when {@link #CANVAS_RENDERER} is enabled, otherwise null. */
+    private CanvasTableRenderer tableRenderer;
+
+    /** Current fill of the color indicator, also drawn by the canvas renderer. */
+    private Color indicatorFill = Color.GRAY;
+
     @FXML
     private ImageView tableImageView;
 
@@ -97,23 +133,71 @@ public class GameUnoController implements IGameEventListener {
 
     private PlaneTextFileHandler planeTextFileHandler;
 
+    /** File where the game state is saved. */
+    private static final String SAVE_FILE = "GameUnoState.ser";
+
+    /** File where the moves made since the last snapshot are appended. */
+    private static final String JOURNAL_FILE = "GameUnoState.journal";
+
+    /** Background writer that persists the newest game snapshot off the JavaFX thread. */
+    private AutoSaveService autoSaveService;
+
+    /** Append-only record of every move, compacted into periodic snapshots. */
+    private MoveJournal moveJournal;
+
+    /** Journal generation of the snapshot the game was resumed from, or 0 for a new game. */
+    private long resumedJournalGeneration;
+
     /**
-     * Initializes the game scene and its components. It checks whether a game is being continued,
+     * Builds the parts of the game scene that do not depend on the game: the hand renderer and the
+     * card-back pool, or the canvas renderer. Called by the FXMLLoader, possibly on a background thread
+     * while the welcome screen is shown, so it must not start the game or touch any shown window.
+     */
+    @FXML
+    public void initialize() {
+        handRenderer = new HandRenderer(gridPaneCardsPlayer, this::onHumanCardClicked);
+        machineCardBacks = new CardBackPool(gridPaneCardsMachine, 4);
+        if (CANVAS_RENDERER) {
+            // El lienzo va detrás del tablero (índice 1, sobre el fondo) y reemplaza los nodos de cartas
+            tableRenderer = new CanvasTableRenderer(this::onHumanCardClicked);
+            tableRenderer.attachTo(rootPane, 1);
+            gridPaneCardsPlayer.setVisible(false);
+            gridPaneCardsMachine.setVisible(false);
+            tableImageView.setVisible(false);
+            colorIndicatorBox.setVisible(false);
+        }
+    }
+
+    /**
+     * Passes the current game state to the canvas renderer, which redraws only what changed.
+     * Does nothing when the table is rendered with nodes.
+     */
+    private void refreshTableCanvas() {
+        if (tableRenderer == null || gameUno == null) {
+            return;
+        }
+        Card topCard = table.getCardsTable().isEmpty() ? null : table.getCurrentCardOnTheTable();
+        tableRenderer.update(humanPlayer.getCardsPlayer(), machinePlayer.getCardsPlayer().size(), topCard, indicatorFill);
+    }
+
+    /**
+     * Starts the game once the scene is about to be shown. It checks whether a game is being continued,
      * sets up visual elements like the table card image and color indicator, and starts necessary
      * background threads for gameplay logic such as checking for "UNO", machine plays, and game over conditions.
      *
      * This method also loads and displays the cards of both players, sets up the game state,
-     * and starts a new game if not continuing a previous one.
+     * and starts a new game if not continuing a previous one. Must be called on the JavaFX Application Thread.
      */
-    @FXML
-    public void initialize() {
+    public void beginGame() {
         boolean isContinuingGame = false;
+        autoSaveService = new AutoSaveService(new BinaryGameStateFileHandler(), SAVE_FILE);
+        notifications = new NotificationQueue(notificationBox);
 
         try {
             isContinuingGame = WelcomeStage.getInstance().getWelcomeController().isOnContinue();
             planeTextFileHandler = new PlaneTextFileHandler();
         } catch (IOException e) {
-            System.out.println("Error con apartado visual." + e.getMessage());
+            GameLog.error("Error con apartado visual. {}", e.getMessage());
             isContinuingGame = false;
         }
 
@@ -125,11 +209,16 @@ public class GameUnoController implements IGameEventListener {
             this.gameUno.startGame();
         }
 
+        // A partir de aquí cada jugada se agrega al diario en lugar de reescribir la partida
+        moveJournal = new MoveJournal(JOURNAL_FILE, autoSaveService);
+        moveJournal.start(gameUno, resumedJournalGeneration);
+        gameUno.setMoveListener(moveJournal);
+
         // Mostramos la carta inicial en la mesa
         Card topCard = table.getCurrentCardOnTheTable();
         if(topCard != null) {
             //se inicia el rectangulo indicador
-            tableImageView.setImage(topCard.getImage());
+            topCard.showIn(tableImageView);
             colorIndicator = new Rectangle(50, 50);
             colorIndicator.setArcWidth(10);
             colorIndicator.setArcHeight(10);
@@ -137,12 +226,11 @@ public class GameUnoController implements IGameEventListener {
             colorIndicator.setStroke(Color.BLACK);
             colorIndicator.setStrokeWidth(1.5);
             colorIndicatorBox.getChildren().add(colorIndicator);
-            updateColorIndicator(topCard.getColor());
-            updateCardCounter();
-            turnLabel.setVisible(false);
-
         }
 
+        bindHud();
+        registerGauges();
+
         printCardsHumanPlayer();
         printCardsMachinePlayer();
 
@@ -187,118 +275,110 @@ public class GameUnoController implements IGameEventListener {
     }
 
     /**
-     * Displays the current visible cards of the human player in the grid pane. Clears any existing cards,
-     * updates the card counter, and sets mouse click events for playing a card.
+     * Displays the current visible cards of the human player in the grid pane and updates the card counter.
+     * Only the cards that entered, left or moved within the visible window are changed in the grid,
+     * through the {@link HandRenderer}; each card keeps its node and click handler while it is visible.
      *
      * If the human player is skipped due to a SKIP or REVERSE card, their turn is skipped,
      * the skip flag is cleared, and the machine's turn is triggered.
      *
-     * When a card is clicked, the method checks if the play is valid. If so, it updates the game state,
-     * shows the played card on the table, handles special cards (like WILD), and saves the game.
-     *
      * If the game is not over, it continues checking for a possible UNO declaration.
      */
     private void printCardsHumanPlayer() {
-        this.gridPaneCardsPlayer.getChildren().clear();
-        Card[] currentVisibleCardsHumanPlayer = this.gameUno.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow);
-        updateCardCounter();
-        // Verificamos si se pierde turno antes de mostrar las cartas
+        long start = System.nanoTime();
+        HandRefreshEvent event = new HandRefreshEvent();
+        event.begin();
+        try {
+            Card[] currentVisibleCardsHumanPlayer = this.gameUno.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow);
+            refreshTableCanvas();
+            // Verificamos si se pierde turno antes de mostrar las cartas
+            if (gameUno.isSkipHumanTurn()) {
+                GameLog.debug("Pierdes el turno por SKIP o REVERSE");
+                handRenderer.clear();
+                gameUno.clearSkipHumanTurn();
+                threadPlayMachine.setHasPlayerPlayed(true);
+                return;
+            }
+
+            handRenderer.render(currentVisibleCardsHumanPlayer);
+            // Creo q no es totalmente necesaria
+            if (!gameUno.isGameOver()) {
+                checkUnoOpportunity();
+            }
+        } finally {
+            GameMetrics.UI_REFRESH.recordSince(start);
+            event.hand = "human";
+            event.cards = humanPlayer.getCardCount();
+            event.commit();
+        }
+    }
+
+    /**
+     * Handles a click on one of the human player's cards.
+     *
+     * Checks if the play is valid. If so, it updates the game state, shows the played card on the table
+     * and handles special cards (like WILD); the move itself is persisted by the move journal.
+     *
+     * @param card the clicked card
+     */
+    private void onHumanCardClicked(Card card) {
         if (gameUno.isSkipHumanTurn()) {
-            System.out.println("Pierdes el turno por SKIP o REVERSE");
-            gameUno.clearSkipHumanTurn();
-            threadPlayMachine.setHasPlayerPlayed(true);
+            GameLog.debug("Pierdes el turno, no puedes jugar.");
             return;
         }
 
-        for (int i = 0; i < currentVisibleCardsHumanPlayer.length; i++) {
-            Card card = currentVisibleCardsHumanPlayer[i];
-            ImageView cardImageView = card.getCard();
+        if (gameUno.canPlay(card)) {
+            try {
+                gameUno.playCard(card);
+                card.showIn(tableImageView);
 
-            cardImageView.setOnMouseClicked((MouseEvent event) -> {
-                if (gameUno.isSkipHumanTurn()) {
-                    System.out.println("Pierdes el turno, no puedes jugar.");
-                    return;
+                if ("WILD".equals(card.getValue()) || "+4".equals(card.getValue())) {
+                    handleWildCard();
                 }
 
-                if (gameUno.canPlay(card)) {
-                    try {
-                        gameUno.playCard(card);
-                        tableImageView.setImage(card.getImage());
-                        updateColorIndicator(card.getColor());
-                        updateCardCounter();
-                        humanPlayer.removeCard(findPosCardsHumanPlayer(card));
-                        saveGameState();
-
-                        if ("WILD".equals(card.getValue()) || "+4".equals(card.getValue())) {
-                            handleWildCard();
-                        }
-
-                        if (!gameUno.isGameOver()) {
-                            checkUnoOpportunity();
-                        }
-
-                        threadPlayMachine.setHasPlayerPlayed(true);
-                        printCardsHumanPlayer();
-
-                    } catch (IllegalGameStateException e) {
-                        System.out.println("Error: " + e.getMessage());
-                        Platform.runLater(() -> {
-                            Alert alert = new Alert(Alert.AlertType.ERROR);
-                            alert.setTitle("Estado inválido del juego");
-                            alert.setHeaderText(null);
-                            alert.setContentText("No se puede jugar: " + e.getMessage());
-                            alert.showAndWait();
-                        });
-                    }
-                    catch (InvalidCardPlayException e) {
-                        System.out.println("Jugada inválida: " + e.getMessage());
-                        Platform.runLater(() -> {
-                            Alert alert = new Alert(Alert.AlertType.WARNING);
-                            alert.setTitle("Jugada no permitida");
-                            alert.setHeaderText(null);
-                            alert.setContentText("No puedes jugar esa carta: " + e.getMessage());
-                            alert.showAndWait();
-                        });
-                    }
-                } else {
-                    System.out.println("No puedes jugar esta carta: " + card.getValue() + " - " + card.getColor());
+                if (!gameUno.isGameOver()) {
+                    checkUnoOpportunity();
                 }
-            });
 
-            this.gridPaneCardsPlayer.add(cardImageView, i, 0);
-        }
-        // Creo q no es totalmente necesaria
-        if (!gameUno.isGameOver()) {
-            checkUnoOpportunity();
+                threadPlayMachine.setHasPlayerPlayed(true);
+                printCardsHumanPlayer();
+
+            } catch (IllegalGameStateException e) {
+                GameLog.error("Error: {}", e.getMessage());
+                notifications.error("Estado inválido del juego", "No se puede jugar: " + e.getMessage());
+            }
+            catch (InvalidCardPlayException e) {
+                GameLog.warn("Jugada inválida: {}", e.getMessage());
+                notifications.warning("Jugada no permitida", "No puedes jugar esa carta: " + e.getMessage());
+            }
+        } else {
+            GameLog.debug("No puedes jugar esta carta: {} - {}", card.getValue(), card.getColor());
         }
     }
 
     /**
      * Displays a limited number of the machine player's cards in the grid pane.
-     * Clears the previous cards, updates the card counter, and shows up to 4 card backs
-     * starting from the current position.
+     * Shows up to 4 card backs starting from the current position.
+     * The card backs come from a {@link CardBackPool}, so refreshing only changes which of them are visible.
      *
      * This method does not reveal the actual cards of the machine player to simulate
      * the hidden nature of opponent hands in a typical UNO game.
      */
     public void printCardsMachinePlayer() {
-        gridPaneCardsMachine.getChildren().clear();
-        updateCardCounter();
-        List<Card> machineCards = gameUno.getMachinePlayer().getCardsPlayer();
-        int totalCards = machineCards.size();
+        long start = System.nanoTime();
+        HandRefreshEvent event = new HandRefreshEvent();
+        event.begin();
+        int totalCards = gameUno.getMachinePlayer().getCardsPlayer().size();
 
         // Mostramos máximo 4 cartas desde la posición inicial, la idea es visualizar cuando
         // a la máquina le quede una, más no ver el total de cartas de ella, así es más parecido
         // a el juego del UNO normal
-        int cardsToShow = Math.min(4, totalCards - posInitMachineCardToShow);
-
-        for (int i = 0; i < cardsToShow; i++) {
-            ImageView cardBack = new ImageView(new Image(getClass().getResource("/org/example/eiscuno/cards-uno/card_uno.png").toExternalForm()));
-            cardBack.setFitWidth(70);
-            cardBack.setPreserveRatio(true);
-
-            gridPaneCardsMachine.add(cardBack, i, 0);
-        }
+        machineCardBacks.show(totalCards - posInitMachineCardToShow);
+        refreshTableCanvas();
+        GameMetrics.UI_REFRESH.recordSince(start);
+        event.hand = "machine";
+        event.cards = totalCards;
+        event.commit();
     }
 
     @Override
@@ -311,22 +391,22 @@ public class GameUnoController implements IGameEventListener {
         printCardsMachinePlayer();
     }
 
+    @Override
+    public void onGameMessage(String title, String message) {
+        notifications.info(title, message);
+    }
 
     /**
-     * Finds the position (index) of a given card in the human player's hand.
+     * Returns the queue of non-modal notifications shown over the game.
+     * Its methods can be called from any thread.
      *
-     * @param card The card to search for.
-     * @return The index of the card if found, or -1 if the card is not in the hand.
+     * @return the notification queue
      */
-    private Integer findPosCardsHumanPlayer(Card card) {
-        for (int i = 0; i < this.humanPlayer.getCardsPlayer().size(); i++) {
-            if (this.humanPlayer.getCardsPlayer().get(i).equals(card)) {
-                return i;
-            }
-        }
-        return -1;
+    public NotificationQueue getNotifications() {
+        return notifications;
     }
 
+
     /**
      * Handles the "Back" button action to show the previous set of cards.
      *
@@ -337,8 +417,6 @@ public class GameUnoController implements IGameEventListener {
         if (this.posInitCardToShow > 0) {
             this.posInitCardToShow--;
             printCardsHumanPlayer();
-            updateCardCounter();
-
         }
     }
 
@@ -359,7 +437,7 @@ public class GameUnoController implements IGameEventListener {
      * Handles the action of drawing a card from the deck when the player clicks the "Take Card" button.
      *
      * Validates that the game and player are properly initialized. Checks if the deck is empty and shows
-     * a warning if no cards are available. Otherwise, draws a card, saves the game state, and updates the UI.
+     * a warning if no cards are available. Otherwise, draws a card (persisted by the move journal) and updates the UI.
      * If the drawn card is playable, informs the player.
      *
      * @param event The ActionEvent triggered by clicking the take card button.
@@ -368,65 +446,38 @@ public class GameUnoController implements IGameEventListener {
     void onHandleTakeCard(ActionEvent event) {
         try {
             if (gameUno == null || humanPlayer == null) {
-                System.out.println("Juego no iniciado correctamente.");
+                GameLog.warn("Juego no iniciado correctamente.");
                 return;
             }
 
             // Verificamos si el mazo está vacío antes de intentar robar
             if (gameUno.isDeckEmpty()) {
-                buttonTakeCard.setDisable(true);
-                Platform.runLater(() -> {
-                    Alert alert = new Alert(Alert.AlertType.WARNING);
-                    alert.setTitle("Mazo Vacío");
-                    alert.setHeaderText(null);
-                    alert.setContentText("No hay más cartas disponibles en el mazo");
-                    alert.showAndWait();
-                });
+                notifications.warning("Mazo Vacío", "No hay más cartas disponibles en el mazo");
                 return;
             }
 
             Card card = gameUno.drawCard(humanPlayer);
-            saveGameState();
-            System.out.println("Robaste: " + card.getValue() + " " + card.getColor());
+            GameLog.debug("Robaste: {} {}", card.getValue(), card.getColor());
 
             if (gameUno.canPlay(card)) {
-                System.out.println("¡Puedes jugar la carta robada!");
+                GameLog.debug("¡Puedes jugar la carta robada!");
             }
 
             threadPlayMachine.setHasPlayerPlayed(true);
             printCardsHumanPlayer();
 
         } catch (EmptyDeckException e) {
-            // Manejo específico cuando el mazo está vacío - Desactivamos botón
-            System.out.println("🚨 " + e.getMessage());
-            buttonTakeCard.setDisable(true);
-
-            Platform.runLater(() -> {
-                Alert alert = new Alert(Alert.AlertType.WARNING);
-                alert.setTitle("Mazo Vacío");
-                alert.setHeaderText(null);
-                alert.setContentText("No hay más cartas disponibles en el mazo");
-                alert.showAndWait();
-            });
+            // Manejo específico cuando el mazo está vacío; el botón se desactiva por el tamaño del mazo
+            GameLog.warn("🚨 {}", e.getMessage());
+
+            notifications.warning("Mazo Vacío", "No hay más cartas disponibles en el mazo");
 
         } catch (IllegalGameStateException e) {
-            System.out.println(e.getMessage());
-            Platform.runLater(() -> {
-                Alert alert = new Alert(Alert.AlertType.ERROR);
-                alert.setTitle("Estado inválido del juego");
-                alert.setHeaderText(null);
-                alert.setContentText(e.getMessage());
-                alert.showAndWait();
-            });
+            GameLog.warn("{}", e.getMessage());
+            notifications.error("Estado inválido del juego", e.getMessage());
         } catch (Exception e) {
-            System.err.println("Error inesperado al robar carta: " + e.getMessage());
-            Platform.runLater(() -> {
-                Alert alert = new Alert(Alert.AlertType.ERROR);
-                alert.setTitle("Error");
-                alert.setHeaderText(null);
-                alert.setContentText("Error inesperado: " + e.getMessage());
-                alert.showAndWait();
-            });
+            GameLog.error("Error inesperado al robar carta: {}", e.getMessage());
+            notifications.error("Error", "Error inesperado: " + e.getMessage());
         }
     }
 
@@ -435,7 +486,7 @@ public class GameUnoController implements IGameEventListener {
      * Handles the action when the human player clicks the "UNO" button to declare UNO.
      *
      * Sets the UNO declaration flag to true, stops any active UNO timer, hides the UNO button,
-     * logs the declaration, notifies the game logic, and saves the game state.
+     * logs the declaration and notifies the game logic, which journals the penalty card.
      *
      * @param event The ActionEvent triggered by clicking the UNO button.
      */
@@ -448,9 +499,8 @@ public class GameUnoController implements IGameEventListener {
         }
 
         buttonUno.setVisible(false);
-        System.out.println("Humano declaró UNO a tiempo");
+        GameLog.info("Humano declaró UNO a tiempo");
         gameUno.haveSungOne("HUMAN_PLAYER");
-        saveGameState();
     }
     /**
      * Handles the exit operation of the game.
@@ -462,6 +512,14 @@ public class GameUnoController implements IGameEventListener {
     @FXML
     private void handleExit() {
         saveGameState();
+        autoSaveService.shutdown(2000);
+        moveJournal.close();
+        GameLog.info("Mano del jugador: {}", handRenderer.getStatistics());
+        if (tableRenderer != null) {
+            GameLog.info("Mesa en lienzo: {}", tableRenderer.getStatistics());
+        }
+        printMetrics();
+        FxPerformanceMonitor.shutdown();
         Stage stage = (Stage) buttonExit.getScene().getWindow();
         stage.close();
         if (threadCheckGameOver != null) {
@@ -493,11 +551,10 @@ public class GameUnoController implements IGameEventListener {
         result.ifPresent(color -> {
             try {
                 // Actualizamos el color de la carta en la mesa
+                gameUno.chooseColor(color);
                 Card currentCard = table.getCurrentCardOnTheTable();
-                currentCard.setColor(color);
                 // Actualizamos la imagen si es necesario
-                tableImageView.setImage(currentCard.getImage());
-                updateColorIndicator(color);
+                currentCard.showIn(tableImageView);
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -509,7 +566,6 @@ public class GameUnoController implements IGameEventListener {
      * Initiates a countdown (randomized between 2-4 seconds) during which the player must press the "UNO" button.
      * If the player fails to press it in time and the game is not over, a penalty is applied.
      * The button is hidden after the timer ends, and the deck status is checked.
-     * The current game state is saved after starting the timer.
      */
     private void startUnoTimer() {
         try {
@@ -527,18 +583,16 @@ public class GameUnoController implements IGameEventListener {
                         handleUnoPenalty();
                     }
                 } catch (Exception ex) {
-                    System.err.println("Error inesperado en timer UNO: " + ex.getMessage());
+                    GameLog.error("Error inesperado en timer UNO: {}", ex.getMessage());
                 } finally {
                     buttonUno.setVisible(false);
-                    checkDeckEmptyStatus();
                 }
             }));
 
             unoTimer.setCycleCount(1);
             unoTimer.play();
-            saveGameState();
         } catch (Exception e) {
-            System.err.println("Error al iniciar timer UNO: " + e.getMessage());
+            GameLog.error("Error al iniciar timer UNO: {}", e.getMessage());
         }
     }
 
@@ -549,46 +603,21 @@ public class GameUnoController implements IGameEventListener {
      * this method draws a card from the deck for the player and updates the user interface,
      * including the player's hand and the color indicator on the table.
      *
-     * If the deck is empty, the penalty cannot be applied, and a warning alert is displayed instead.
-     * Finally, the current game state is saved.
+     * If the deck is empty, the penalty cannot be applied, and a warning notification is shown instead.
+     * The penalty card is persisted by the move journal.
      */
     private void handleUnoPenalty() {
         try {
-            System.out.println("¡No dijiste UNO a tiempo! Penalización aplicada.");
+            GameLog.info("¡No dijiste UNO a tiempo! Penalización aplicada.");
             gameUno.drawCard(humanPlayer); // Intenta robar carta
             printCardsHumanPlayer();
-            Card topCard = table.getCurrentCardOnTheTable();
-            updateColorIndicator(topCard.getColor());
-            saveGameState();
 
         } catch (EmptyDeckException ex) {
-            System.out.println("No se pudo aplicar penalización: " + ex.getMessage());
-            Platform.runLater(() -> {
-                Alert alert = new Alert(Alert.AlertType.WARNING);
-                alert.setTitle("Mazo Vacío");
-                alert.setHeaderText(null);
-                alert.setContentText("No se pudo aplicar la penalización porque el mazo está vacío");
-                alert.showAndWait();
-            });
+            GameLog.warn("No se pudo aplicar penalización: {}", ex.getMessage());
+            notifications.warning("Mazo Vacío", "No se pudo aplicar la penalización porque el mazo está vacío");
         }
     }
 
-    /**
-     * Checks whether the deck is empty and updates the "Take Card" button accordingly.
-     *
-     * This method runs on the JavaFX application thread and disables the "Take Card" button
-     * if there are no more cards in the deck. If an error occurs while checking the deck state,
-     * the error message is logged to the console.
-     */
-    private void checkDeckEmptyStatus() {
-        Platform.runLater(() -> {
-            try {
-                buttonTakeCard.setDisable(gameUno.isDeckEmpty());
-            } catch (Exception ex) {
-                System.err.println("Error verificando estado del mazo: " + ex.getMessage());
-            }
-        });
-    }
     /**
      * Checks if the human player is eligible to declare "UNO" and updates the visibility of the UNO button.
      *
@@ -599,17 +628,16 @@ public class GameUnoController implements IGameEventListener {
      * Any exceptions are caught and logged to the console.
      */
     public void checkUnoOpportunity() {
-        Platform.runLater(() -> {
+        FxTasks.runLater("GameUnoController.checkUnoOpportunity", () -> {
             try {
                 // Verificación más robusta
                 boolean shouldShowUnoButton = humanPlayer != null &&
-                        humanPlayer.getCardsPlayer() != null &&
-                        humanPlayer.getCardsPlayer().size() == 1 &&
+                        humanPlayer.getCardCount() == 1 &&
                         !gameUno.isGameOver() &&
                         !gameUno.isSkipHumanTurn();
 
                 if (shouldShowUnoButton) {
-                    System.out.println("Mostrando botón UNO - Cartas restantes: 1");
+                    GameLog.debug("Mostrando botón UNO - Cartas restantes: 1");
                     buttonUno.setVisible(true);
                     startUnoTimer();
                 } else {
@@ -621,31 +649,23 @@ public class GameUnoController implements IGameEventListener {
                     }
                 }
             } catch (Exception e) {
-                System.err.println("Error en checkUnoOpportunity: " + e.getMessage());
+                GameLog.error("Error en checkUnoOpportunity: {}", e.getMessage());
             }
         });
     }
     /**
      * Displays the end game screen and stops all relevant threads.
      *
-     * This method loads the EndGameUnoView FXML file and displays the result of the game based on
-     * whether the human player won or lost. It also stops the background threads responsible for checking
-     * game state and machine actions, and closes the current game window.
+     * This method displays the result of the game based on whether the human player won or lost on the
+     * {@link EndGameStage}, which is normally already built (see {@link #bindHud()}). It also
+     * stops the background threads responsible for checking game state and machine actions, and closes
+     * the current game window.
      *
      * @param playerWon true if the human player won the game; false otherwise.
      */
     public void showGameOver(boolean playerWon) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/org/example/eiscuno/EndGameUnoView.fxml"));
-            Parent root = loader.load();
-
-            EndGameUnoController controller = loader.getController();
-            controller.setResult(playerWon);
-
-            Stage stage = new Stage();
-            stage.setScene(new Scene(root));
-            stage.setTitle("Game Over");
-            stage.show();
+            EndGameStage.getInstance().showResult(playerWon);
 
             if (threadCheckGameOver != null) {
                 threadCheckGameOver.stopRunning();
@@ -656,64 +676,83 @@ public class GameUnoController implements IGameEventListener {
             if(threadSingUNOMachine != null) {
                 threadSingUNOMachine.interrupt();
             }
+            autoSaveService.shutdown(2000);
+            moveJournal.close();
+            GameLog.info("Mano del jugador: {}", handRenderer.getStatistics());
+            if (tableRenderer != null) {
+                GameLog.info("Mesa en lienzo: {}", tableRenderer.getStatistics());
+            }
+            printMetrics();
+            FxPerformanceMonitor.shutdown();
 
             Stage currentStage = (Stage) tableImageView.getScene().getWindow();
             currentStage.close();
 
         } catch (IOException e) {
             e.printStackTrace();
-            System.out.println("No se pudo cargar la pantalla de fin del juego.");
+            GameLog.error("No se pudo cargar la pantalla de fin del juego.");
         }
     }
 
     /**
      * Saves the current state of the UNO game to a file.
      *
-     * This method creates a {@link GameUnoState} object representing the current state of the game,
-     * including the deck, table, human and machine players, and game flags. The state is then serialized
-     * and saved to a file named "GameUnoState.ser" using {@link SerializableFileHandler}.
+     * This method captures a {@link GameUnoState} snapshot of the current game, including the deck,
+     * table, human and machine players, game flags and the current position of the {@link MoveJournal},
+     * and hands it to the {@link AutoSaveService}. The snapshot is written to "GameUnoState.ser" in the
+     * background, so the JavaFX thread never waits for the disk; snapshots submitted in quick succession
+     * are coalesced into one write.
      *
-     * If an error occurs during the saving process, it is caught and logged.
+     * Individual moves do not call this method: they are appended to the journal, which writes its
+     * own periodic snapshots. It is used when leaving the game.
+     *
+     * If an error occurs while capturing the snapshot, it is caught and logged.
      */
     public void saveGameState() {
+        GameSaveEvent event = new GameSaveEvent();
+        event.phase = "snapshot";
+        event.file = SAVE_FILE;
+        event.begin();
         try {
-            GameUnoState state = new GameUnoState(
-                    gameUno.getDeck(),
-                    gameUno.getTable(),
-                    gameUno.getHumanPlayer(),
-                    gameUno.getMachinePlayer(),
-                    gameUno.isGameOver(),
-                    gameUno.isHumanTurn(),
-                    gameUno.isSkipHumanTurn(),
-                    gameUno.isSkipMachineTurn()
-            );
-
-            SerializableFileHandler handler = new SerializableFileHandler();
-            handler.serialize("GameUnoState.ser", state);
-            System.out.println("Estado del juego guardado exitosamente.");
-
+            autoSaveService.submit(moveJournal != null
+                    ? moveJournal.captureSnapshot()
+                    : GameUnoState.snapshotOf(gameUno));
+            event.success = true;
         } catch (Exception e) {
-            System.err.println("Error al guardar el estado del juego: " + e.getMessage());
+            GameLog.error("Error al guardar el estado del juego: {}", e.getMessage());
         }
+        event.commit();
     }
     /**
      * Loads the previously saved state of the UNO game from a file.
      *
-     * This method deserializes a {@link GameUnoState} object from "GameUnoState.ser" using
-     * {@link SerializableFileHandler}. If a valid state is found, it restores all relevant game
-     * components including the deck, table, human and machine players, game flags, and visual state.
+     * This method decodes a {@link GameUnoState} object from "GameUnoState.ser" using
+     * {@link BinaryGameStateFileHandler} and replays the moves appended to the {@link MoveJournal}
+     * after that snapshot. If a valid state is found, it restores all relevant game components
+     * including the deck, table, human and machine players, game flags, and visual state.
      *
      * It also reinitializes the {@link GameUno} object and restores UI components like card images.
      * If the file does not contain a valid state, a message is logged. Any exceptions during
      * deserialization or restoration are caught and logged.
      */
     public void loadGameState() {
+        GameLoadEvent event = new GameLoadEvent();
+        event.file = SAVE_FILE;
+        event.begin();
         try {
-            SerializableFileHandler handler = new SerializableFileHandler();
-            GameUnoState state = (GameUnoState) handler.deserialize("GameUnoState.ser");
+            long loadStart = System.nanoTime();
+            BinaryGameStateFileHandler handler = new BinaryGameStateFileHandler();
+            GameUnoState state = (GameUnoState) handler.deserialize(SAVE_FILE);
 
             if (state != null) {
-                System.out.println("Estado del juego cargado exitosamente.");
+                // Aplicar las jugadas registradas después de la última instantánea
+                state = MoveJournal.replay(JOURNAL_FILE, state);
+                GameMetrics.LOAD.recordSince(loadStart);
+                event.end();
+                event.found = true;
+                event.journalGeneration = state.getJournalGeneration();
+                resumedJournalGeneration = state.getJournalGeneration();
+                GameLog.info("Estado del juego cargado exitosamente.");
 
                 // Restaurar lógica
                 //gameUno.setDeck(state.getDeck());
@@ -731,7 +770,8 @@ public class GameUnoController implements IGameEventListener {
 
                 this.gameUno = new GameUno(humanPlayer, machinePlayer, deck, table);
                 gameUno.setGameOver(state.isGameOver());
-                gameUno.setHumanTurn(state.isHumanTurn());
+                // La máquina solo juega después del jugador, así que la partida se reanuda en su turno
+                gameUno.setHumanTurn(true);
 
                 if (state.isHumanBlocked()) {
                     gameUno.skipHumanTurn();
@@ -745,9 +785,6 @@ public class GameUnoController implements IGameEventListener {
                     gameUno.clearSkipMachineTurn();
                 }
 
-                // Restaurar ImageViews en las cartas
-                restoreImageViews();
-
                 // Restaurar parte visual
                 restoreVisualState();
 
@@ -755,47 +792,30 @@ public class GameUnoController implements IGameEventListener {
                 checkUnoOpportunity();
 
             } else {
-                System.out.println("No se encontró estado válido para cargar.");
+                GameLog.warn("No se encontró estado válido para cargar.");
             }
 
         } catch (Exception e) {
-            System.err.println("Error al cargar el estado del juego: " + e.getMessage());
+            GameLog.error("Error al cargar el estado del juego: {}", e.getMessage());
         }
+        // Con partida encontrada la duración terminó tras repetir el diario: restaurar la vista no cuenta
+        event.commit();
     }
 
-    private void restoreImageViews() {
-        for(Card card : humanPlayer.getCardsPlayer()) {
-            card.loadTransientFields();
-        }
-
-        for(Card card : machinePlayer.getCardsPlayer()) {
-            card.loadTransientFields();
-        }
-
-        Card topCard = table.getCurrentCardOnTheTable();
-        if(topCard != null) {
-            topCard.loadTransientFields();
-        }
-
-        for(Card card : deck.getDeckOfCards()) {
-            card.loadTransientFields();
-        }
-    }
     /**
-     * Restores the transient fields (such as images) for all cards in the game.
+     * Restores the visual state of a loaded game: the top card, the visible part of both hands,
+     * the take-card button and the UNO button.
      *
-     * This method ensures that image-related data for the human player's hand, the machine player's hand,
-     * the top card on the table, and the remaining cards in the deck are properly reloaded by calling
-     * {@code loadTransientFields()} on each {@link Card} object.
-     *
-     * This is necessary after deserialization, as transient fields are not saved and must be restored manually.
+     * Card images are transient and are not saved, but they do not need to be restored up front:
+     * each {@link Card} loads its image the first time it is displayed, so only the top card and
+     * the visible cards of the human hand are decoded here. Cards in the deck load theirs when drawn.
      */
     private void restoreVisualState() {
         try {
             // Restaurar carta en la mesa
             Card currentCard = gameUno.getTable().getCurrentCardOnTheTable();
             if (currentCard != null) {
-                tableImageView.setImage(currentCard.getImage());
+                currentCard.showIn(tableImageView);
 
             }
 
@@ -805,14 +825,11 @@ public class GameUnoController implements IGameEventListener {
             // Restaurar mano de la máquina (oculta)
             printCardsMachinePlayer();
 
-            // Restaurar botón de robar carta
-            buttonTakeCard.setDisable(gameUno.isDeckEmpty());
-
             // Restaurar visibilidad del botón UNO si aplica
             checkUnoOpportunity();
 
         } catch (Exception e) {
-            System.err.println("Error al restaurar parte visual: " + e.getMessage());
+            GameLog.error("Error al restaurar parte visual: {}", e.getMessage());
         }
     }
     /**
@@ -824,9 +841,9 @@ public class GameUnoController implements IGameEventListener {
      * @param color the current color of the top card (e.g., "red", "green", "blue", "yellow").
      *              If null or unrecognized, the indicator defaults to gray.
      */
-    public void updateColorIndicator(String color) {
-        if (color == null) {
-            return; // No actualizamos si el color no está definido
+    private void updateColorIndicator(String color) {
+        if (color == null || colorIndicator == null) {
+            return; // No actualizamos si el color o el indicador no están definidos
         }
 
         Color fxColor;
@@ -848,39 +865,62 @@ public class GameUnoController implements IGameEventListener {
                 break;
         }
 
+        indicatorFill = fxColor;
         colorIndicator.setFill(fxColor);
+        refreshTableCanvas();
     }
     /**
-     * Updates the label that displays the number of cards held by each player.
-     *
-     * This method retrieves the current number of cards for both the human player and the machine,
-     * and updates the {@code cardCountLabel} to reflect the current game state.
-     * Useful for providing the player with real-time visual feedback.
+     * Points the gauges of the {@link MetricsRegistry} at this game: cards left in the deck and in each hand.
+     * They are read by JMX clients from their own threads, so they read the collections directly
+     * instead of the JavaFX properties of the HUD.
      */
-    public void updateCardCounter() {
-        int humanCardCount = humanPlayer.getCardCount();
-        int machineCardCount = machinePlayer.getCardCount();
-        cardCountLabel.setText("Máquina: " + machineCardCount + "\n" + humanPlayer.getPlayerName() + ": " + humanCardCount);
+    private void registerGauges() {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("game.deck.size", () -> deck.getDeckOfCards().size());
+        metrics.gauge("game.hand.human", () -> humanPlayer.getCardCount());
+        metrics.gauge("game.hand.machine", () -> machinePlayer.getCardCount());
     }
+
     /**
-     * Displays the machine's turn label for a short duration (1 second)
-     * and then hides it automatically.
-     * Useful for visually indicating when it is the machine's turn.
+     * Prints every metric of the {@link MetricsRegistry} to the console.
      */
-    public void showMachineTurnTemporarily() {
-        if (turnLabel != null) {
-            turnLabel.setVisible(true); // Show the label
-
-            // Create a timeline to hide it after 1 second
-            Timeline timeline = new Timeline(new KeyFrame(
-                    Duration.seconds(1),
-                    event -> turnLabel.setVisible(false)
-            ));
-
-            timeline.setCycleCount(1); // Run only once
-            timeline.play();
+    private void printMetrics() {
+        GameLog.info("Métricas:");
+        for (String line : MetricsRegistry.getInstance().summaries()) {
+            GameLog.info("  {}", line);
         }
     }
 
+    /**
+     * Binds the HUD to the {@link GameStatus} published by the game, instead of refreshing it by hand
+     * after every action. Each widget changes once per change of the value it shows:
+     * <ul>
+     *     <li>the card counter follows both hand sizes;</li>
+     *     <li>the color indicator follows the active color;</li>
+     *     <li>the "Take Card" button is disabled when the deck size reaches zero;</li>
+     *     <li>the machine-turn label is visible while it is the machine's turn.</li>
+     * </ul>
+     * Once either hand drops to two cards, the end-game screen is built in advance, so that the
+     * game-over transition does not have to load it.
+     */
+    private void bindHud() {
+        GameStatus status = gameUno.getStatus();
+        String playerName = humanPlayer.getPlayerName();
+        cardCountLabel.textProperty().bind(Bindings.createStringBinding(
+                () -> "Máquina: " + status.machineCardCountProperty().get() + "\n" + playerName + ": " + status.humanCardCountProperty().get(),
+                status.machineCardCountProperty(), status.humanCardCountProperty()));
+        InvalidationListener endGameWatcher = observable -> {
+            if (status.humanCardCountProperty().get() <= 2 || status.machineCardCountProperty().get() <= 2) {
+                EndGameStage.prepare();
+            }
+        };
+        status.humanCardCountProperty().addListener(endGameWatcher);
+        status.machineCardCountProperty().addListener(endGameWatcher);
+        status.activeColorProperty().addListener((observable, oldColor, newColor) -> updateColorIndicator(newColor));
+        buttonTakeCard.disableProperty().bind(status.deckSizeProperty().isEqualTo(0));
+        turnLabel.visibleProperty().bind(status.humanTurnProperty().not());
+        status.attach();
+    }
+
 
 }
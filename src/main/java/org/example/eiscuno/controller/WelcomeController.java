@@ -3,6 +3,7 @@ package org.example.eiscuno.controller;
 import javafx.scene.control.TextField;
 import org.example.eiscuno.model.planeTextFiles.PlaneTextFileHandler;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.serializable.BinaryGameStateFileHandler;
 import org.example.eiscuno.view.GameUnoStage;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -67,7 +68,8 @@ public class WelcomeController {
     /**
      * Handles the action when the "Play" button is clicked.
      * It reads the player's name, validates it, creates or updates player data,
-     * and launches a new game session.
+     * and launches a new game session, printing the time until the game shows its
+     * first interactive frame.
      *
      * @throws IOException if an error occurs while creating or writing player data or opening the game view.
      */
@@ -79,14 +81,15 @@ public class WelcomeController {
 
         if(!userTxt.getText().isEmpty()) {
             try {
+                long start = System.nanoTime();
                 if(Objects.equals(user, userTxt.getText())) {
                     player = new Player(user);
                 } else {
                     player = new Player(userTxt.getText().trim());
                     planeTextFileHandler.write("PlayerData.txt", userTxt.getText().trim());
                 }
-                GameUnoStage.getInstance();
                 onContinue = false;
+                GameUnoStage.getInstance().reportTimeToFirstFrame("Jugar", start);
             } catch (IOException e) {
                 showError("Error visual al iniciar el juego: " + e.getMessage());
             }
@@ -98,20 +101,22 @@ public class WelcomeController {
 
     /**
      * Handles the action when the "Continue" button is clicked.
-     * It checks for a saved game state and resumes it if available.
-     * If no saved state is found, shows a warning dialog.
+     * It checks for a saved game state whose checksum is valid (or a valid previous
+     * generation of it) and resumes it if available, printing the time until the
+     * resumed game shows its first interactive frame.
+     * If no valid saved state is found, shows a warning dialog.
      */
     @FXML
     private void handleContinueButton() {
-        File savedGame = new File("GameUnoState.ser");
         String data[] = planeTextFileHandler.read("PlayerData.txt");
         String user = data[0];
 
-        if(savedGame.exists()) {
+        if(new BinaryGameStateFileHandler().hasValidSave("GameUnoState.ser")) {
             try {
+                long start = System.nanoTime();
                 player = new Player(user);
                 onContinue = true;
-                GameUnoStage.getInstance();
+                GameUnoStage.getInstance().reportTimeToFirstFrame("Continuar", start);
             } catch (IOException ex) {
                 ex.printStackTrace();
                 showError("Error al cargar la partida guardada: " + ex.getMessage());
@@ -11,6 +11,8 @@ import java.io.Serializable;
  * <p>
  * Each card has a value (e.g., "5", "REVERSE", "WILD"), a color (e.g., "RED", "BLUE", or "NULL" for wild cards),
  * and a visual representation through an image loaded from a given URL.
+ * The image and its {@code ImageView} are created lazily, the first time a view asks for them,
+ * so cards that stay in the deck or in the machine's hand never decode their image.
  * This class also implements the Prototype pattern to allow card cloning,
  * and ensures compatibility with Java serialization (excluding transient JavaFX elements).
  */
@@ -19,8 +21,7 @@ public class Card implements Serializable, IPrototype<Card> {
     private String value;
     private String color;
 
-    // No se tendrán en cuenta para la serialización.
-    private transient Image image;
+    // No se tendrá en cuenta para la serialización.
     private transient ImageView cardImageView;
 
     /**
@@ -34,49 +35,61 @@ public class Card implements Serializable, IPrototype<Card> {
         this.url = url;
         this.value = value;
         this.color = color;
-        //this.image = new Image(String.valueOf(getClass().getResource(url)));
-        //this.cardImageView = createCardImageView();
-        loadTransientFields();
     }
 
     /**
-     * Reconstructs JavaFX-related transient fields (image and ImageView)
-     * after deserialization. This method should be called manually
-     * when loading a serialized Card object.
+     * Eagerly builds the JavaFX-related transient field (the hand ImageView).
+     * <p>
+     * Not required after deserialization: {@link #getCard()} creates it on first use.
+     * Useful only to pay the decoding cost ahead of time.
      */
     public void loadTransientFields() {
-        this.image = new Image(String.valueOf(getClass().getResource(url)));
-        this.cardImageView = createCardImageView();
+        getCard();
     }
     /**
      * Creates and configures the {@code ImageView} used to visually represent the card.
+     * The image is already at hand size ({@link CardAtlas#HAND_WIDTH}x{@link CardAtlas#HAND_HEIGHT}),
+     * so the view shows it without scaling.
      *
      * @return a configured {@code ImageView} with the card image and fixed size
      */
     private ImageView createCardImageView() {
-        ImageView card = new ImageView(this.image);
+        ImageView card = new ImageView(CardImageCache.getHandSize(url));
+        card.setViewport(CardImageCache.handViewportOf(url));
         card.setY(16);
-        card.setFitHeight(90);
-        card.setFitWidth(70);
         return card;
     }
 
     /**
-     * Returns the visual {@code ImageView} representation of the card.
+     * Returns the visual {@code ImageView} representation of the card, creating it on first use.
      *
      * @return the card's {@code ImageView}
      */
     public ImageView getCard() {
+        if (cardImageView == null) {
+            cardImageView = createCardImageView();
+        }
         return cardImageView;
     }
 
     /**
-     * Returns the {@code Image} object of the card.
+     * Returns the card face decoded at the size of the table card, through {@link CardImageCache}.
+     * The image is not kept by the card, so only the faces recently on the table stay decoded.
      *
-     * @return the card's JavaFX {@code Image}
+     * @return the card's JavaFX {@code Image} at table size
      */
     public Image getImage() {
-        return image;
+        return CardImageCache.getTableSize(url);
+    }
+
+    /**
+     * Shows this card in the given view, the table card, replacing any viewport it had.
+     *
+     * @param view the view to show the card in
+     */
+    public void showIn(ImageView view) {
+        view.setImage(getImage());
+        view.setViewport(null);
     }
 
     /**
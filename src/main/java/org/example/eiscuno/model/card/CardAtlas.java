@@ -0,0 +1,131 @@
+package org.example.eiscuno.model.card;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.logging.GameLog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A card texture atlas: every image of {@code cards-uno/} packed into one PNG at build time by
+ * {@code CardAtlasGenerator}, a build tool in {@code src/build/java}, plus an index with the
+ * rectangle of each image.
+ * <p>
+ * A card is drawn by pointing an {@code ImageView} at the shared atlas {@link Image} and setting
+ * its viewport to the card rectangle, so all cards share one resource lookup and one decode.
+ * The index has one line per image: {@code <resource path> <x> <y> <width> <height>}.
+ * <p>
+ * The only atlas is {@link #HAND}: the images resampled to {@value #HAND_WIDTH}x{@value #HAND_HEIGHT},
+ * the size of a card in a hand, so hand cards are drawn without scaling a larger bitmap every frame.
+ * The table card, a single view at about the original size, is decoded on its own by
+ * {@link CardImageCache#getTableSize(String)}; a full-size atlas would keep every face decoded for it.
+ * When the atlas is missing, for example when running from an IDE that skips the Maven
+ * {@code process-classes} phase, {@link #isAvailable()} is false and callers use the separate images.
+ */
+public final class CardAtlas {
+
+    /** Resource directory of the card images. */
+    public static final String CARDS_DIRECTORY = "/org/example/eiscuno/cards-uno/";
+
+    /** Width of a card shown in a hand. */
+    public static final int HAND_WIDTH = 70;
+    /** Height of a card shown in a hand. */
+    public static final int HAND_HEIGHT = 90;
+
+    /** Atlas of the images pre-scaled to the size of a hand card. */
+    public static final CardAtlas HAND = new CardAtlas("atlas-hand", HAND_WIDTH, HAND_HEIGHT);
+
+    private final String imagePath;
+    private final String indexPath;
+    private final int cardWidth;
+    private final int cardHeight;
+    private final Map<String, Rectangle2D> viewports;
+    private volatile Image image;
+
+    private CardAtlas(String name, int cardWidth, int cardHeight) {
+        this.imagePath = CARDS_DIRECTORY + name + ".png";
+        this.indexPath = CARDS_DIRECTORY + name + ".index";
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+        this.viewports = readIndex(indexPath);
+    }
+
+    /**
+     * Tells whether the atlas was generated and can be used.
+     *
+     * @return true if the atlas index was found
+     */
+    public boolean isAvailable() {
+        return !viewports.isEmpty();
+    }
+
+    /**
+     * Returns the atlas image, decoding it on first use. May be called from any thread.
+     *
+     * @return the shared atlas image
+     * @throws IllegalStateException if the atlas is not available
+     */
+    public Image image() {
+        if (!isAvailable()) {
+            throw new IllegalStateException("El atlas de cartas no fue generado: " + imagePath);
+        }
+        Image result = image;
+        if (result == null) {
+            synchronized (this) {
+                result = image;
+                if (result == null) {
+                    image = result = new Image(String.valueOf(CardAtlas.class.getResource(imagePath)));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the rectangle of the given image inside the atlas.
+     *
+     * @param url the resource path of a card image
+     * @return the viewport to show that image, or null if it is not in the atlas
+     */
+    public Rectangle2D viewportOf(String url) {
+        return viewports.get(url);
+    }
+
+    /** @return the resource path of the atlas image */
+    public String getImagePath() { return imagePath; }
+    /** @return the resource path of the atlas index */
+    public String getIndexPath() { return indexPath; }
+    /** @return the width every image is resampled to */
+    public int getCardWidth() { return cardWidth; }
+    /** @return the height every image is resampled to */
+    public int getCardHeight() { return cardHeight; }
+
+    private static Map<String, Rectangle2D> readIndex(String indexPath) {
+        InputStream stream = CardAtlas.class.getResourceAsStream(indexPath);
+        if (stream == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Rectangle2D> viewports = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.trim().split(" ");
+                if (fields.length == 5) {
+                    viewports.put(fields[0], new Rectangle2D(Double.parseDouble(fields[1]), Double.parseDouble(fields[2]),
+                            Double.parseDouble(fields[3]), Double.parseDouble(fields[4])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            GameLog.warn("Índice del atlas de cartas inválido, se usan las imágenes separadas: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(viewports);
+    }
+}
@@ -0,0 +1,256 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catalog of every card face of the UNO deck, each identified by a compact numeric ID.
+ * <p>
+ * IDs {@code 0..}{@link #BASE_CARD_COUNT}{@code -1} are the cards built from {@link EISCUnoEnum},
+ * in declaration order. Wild cards ("WILD" and "+4") get four more IDs each, one per chosen
+ * color, so a wild card on the table keeps its color when encoded. Every ID fits in one byte,
+ * which is what the binary save format and the simulators rely on.
+ */
+public final class CardCatalog {
+
+    /** The four playable colors, in the order used by the colored wild IDs. */
+    public static final String[] COLORS = {"RED", "GREEN", "BLUE", "YELLOW"};
+
+    private static final List<EISCUnoEnum> BASE_CARDS = new ArrayList<>();
+    private static final Map<String, Integer> ID_BY_URL = new HashMap<>();
+
+    /** Number of distinct cards in a full deck. */
+    public static final int BASE_CARD_COUNT;
+    /** First ID of the colored "WILD" variants. */
+    private static final int FIRST_COLORED_WILD;
+    /** First ID of the colored "+4" variants. */
+    private static final int FIRST_COLORED_FOUR;
+    /** Total number of IDs, including the colored wild variants. */
+    public static final int ID_COUNT;
+
+    private static final String[] URLS;
+    private static final String[] VALUES;
+    private static final String[] BASE_COLORS;
+    private static final int WILD_ID;
+    private static final int FOUR_ID;
+
+    static {
+        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+            if (isCard(cardEnum.name())) {
+                ID_BY_URL.put(cardEnum.getFilePath(), BASE_CARDS.size());
+                BASE_CARDS.add(cardEnum);
+            }
+        }
+        BASE_CARD_COUNT = BASE_CARDS.size();
+        FIRST_COLORED_WILD = BASE_CARD_COUNT;
+        FIRST_COLORED_FOUR = FIRST_COLORED_WILD + COLORS.length;
+        ID_COUNT = FIRST_COLORED_FOUR + COLORS.length;
+
+        URLS = new String[BASE_CARD_COUNT];
+        VALUES = new String[BASE_CARD_COUNT];
+        BASE_COLORS = new String[BASE_CARD_COUNT];
+        for (int id = 0; id < BASE_CARD_COUNT; id++) {
+            String name = BASE_CARDS.get(id).name();
+            URLS[id] = BASE_CARDS.get(id).getFilePath();
+            VALUES[id] = cardValue(name);
+            BASE_COLORS[id] = cardColor(name);
+            if ("UNKNOWN".equals(VALUES[id])) {
+                GameLog.warn("Carta con valor desconocido: {}", name);
+            }
+        }
+        WILD_ID = ID_BY_URL.get(EISCUnoEnum.WILD.getFilePath());
+        FOUR_ID = ID_BY_URL.get(EISCUnoEnum.FOUR_WILD_DRAW.getFilePath());
+    }
+
+    private CardCatalog() {
+    }
+
+    /**
+     * Tells whether an enum constant describes a playable card rather than a UI image.
+     *
+     * @param name the name of the enum constant
+     * @return true for colored, special and wild cards
+     */
+    private static boolean isCard(String name) {
+        return name.startsWith("GREEN_") ||
+                name.startsWith("YELLOW_") ||
+                name.startsWith("BLUE_") ||
+                name.startsWith("RED_") ||
+                name.startsWith("SKIP_") ||
+                name.startsWith("RESERVE_") ||
+                name.startsWith("TWO_WILD_DRAW_") ||
+                name.equals("FOUR_WILD_DRAW") ||
+                name.equals("WILD");
+    }
+
+    /**
+     * Extracts the value of a card based on its enum name.
+     * This includes numeric values, special actions like SKIP and REVERSE, and wild cards.
+     *
+     * @param name the name of the enum constant representing the card
+     * @return the corresponding card value as a String, or "UNKNOWN" if no match is found
+     */
+    private static String cardValue(String name) {
+        char last = name.charAt(name.length() - 1);
+        if (last >= '0' && last <= '9') {
+            return String.valueOf(last);
+        } else if (name.contains("SKIP")) {
+            return "SKIP";
+        } else if (name.contains("RESERVE")) {
+            return "REVERSE";
+        } else if (name.contains("TWO_WILD_DRAW")) {
+            return "+2";
+        } else if (name.equals("FOUR_WILD_DRAW")) {
+            return "+4";
+        } else if (name.equals("WILD")) {
+            return "WILD";
+        }
+        return "UNKNOWN";
+    }
+
+    /**
+     * Determines the color of a card based on its enum name.
+     * Wild cards (e.g., WILD, +4) return {@code null} as they have no fixed color.
+     *
+     * @param name the name of the enum constant representing the card
+     * @return the color of the card as a String, or {@code null} for wild cards
+     */
+    private static String cardColor(String name) {
+        for (String color : COLORS) {
+            if (name.contains(color)) {
+                return color;
+            }
+        }
+        return null; // comodines como WILD y +4 deben quedar sin color
+    }
+
+    /**
+     * Creates a new card for the given ID.
+     *
+     * @param id a card ID between 0 and {@link #ID_COUNT}{@code -1}
+     * @return a new {@code Card} with the image, value and color of that ID
+     * @throws IllegalArgumentException if the ID is out of range
+     */
+    public static Card newCard(int id) {
+        int baseId = baseIdOf(id);
+        return new Card(URLS[baseId], VALUES[baseId], colorOf(id));
+    }
+
+    /**
+     * Returns the ID that encodes the given card, including the chosen color of a wild card.
+     *
+     * @param card the card to encode
+     * @return the card ID
+     * @throws IllegalArgumentException if the card image does not belong to the deck
+     */
+    public static int idOf(Card card) {
+        Integer baseId = ID_BY_URL.get(card.getUrl());
+        if (baseId == null) {
+            throw new IllegalArgumentException("Carta desconocida: " + card.getUrl());
+        }
+        if (baseId == WILD_ID || baseId == FOUR_ID) {
+            int colorIndex = colorIndex(card.getColor());
+            if (colorIndex >= 0) {
+                return (baseId == WILD_ID ? FIRST_COLORED_WILD : FIRST_COLORED_FOUR) + colorIndex;
+            }
+        }
+        return baseId;
+    }
+
+    /**
+     * Maps any ID to the ID of the physical card, dropping the chosen color of wild cards.
+     *
+     * @param id a card ID
+     * @return the base ID, between 0 and {@link #BASE_CARD_COUNT}{@code -1}
+     */
+    public static int baseIdOf(int id) {
+        if (id < 0 || id >= ID_COUNT) {
+            throw new IllegalArgumentException("ID de carta inválido: " + id);
+        }
+        if (id < FIRST_COLORED_WILD) {
+            return id;
+        }
+        return id < FIRST_COLORED_FOUR ? WILD_ID : FOUR_ID;
+    }
+
+    /**
+     * Returns the ID of a wild card once a color has been chosen for it.
+     *
+     * @param id    the ID of a wild card
+     * @param color one of {@link #COLORS}
+     * @return the colored variant, or {@code id} unchanged if it is not a wild card or the color is unknown
+     */
+    public static int withColor(int id, String color) {
+        int baseId = baseIdOf(id);
+        int colorIndex = colorIndex(color);
+        if (colorIndex < 0) {
+            return id;
+        }
+        if (baseId == WILD_ID) {
+            return FIRST_COLORED_WILD + colorIndex;
+        }
+        if (baseId == FOUR_ID) {
+            return FIRST_COLORED_FOUR + colorIndex;
+        }
+        return id;
+    }
+
+    /**
+     * Returns the value of the card with the given ID.
+     *
+     * @param id a card ID
+     * @return the value, e.g. "7", "SKIP" or "+4"
+     */
+    public static String valueOf(int id) {
+        return VALUES[baseIdOf(id)];
+    }
+
+    /**
+     * Returns the color of the card with the given ID.
+     *
+     * @param id a card ID
+     * @return the color, or {@code null} for a wild card with no chosen color
+     */
+    public static String colorOf(int id) {
+        int baseId = baseIdOf(id);
+        if (id >= FIRST_COLORED_FOUR) {
+            return COLORS[id - FIRST_COLORED_FOUR];
+        }
+        if (id >= FIRST_COLORED_WILD) {
+            return COLORS[id - FIRST_COLORED_WILD];
+        }
+        return BASE_COLORS[baseId];
+    }
+
+    /**
+     * Returns the image path of the card with the given ID.
+     *
+     * @param id a card ID
+     * @return the resource path of the card image
+     */
+    public static String urlOf(int id) {
+        return URLS[baseIdOf(id)];
+    }
+
+    /**
+     * Returns the position of a color in {@link #COLORS}.
+     *
+     * @param color a color name
+     * @return the index, or -1 if the color is {@code null} or not one of the four playable colors
+     */
+    public static int colorIndex(String color) {
+        if (color != null) {
+            for (int i = 0; i < COLORS.length; i++) {
+                if (COLORS[i].equals(color)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
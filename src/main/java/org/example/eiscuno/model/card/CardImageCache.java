@@ -0,0 +1,98 @@
+package org.example.eiscuno.model.card;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared source of decoded card images, keyed by resource URL.
+ * <p>
+ * Images come in two sizes, both decoded already scaled so no card is shrunk from a larger bitmap
+ * on every frame:
+ * <ul>
+ *     <li>The hand size ({@link CardAtlas#HAND_WIDTH}x{@link CardAtlas#HAND_HEIGHT}). When the
+ *         {@link CardAtlas#HAND} atlas was generated, the image is the atlas and must be shown through
+ *         the viewport of the card; otherwise each face is decoded separately, at most once per run.</li>
+ *     <li>The table size ({@link #TABLE_WIDTH}x{@link #TABLE_HEIGHT}, keeping the aspect ratio), for the
+ *         single card on the table. Only the last {@value #TABLE_CACHE_SIZE} faces are kept, so the
+ *         faces that have been on the table during a game do not all stay decoded.</li>
+ * </ul>
+ * The cache is thread-safe, which lets {@link #preloadAll()} decode the images on a background
+ * thread while the welcome screen is shown.
+ */
+public final class CardImageCache {
+
+    /** Width of the table card view; the image keeps its aspect ratio within it. */
+    public static final int TABLE_WIDTH = 120;
+    /** Height of the table card view. */
+    public static final int TABLE_HEIGHT = 170;
+    /** Number of table-size faces kept decoded. */
+    private static final int TABLE_CACHE_SIZE = 4;
+
+    private static final Map<String, Image> HAND_IMAGES = new ConcurrentHashMap<>();
+    private static final Map<String, Image> TABLE_IMAGES = new LinkedHashMap<>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > TABLE_CACHE_SIZE;
+        }
+    };
+
+    private CardImageCache() {
+    }
+
+    /**
+     * Returns the given card face decoded at the size of the table card, decoding it unless it is
+     * one of the last faces requested. The whole image is the face.
+     *
+     * @param url the resource path of the card image
+     * @return the face at table size
+     */
+    public static Image getTableSize(String url) {
+        synchronized (TABLE_IMAGES) {
+            return TABLE_IMAGES.computeIfAbsent(url, key ->
+                    new Image(resource(key), TABLE_WIDTH, TABLE_HEIGHT, true, true));
+        }
+    }
+
+    /**
+     * Returns the image that holds the given card face at hand size, decoding it on first use.
+     *
+     * @param url the resource path of the card image
+     * @return the shared hand-size atlas, or the face decoded at hand size if the atlas does not contain it
+     */
+    public static Image getHandSize(String url) {
+        if (CardAtlas.HAND.viewportOf(url) != null) {
+            return CardAtlas.HAND.image();
+        }
+        return HAND_IMAGES.computeIfAbsent(url, key ->
+                new Image(resource(key), CardAtlas.HAND_WIDTH, CardAtlas.HAND_HEIGHT, false, true));
+    }
+
+    /**
+     * Returns the part of {@link #getHandSize(String)} that shows the given card face.
+     *
+     * @param url the resource path of the card image
+     * @return the viewport inside the hand-size atlas, or null if the whole image is the face
+     */
+    public static Rectangle2D handViewportOf(String url) {
+        return CardAtlas.HAND.viewportOf(url);
+    }
+
+    /**
+     * Decodes the hand-size atlas, or every hand-size card face of the {@link CardCatalog} if there
+     * is no atlas. Table-size faces are decoded when a card reaches the table.
+     * May be called from any thread.
+     */
+    public static void preloadAll() {
+        for (int id = 0; id < CardCatalog.BASE_CARD_COUNT; id++) {
+            getHandSize(CardCatalog.urlOf(id));
+        }
+    }
+
+    private static String resource(String url) {
+        return String.valueOf(CardImageCache.class.getResource(url));
+    }
+}
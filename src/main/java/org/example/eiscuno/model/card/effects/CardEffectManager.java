@@ -2,6 +2,7 @@ package org.example.eiscuno.model.card.effects;
 
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.metrics.events.CardEffectEvent;
 import org.example.eiscuno.model.player.Player;
 import java.util.ArrayList;
 import java.util.List;
@@ -58,12 +59,22 @@ public class CardEffectManager {
      * @param opponent the opponent affected by the effect
      */
     public void applyCardEffect(GameUno gameUno, Card card, Player currentPlayer, Player opponent) {
+        CardEffectEvent event = new CardEffectEvent();
+        event.begin();
+        ICardEffect applied = null;
         for (ICardEffect effect : effects) {
             if (effect.canApply(card)) {
                 effect.applyEffect(gameUno, card, currentPlayer, opponent);
+                applied = effect;
                 break;
             }
         }
+        if (event.shouldCommit()) {
+            event.value = card.getValue();
+            event.effect = applied != null ? applied.getClass().getSimpleName() : "";
+            event.target = opponent.getTypePlayer();
+            event.commit();
+        }
     }
 
     /**
@@ -73,6 +84,11 @@ public class CardEffectManager {
      * @return True if a special effect can be applied to the card; false otherwise
      */
     public boolean hasSpecialEffect(Card card) {
-        return effects.stream().anyMatch(effect -> effect.canApply(card));
+        for (ICardEffect effect : effects) {
+            if (effect.canApply(card)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -2,6 +2,7 @@ package org.example.eiscuno.model.card.effects;
 
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.logging.GameLog;
 import org.example.eiscuno.model.player.Player;
 
 /**
@@ -16,10 +17,10 @@ public class DrawFourEffect implements ICardEffect {
 
         if (opponent.equals(gameUno.getHumanPlayer())) {
             gameUno.skipHumanTurn();
-            System.out.println("Máquina jugó +4. Humano roba 4 cartas y pierde turno.");
+            GameLog.debug("Máquina jugó +4. Humano roba 4 cartas y pierde turno.");
         } else {
             gameUno.skipMachineTurn();
-            System.out.println("Humano jugó +4. Máquina roba 4 cartas y pierde turno.");
+            GameLog.debug("Humano jugó +4. Máquina roba 4 cartas y pierde turno.");
         }
     }
 
@@ -2,6 +2,7 @@ package org.example.eiscuno.model.card.effects;
 
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.logging.GameLog;
 import org.example.eiscuno.model.player.Player;
 
 /**
@@ -13,10 +14,10 @@ public class SkipEffect implements ICardEffect {
     @Override
     public void applyEffect(GameUno gameUno, Card card, Player currentPlayer, Player opponent) {
         if (opponent.equals(gameUno.getHumanPlayer())) {
-            System.out.println("Máquina usó SKIP: humano pierde turno");
+            GameLog.debug("Máquina usó SKIP: humano pierde turno");
             gameUno.skipHumanTurn();
         } else {
-            System.out.println("Humano usó SKIP: máquina pierde turno");
+            GameLog.debug("Humano usó SKIP: máquina pierde turno");
             gameUno.skipMachineTurn();
         }
     }
@@ -2,6 +2,7 @@ package org.example.eiscuno.model.card.effects;
 
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.logging.GameLog;
 import org.example.eiscuno.model.player.Player;
 
 /**
@@ -16,9 +17,9 @@ public class WildEffect implements ICardEffect {
         // Las cartas WILD no tienen efectos especiales más allá del cambio de color
         // que se maneja en el controlador
         if (currentPlayer.equals(gameUno.getHumanPlayer())) {
-            System.out.println("Humano jugó WILD - cambio de color");
+            GameLog.debug("Humano jugó WILD - cambio de color");
         } else {
-            System.out.println("Máquina jugó WILD - cambio de color");
+            GameLog.debug("Máquina jugó WILD - cambio de color");
         }
     }
 
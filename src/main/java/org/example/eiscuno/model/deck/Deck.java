@@ -1,10 +1,11 @@
 package org.example.eiscuno.model.deck;
 
 import org.example.eiscuno.model.exceptions.EmptyDeckException;
-import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
 
 import java.util.Collections;
+import java.util.Random;
 import java.util.Stack;
 
 import java.io.Serializable;
@@ -21,96 +22,39 @@ public class Deck implements Serializable {
     public Deck() {
         deckOfCards = new Stack<>();
         initializeDeck();
+        Collections.shuffle(deckOfCards);
     }
 
     /**
-     * Initializes the UNO deck by creating cards based on the values defined in the {@code EISCUnoEnum} enum.
-     * Only valid cards (colored, special, and wild) are added to the deck.
-     * After all cards are added, the deck is shuffled.
+     * Creates a full deck shuffled with the given source of randomness, so that the same seed
+     * always produces the same order (e.g., for simulations and reproducible tests).
+     *
+     * @param random the source of randomness used to shuffle the deck
      */
-    private void initializeDeck() {
-        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
-            if (cardEnum.name().startsWith("GREEN_") ||
-                    cardEnum.name().startsWith("YELLOW_") ||
-                    cardEnum.name().startsWith("BLUE_") ||
-                    cardEnum.name().startsWith("RED_") ||
-                    cardEnum.name().startsWith("SKIP_") ||
-                    cardEnum.name().startsWith("RESERVE_") ||
-                    cardEnum.name().startsWith("TWO_WILD_DRAW_") ||
-                    cardEnum.name().equals("FOUR_WILD_DRAW") ||
-                    cardEnum.name().equals("WILD")) {
-                Card card = new Card(cardEnum.getFilePath(), getCardValue(cardEnum.name()), getCardColor(cardEnum.name()));
-                if ("UNKNOWN".equals(card.getValue())) {
-                    System.out.println("Carta con valor desconocido: " + cardEnum.name());
-                }
-                deckOfCards.push(card);
-            }
-        }
-        Collections.shuffle(deckOfCards);
+    public Deck(Random random) {
+        deckOfCards = new Stack<>();
+        initializeDeck();
+        Collections.shuffle(deckOfCards, random);
     }
+
     /**
-     * Extracts the value of a card based on its enum name.
-     * This includes numeric values, special actions like SKIP and REVERSE, and wild cards.
+     * Creates a deck that holds exactly the given cards, in the given order,
+     * without building or shuffling a new set of cards.
      *
-     * @param name the name of the enum constant representing the card
-     * @return the corresponding card value as a String, or "UNKNOWN" if no match is found
+     * @param deckOfCards the cards of the deck; the last element is the top card
      */
-    private String getCardValue(String name) {
-        if (name.endsWith("0")){
-            return "0";
-        } else if (name.endsWith("1")){
-            return "1";
-        } else if (name.endsWith("2")){
-            return "2";
-        } else if (name.endsWith("3")){
-            return "3";
-        } else if (name.endsWith("4")){
-            return "4";
-        } else if (name.endsWith("5")){
-            return "5";
-        } else if (name.endsWith("6")){
-            return "6";
-        } else if (name.endsWith("7")){
-            return "7";
-        } else if (name.endsWith("8")){
-            return "8";
-        } else if (name.endsWith("9")){
-            return "9";
-        } else if (name.contains("SKIP")){
-            return "SKIP";
-        } else if (name.contains("RESERVE")){
-            return "REVERSE";
-        } else if (name.contains("TWO_WILD_DRAW")){
-            return "+2";
-        } else if (name.equals("FOUR_WILD_DRAW")){
-            return "+4";
-        } else if (name.equals("WILD")){
-            return "WILD";
-        }
-        else {
-            //return null;
-            return "UNKNOWN";
-        }
-
+    public Deck(Stack<Card> deckOfCards) {
+        this.deckOfCards = deckOfCards;
     }
+
     /**
-     * Determines the color of a card based on its enum name.
-     * Wild cards (e.g., WILD, +4) return {@code null} as they have no fixed color.
-     *
-     * @param name the name of the enum constant representing the card
-     * @return the color of the card as a String, or {@code null} for wild cards
+     * Initializes the UNO deck with one card for every entry of the {@link CardCatalog},
+     * which lists the colored, special and wild cards defined in {@code EISCUnoEnum}.
+     * The cards are added in catalog order; the constructors shuffle them afterwards.
      */
-    private String getCardColor(String name){
-        if (name.contains("GREEN")) {
-            return "GREEN";
-        } else if (name.contains("YELLOW")) {
-            return "YELLOW";
-        } else if (name.contains("BLUE")) {
-            return "BLUE";
-        } else if (name.contains("RED")) {
-            return "RED";
-        } else {
-            return null; // comodines como WILD y +4 deben quedar sin color
+    private void initializeDeck() {
+        for (int id = 0; id < CardCatalog.BASE_CARD_COUNT; id++) {
+            deckOfCards.push(CardCatalog.newCard(id));
         }
     }
 
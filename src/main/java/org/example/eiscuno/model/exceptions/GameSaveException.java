@@ -0,0 +1,41 @@
+package org.example.eiscuno.model.exceptions;
+/**
+ * Custom runtime exception thrown when the UNO game state cannot be written to disk.
+ * <p>
+ * Saving is done in the background, so this exception lets the caller (usually the
+ * autosave service) report the failure instead of it being silently swallowed.
+ * The previously saved game is left untouched when it is thrown.
+ */
+public class GameSaveException extends RuntimeException {
+    /**
+     * Constructs a new {@code GameSaveException} with no detail message.
+     */
+    public GameSaveException() {
+        super();
+    }
+    /**
+     * Constructs a new {@code GameSaveException} with the specified detail message.
+     *
+     * @param message the detail message explaining the reason for the exception
+     */
+    public GameSaveException(String message) {
+        super(message);
+    }
+    /**
+     * Constructs a new {@code GameSaveException} with the specified detail message and cause.
+     *
+     * @param message the detail message explaining the reason for the exception
+     * @param cause the cause of the exception (which is saved for later retrieval)
+     */
+    public GameSaveException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    /**
+     * Constructs a new {@code GameSaveException} with the specified cause.
+     *
+     * @param cause the cause of the exception (which is saved for later retrieval)
+     */
+    public GameSaveException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.eiscuno.model.exceptions;
+/**
+ * Custom runtime exception thrown when a frame of the binary wire protocol is malformed.
+ * <p>
+ * The bytes come from another process, so anything may arrive: an unknown frame type, a length that
+ * does not match the type, a card ID or color out of range. The connection that sent such a frame
+ * cannot be trusted any more and is usually closed.
+ */
+public class WireProtocolException extends RuntimeException {
+    /**
+     * Constructs a new {@code WireProtocolException} with the specified detail message.
+     *
+     * @param message the detail message explaining the reason for the exception
+     */
+    public WireProtocolException(String message) {
+        super(message);
+    }
+    /**
+     * Constructs a new {@code WireProtocolException} with the specified detail message and cause.
+     *
+     * @param message the detail message explaining the reason for the exception
+     * @param cause the cause of the exception (which is saved for later retrieval)
+     */
+    public WireProtocolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
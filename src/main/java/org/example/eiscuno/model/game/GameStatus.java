@@ -0,0 +1,125 @@
+package org.example.eiscuno.model.game;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.metrics.FxTasks;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Observable summary of a {@link GameUno} for the HUD: hand sizes, deck size, active color and turn.
+ * <p>
+ * The game calls {@link #publish()} after every change, on whichever thread made it. The values are
+ * read right away and handed to the JavaFX Application Thread, where the properties are updated.
+ * Several publications made before the JavaFX thread gets to them are merged into one, and a
+ * property only notifies its listeners when its value really changed. The HUD widgets are bound to
+ * the properties, so each one is updated once per change and never recomputed by hand.
+ * <p>
+ * Nothing is published until {@link #attach()} is called, so a game without a view (tests,
+ * simulations) never touches the JavaFX thread.
+ */
+public class GameStatus {
+
+    private final GameUno gameUno;
+    private final ReadOnlyIntegerWrapper humanCardCount = new ReadOnlyIntegerWrapper(this, "humanCardCount");
+    private final ReadOnlyIntegerWrapper machineCardCount = new ReadOnlyIntegerWrapper(this, "machineCardCount");
+    private final ReadOnlyIntegerWrapper deckSize = new ReadOnlyIntegerWrapper(this, "deckSize");
+    private final ReadOnlyStringWrapper activeColor = new ReadOnlyStringWrapper(this, "activeColor");
+    private final ReadOnlyBooleanWrapper humanTurn = new ReadOnlyBooleanWrapper(this, "humanTurn", true);
+
+    /** Newest values not yet applied; non-null means an update is already queued on the JavaFX thread. */
+    private final AtomicReference<Snapshot> pending = new AtomicReference<>();
+    private volatile boolean attached;
+
+    /**
+     * Creates the status of the given game.
+     *
+     * @param gameUno the game whose state is published
+     */
+    GameStatus(GameUno gameUno) {
+        this.gameUno = gameUno;
+    }
+
+    /**
+     * Starts publishing changes and sets the properties to the current state of the game.
+     * Must be called on the JavaFX Application Thread, usually when the HUD is bound.
+     */
+    public void attach() {
+        attached = true;
+        pending.set(null);
+        apply(new Snapshot(gameUno));
+    }
+
+    /**
+     * Publishes the current state of the game. Does nothing until {@link #attach()} was called.
+     * May be called from any thread.
+     */
+    void publish() {
+        if (!attached) {
+            return;
+        }
+        // Solo se encola una actualización; las siguientes reemplazan los valores pendientes
+        if (pending.getAndSet(new Snapshot(gameUno)) == null) {
+            FxTasks.runLater("GameStatus.publish", () -> {
+                Snapshot snapshot = pending.getAndSet(null);
+                if (snapshot != null) {
+                    apply(snapshot);
+                }
+            });
+        }
+    }
+
+    private void apply(Snapshot snapshot) {
+        humanCardCount.set(snapshot.humanCardCount);
+        machineCardCount.set(snapshot.machineCardCount);
+        deckSize.set(snapshot.deckSize);
+        // Un comodín sin color elegido todavía conserva el color anterior
+        if (snapshot.activeColor != null) {
+            activeColor.set(snapshot.activeColor);
+        }
+        humanTurn.set(snapshot.humanTurn);
+    }
+
+    /** @return number of cards in the hand of the human player */
+    public ReadOnlyIntegerProperty humanCardCountProperty() { return humanCardCount.getReadOnlyProperty(); }
+    /** @return number of cards in the hand of the machine player */
+    public ReadOnlyIntegerProperty machineCardCountProperty() { return machineCardCount.getReadOnlyProperty(); }
+    /** @return number of cards left in the deck */
+    public ReadOnlyIntegerProperty deckSizeProperty() { return deckSize.getReadOnlyProperty(); }
+    /** @return color of the card on top of the table (e.g. "RED"), or null before the first card */
+    public ReadOnlyStringProperty activeColorProperty() { return activeColor.getReadOnlyProperty(); }
+    /** @return true while it is the turn of the human player */
+    public ReadOnlyBooleanProperty humanTurnProperty() { return humanTurn.getReadOnlyProperty(); }
+
+    /**
+     * The values published at one moment, read on the thread that changed the game.
+     */
+    private static final class Snapshot {
+        private final int humanCardCount;
+        private final int machineCardCount;
+        private final int deckSize;
+        private final String activeColor;
+        private final boolean humanTurn;
+
+        private Snapshot(GameUno gameUno) {
+            this.humanCardCount = gameUno.getHumanPlayer().getCardCount();
+            this.machineCardCount = gameUno.getMachinePlayer().getCardCount();
+            this.deckSize = gameUno.getDeck().getDeckOfCards().size();
+            this.activeColor = topColor(gameUno);
+            this.humanTurn = gameUno.isHumanTurn();
+        }
+
+        private static String topColor(GameUno gameUno) {
+            if (gameUno.getTable().getCardsTable().isEmpty()) {
+                return null;
+            }
+            Card topCard = gameUno.getTable().getCurrentCardOnTheTable();
+            return topCard.getColor();
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package org.example.eiscuno.model.game;
 
-import javafx.application.Platform;
-import javafx.scene.control.Alert;
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.card.effects.CardEffectManager;
 import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.exceptions.EmptyDeckException;
 import org.example.eiscuno.model.exceptions.IllegalGameStateException;
 import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.metrics.FxTasks;
+import org.example.eiscuno.model.metrics.GameMetrics;
+import org.example.eiscuno.model.metrics.events.CardDrawnEvent;
+import org.example.eiscuno.model.metrics.events.CardPlayedEvent;
+import org.example.eiscuno.model.metrics.events.PenaltyDrawEvent;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 
@@ -29,10 +33,15 @@ public class GameUno implements IGameUno {
 
     private boolean gameOver = false;
     private boolean humanTurn = true;
+    /** When the current turn started, for the turn latency metrics. */
+    private long turnStartNanos = System.nanoTime();
 
     // Gestor de efectos siguiendo el principio Open/Closed
     private CardEffectManager cardEffectManager;
 
+    /** Observable summary of this game, published after every change for the HUD. */
+    private final GameStatus status = new GameStatus(this);
+
     /**
      * Constructs a new GameUno instance.
      *
@@ -49,6 +58,15 @@ public class GameUno implements IGameUno {
         this.cardEffectManager = new CardEffectManager();
     }
 
+    /**
+     * Returns the observable summary of this game. Call {@link GameStatus#attach()} before binding to it.
+     *
+     * @return the status of this game
+     */
+    public GameStatus getStatus() {
+        return status;
+    }
+
     // Métodos públicos para el CardEffectManager
     public void skipHumanTurn() {
         this.skipHumanTurn = true;
@@ -78,8 +96,20 @@ public class GameUno implements IGameUno {
         return humanTurn;
     }
 
+    /**
+     * Gives the turn to the human player or to the machine. When the turn changes hands, the length
+     * of the turn that ended is recorded in {@link GameMetrics#HUMAN_TURN} or {@link GameMetrics#MACHINE_TURN}.
+     *
+     * @param humanTurn true if it is now the human player's turn
+     */
     public void setHumanTurn(boolean humanTurn) {
+        if (humanTurn != this.humanTurn) {
+            long now = System.nanoTime();
+            (this.humanTurn ? GameMetrics.HUMAN_TURN : GameMetrics.MACHINE_TURN).record(now - turnStartNanos);
+            turnStartNanos = now;
+        }
         this.humanTurn = humanTurn;
+        status.publish();
     }
 
     /**
@@ -90,9 +120,19 @@ public class GameUno implements IGameUno {
      */
     @Override
     public void startGame() {
+        startGame(5);
+    }
+
+    /**
+     * Starts a new UNO game by distributing the given number of cards to each player and placing
+     * an initial card on the table, which is never a special card.
+     *
+     * @param cardsPerPlayer the number of cards dealt to each player
+     */
+    public void startGame(int cardsPerPlayer) {
         try {
-            for (int i = 0; i < 10; i++) {
-                if (i < 5) {
+            for (int i = 0; i < 2 * cardsPerPlayer; i++) {
+                if (i < cardsPerPlayer) {
                     humanPlayer.addCard(this.deck.takeCard());
                 } else {
                     machinePlayer.addCard(this.deck.takeCard());
@@ -111,8 +151,10 @@ public class GameUno implements IGameUno {
             this.table.addCardOnTheTable(initialCard);
 
         } catch (EmptyDeckException e) {
-            System.out.println("No se pudo iniciar el juego: " + e.getMessage());
+            GameLog.error("No se pudo iniciar el juego: {}", e.getMessage());
         }
+        turnStartNanos = System.nanoTime();
+        status.publish();
 
     }
     /**
@@ -169,9 +211,12 @@ public class GameUno implements IGameUno {
         if (isGameOver()) {
             throw new IllegalGameStateException("No se pueden robar cartas: el juego ha terminado");
         }
+        CardDrawnEvent event = new CardDrawnEvent();
+        event.begin();
 
         if (deck.isEmpty()) {
-            System.out.println("Mazo vacío. No se pueden tomar más cartas.");
+            // Habitual en partidas largas; quien llama decide si avisar al jugador
+            GameLog.debug("Mazo vacío. No se pueden tomar más cartas.");
 
             // Validamos si nadie puede jugar (el juego debe terminar)
             if (!canAnyPlayerPlay()) {
@@ -184,9 +229,18 @@ public class GameUno implements IGameUno {
         try{
             Card card = this.deck.takeCard();
             player.addCard(card);
+            notifyCardDrawn(player, card);
+            status.publish();
+            if (event.shouldCommit()) {
+                event.player = player.getTypePlayer();
+                event.value = card.getValue();
+                event.color = card.getColor();
+                event.deckSize = deck.getDeckOfCards().size();
+                event.commit();
+            }
             // Notificamos cambios si hay un listener
             if (listener != null) {
-                Platform.runLater(() -> {
+                FxTasks.runLater("GameUno.drawCard", () -> {
                     if (player == humanPlayer) {
                         listener.onHumanCardsChanged();
                     } else {
@@ -197,7 +251,7 @@ public class GameUno implements IGameUno {
             return card;
         } catch (EmptyDeckException e){
             // Esto en teoría nunca debería ocurrir porque ya verificamos antes isEmpty()
-            System.err.println("Error inesperado: " + e.getMessage());
+            GameLog.error("Error inesperado: {}", e.getMessage());
             throw e; // Relanzamos la excepción
         }
     }
@@ -210,26 +264,40 @@ public class GameUno implements IGameUno {
      */
     @Override
     public void eatCard(Player player, int numberOfCards) {
+        PenaltyDrawEvent event = new PenaltyDrawEvent();
+        event.begin();
+        int drawn = 0;
         for (int i = 0; i < numberOfCards; i++) {
             try {
-                player.addCard(this.deck.takeCard());
+                Card card = this.deck.takeCard();
+                player.addCard(card);
+                notifyCardDrawn(player, card);
+                drawn++;
             } catch (EmptyDeckException e) {
-                System.out.println("No se pudo robar carta: " + e.getMessage());
+                GameLog.debug("No se pudo robar carta: {}", e.getMessage());
                 break; // Salimos del ciclo si ya no hay cartas
             }
         }
+        status.publish();
+        if (event.shouldCommit()) {
+            event.player = player.getTypePlayer();
+            event.requested = numberOfCards;
+            event.drawn = drawn;
+            event.commit();
+        }
         // Llamar al listener para actualizar visualmente
         if (listener != null) {
             if (player == humanPlayer) {
-                Platform.runLater(listener::onHumanCardsChanged);
+                FxTasks.runLater("GameUno.eatCard", listener::onHumanCardsChanged);
             } else {
-                Platform.runLater(listener::onMachineCardsChanged);
+                FxTasks.runLater("GameUno.eatCard", listener::onMachineCardsChanged);
             }
         }
     }
 
     /**
-     * Places a card on the table during the game.
+     * Places a card on the table during the game, removes it from the hand of the player
+     * who held it and applies its special effect.
      *
      * @param card The card to be placed on the table.
      */
@@ -238,6 +306,8 @@ public class GameUno implements IGameUno {
         if (gameOver) {
             throw new IllegalGameStateException("No se puede jugar carta: el juego ha terminado.");
         }
+        CardPlayedEvent event = new CardPlayedEvent();
+        event.begin();
 
         Card topCard = table.getCurrentCardOnTheTable();
         if (!card.canBePlayedOver(topCard)) {
@@ -247,26 +317,51 @@ public class GameUno implements IGameUno {
         this.table.addCardOnTheTable(card);
 
         // Determinar quién jugó la carta y quién es el oponente
-        Player currentPlayer = humanPlayer.getCardsPlayer().contains(card) ? humanPlayer : machinePlayer;
+        Player currentPlayer = humanPlayer.hasCard(card) ? humanPlayer : machinePlayer;
         Player opponent = currentPlayer == humanPlayer ? machinePlayer : humanPlayer;
-
+        currentPlayer.removeCard(card);
+        GameMetrics.CARDS_PLAYED.increment();
 
         // Usar el CardEffectManager para aplicar efectos (principio Open/Closed)
         cardEffectManager.applyCardEffect(this, card, currentPlayer, opponent);
+        status.publish();
+
+        if (moveListener != null) {
+            moveListener.onCardPlayed(this, currentPlayer, card);
+        }
+        if (event.shouldCommit()) {
+            event.player = currentPlayer.getTypePlayer();
+            event.value = card.getValue();
+            event.color = card.getColor();
+            event.cardsLeft = currentPlayer.getCardCount();
+            event.commit();
+        }
+    }
+
+    /**
+     * Sets the color chosen for the wild card ("WILD" or "+4") on top of the table.
+     *
+     * @param color the chosen color (e.g., "RED", "GREEN", "BLUE" or "YELLOW")
+     * @throws IndexOutOfBoundsException if there are no cards on the table
+     */
+    public void chooseColor(String color) {
+        Card topCard = table.getCurrentCardOnTheTable();
+        topCard.setColor(color);
+        status.publish();
+        if (moveListener != null) {
+            moveListener.onColorChosen(this, topCard);
+        }
     }
     /**
      * Ends the game due to an empty deck when no player can make a valid move.
-     * Displays an informational alert to notify the user and sets the game state to over.
+     * Notifies the listener, which shows a non-blocking message, and sets the game state to over.
      */
     private void endGameByEmptyDeck() {
-        Platform.runLater(() -> {
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle("Fin del Juego");
-            alert.setHeaderText("¡El mazo se agotó!");
-            alert.setContentText("Nadie puede jugar más. El juego ha terminado.");
-            alert.showAndWait();
-            setGameOver(true);
-        });
+        if (listener != null) {
+            FxTasks.runLater("GameUno.endGameByEmptyDeck", () -> listener.onGameMessage("¡El mazo se agotó!",
+                    "Nadie puede jugar más. El juego ha terminado."));
+        }
+        setGameOver(true);
     }
 
     /**
@@ -277,13 +372,13 @@ public class GameUno implements IGameUno {
     @Override
     public void haveSungOne(String playerWhoSang) {
         try {
-            if (playerWhoSang.equals("HUMAN_PLAYER")) {
-                machinePlayer.addCard(this.deck.takeCard());
-            } else {
-                humanPlayer.addCard(this.deck.takeCard());
-            }
+            Player penalized = playerWhoSang.equals("HUMAN_PLAYER") ? machinePlayer : humanPlayer;
+            Card card = this.deck.takeCard();
+            penalized.addCard(card);
+            notifyCardDrawn(penalized, card);
+            status.publish();
         } catch (EmptyDeckException e) {
-            System.out.println("No se pudo castigar por no decir UNO: " + e.getMessage());
+            GameLog.warn("No se pudo castigar por no decir UNO: {}", e.getMessage());
         }
     }
 
@@ -370,6 +465,25 @@ public class GameUno implements IGameUno {
     public void setGameEventListener(IGameEventListener listener) {
         this.listener = listener;
     }
+    /**
+     * Listener for moves, used to persist every card movement (e.g., the move journal).
+     */
+    private IGameMoveListener moveListener;
+    /**
+     * Sets the listener notified after every card movement and color choice.
+     *
+     * @param moveListener the {@code IGameMoveListener} to register, or null to remove it
+     */
+    public void setMoveListener(IGameMoveListener moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    private void notifyCardDrawn(Player player, Card card) {
+        GameMetrics.CARDS_DRAWN.increment();
+        if (moveListener != null) {
+            moveListener.onCardDrawn(this, player, card);
+        }
+    }
     /**
      * Checks whether any player (human or machine) has at least one card
      * that can be legally played on the current top card of the table.
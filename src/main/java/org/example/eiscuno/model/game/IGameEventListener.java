@@ -3,4 +3,13 @@ package org.example.eiscuno.model.game;
 public interface IGameEventListener {
     void onHumanCardsChanged();
     void onMachineCardsChanged();
+
+    /**
+     * Called when the game has a message for the player that needs no answer,
+     * such as the deck running out. Must not block.
+     *
+     * @param title   a short title
+     * @param message the text of the message
+     */
+    void onGameMessage(String title, String message);
 }
@@ -0,0 +1,39 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Listener notified by {@link GameUno} after every move that changes where a card is,
+ * or the color in play. It is called on the thread that made the move, once the game
+ * state already reflects it.
+ */
+public interface IGameMoveListener {
+
+    /**
+     * Called after a card left a player's hand and was placed on the table,
+     * and after its special effect was applied.
+     *
+     * @param gameUno the game the move belongs to
+     * @param player the player who played the card
+     * @param card the card now on top of the table
+     */
+    void onCardPlayed(GameUno gameUno, Player player, Card card);
+
+    /**
+     * Called after a card was taken from the top of the deck and added to a player's hand.
+     *
+     * @param gameUno the game the move belongs to
+     * @param player the player who received the card
+     * @param card the card drawn
+     */
+    void onCardDrawn(GameUno gameUno, Player player, Card card);
+
+    /**
+     * Called after a color was chosen for the wild card on top of the table.
+     *
+     * @param gameUno the game the move belongs to
+     * @param topCard the wild card, already holding the chosen color
+     */
+    void onColorChosen(GameUno gameUno, Card topCard);
+}
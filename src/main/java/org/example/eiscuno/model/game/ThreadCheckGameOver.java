@@ -1,7 +1,7 @@
 package org.example.eiscuno.model.game;
 
-import javafx.application.Platform;
 import org.example.eiscuno.controller.GameUnoController;
+import org.example.eiscuno.model.metrics.FxTasks;
 import org.example.eiscuno.model.player.Player;
 /**
  * A background thread that continuously checks if either player has won the UNO game
@@ -48,14 +48,14 @@ public class ThreadCheckGameOver extends Thread{
                 throw new RuntimeException(e);
             }
 
-            if (humanPlayer.getCardsPlayer().isEmpty()) {
+            if (humanPlayer.getCardCount() == 0) {
                 gameUno.setGameOver(true);
                 running = false;
-                Platform.runLater(() -> gameUnocontroller.showGameOver(true));
-            } else if (machinePlayer.getCardsPlayer().isEmpty()) {
+                FxTasks.runLater("ThreadCheckGameOver", () -> gameUnocontroller.showGameOver(true));
+            } else if (machinePlayer.getCardCount() == 0) {
                 gameUno.setGameOver(true);
                 running = false;
-                Platform.runLater(() -> gameUnocontroller.showGameOver(false));
+                FxTasks.runLater("ThreadCheckGameOver", () -> gameUnocontroller.showGameOver(false));
             }
         }
     }
@@ -0,0 +1,107 @@
+package org.example.eiscuno.model.logging;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Leveled, asynchronous logger of the game.
+ * <p>
+ * A call whose level is disabled returns after one comparison. An enabled call stores the pattern and
+ * up to two arguments in a lock-free {@link LogRingBuffer}, wakes the appender if it is idle, and
+ * returns; the arguments are turned into text later by the {@link ThreadLogAppender}, so callers should
+ * pass values that do not change afterwards (strings, numbers) rather than mutable game objects. If the
+ * buffer is full the message is dropped, never waited for.
+ * <p>
+ * The level is read from {@code -Deiscuno.log.level} (DEBUG, INFO, WARN, ERROR or OFF; INFO by default)
+ * and can be changed at run time with {@link #setLevel(LogLevel)}. Pending messages are written when
+ * the JVM exits, or on demand with {@link #flush(long)}.
+ * <pre>
+ * GameLog.debug("Máquina robó: {} - {}", card.getValue(), card.getColor());
+ * </pre>
+ */
+public final class GameLog {
+
+    private static final int CAPACITY = 8192;
+
+    private static final LogRingBuffer BUFFER = new LogRingBuffer(CAPACITY);
+    private static final ThreadLogAppender APPENDER = new ThreadLogAppender(BUFFER);
+    private static volatile LogLevel level = LogLevel.parse(System.getProperty("eiscuno.log.level"), LogLevel.INFO);
+
+    static {
+        APPENDER.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(500), "LogFlush"));
+    }
+
+    private GameLog() {
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    /**
+     * Tells whether messages of the given level are logged, to skip building arguments that cost something.
+     *
+     * @param messageLevel the level of the message
+     * @return true if a message of that level would be logged
+     */
+    public static boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel.compareTo(level) >= 0 && messageLevel != LogLevel.OFF;
+    }
+
+    public static void debug(String message) { log(LogLevel.DEBUG, message, null, null); }
+    public static void debug(String pattern, Object arg) { log(LogLevel.DEBUG, pattern, arg, null); }
+    public static void debug(String pattern, Object first, Object second) { log(LogLevel.DEBUG, pattern, first, second); }
+
+    public static void info(String message) { log(LogLevel.INFO, message, null, null); }
+    public static void info(String pattern, Object arg) { log(LogLevel.INFO, pattern, arg, null); }
+    public static void info(String pattern, Object first, Object second) { log(LogLevel.INFO, pattern, first, second); }
+
+    public static void warn(String message) { log(LogLevel.WARN, message, null, null); }
+    public static void warn(String pattern, Object arg) { log(LogLevel.WARN, pattern, arg, null); }
+    public static void warn(String pattern, Object first, Object second) { log(LogLevel.WARN, pattern, first, second); }
+
+    public static void error(String message) { log(LogLevel.ERROR, message, null, null); }
+    public static void error(String pattern, Object arg) { log(LogLevel.ERROR, pattern, arg, null); }
+    public static void error(String pattern, Object first, Object second) { log(LogLevel.ERROR, pattern, first, second); }
+
+    private static void log(LogLevel messageLevel, String pattern, Object first, Object second) {
+        if (messageLevel.compareTo(level) < 0) {
+            return;
+        }
+        if (BUFFER.offer(messageLevel, System.currentTimeMillis(), Thread.currentThread().getName(), pattern, first, second)) {
+            APPENDER.wakeUp();
+        }
+    }
+
+    /**
+     * Waits until every message logged before this call has been written.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if everything was written in time
+     */
+    public static boolean flush(long timeoutMillis) {
+        long target = BUFFER.getProduced();
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        LockSupport.unpark(APPENDER);
+        while (BUFFER.getConsumed() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(200_000L);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of messages dropped because the buffer was full.
+     *
+     * @return the dropped message count
+     */
+    public static long getDroppedCount() {
+        return BUFFER.getDropped();
+    }
+}
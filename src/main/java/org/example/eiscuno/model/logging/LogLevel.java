@@ -0,0 +1,35 @@
+package org.example.eiscuno.model.logging;
+
+/**
+ * Severity of a log message, from the most verbose to the most severe. {@link #OFF} disables logging.
+ */
+public enum LogLevel {
+    /** Every move of the game: cards played and drawn, effects, colors chosen. */
+    DEBUG,
+    /** Events of the game as a whole: a game loaded, UNO declared, statistics at the end. */
+    INFO,
+    /** Something went wrong but the game goes on, such as an invalid move. */
+    WARN,
+    /** A failure the player may notice, such as a save that could not be written. */
+    ERROR,
+    /** Nothing is logged. */
+    OFF;
+
+    /**
+     * Parses a level name, ignoring case.
+     *
+     * @param name     the name of the level, e.g. "debug"
+     * @param fallback the level returned when the name is null or unknown
+     * @return the level
+     */
+    public static LogLevel parse(String name, LogLevel fallback) {
+        if (name != null) {
+            for (LogLevel level : values()) {
+                if (level.name().equalsIgnoreCase(name.trim())) {
+                    return level;
+                }
+            }
+        }
+        return fallback;
+    }
+}
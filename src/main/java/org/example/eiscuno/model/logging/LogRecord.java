@@ -0,0 +1,30 @@
+package org.example.eiscuno.model.logging;
+
+/**
+ * One log message as taken out of the {@link LogRingBuffer}; reused by the appender for every message.
+ */
+final class LogRecord {
+    LogLevel level;
+    long timeMillis;
+    String thread;
+    String pattern;
+    Object first;
+    Object second;
+
+    /**
+     * Writes the message, replacing each "{}" of the pattern with the next argument.
+     *
+     * @param out the builder that receives the message
+     */
+    void formatMessage(StringBuilder out) {
+        Object[] args = {first, second};
+        int next = 0;
+        int from = 0;
+        int at;
+        while (next < args.length && (at = pattern.indexOf("{}", from)) >= 0) {
+            out.append(pattern, from, at).append(args[next++]);
+            from = at + 2;
+        }
+        out.append(pattern, from, pattern.length());
+    }
+}
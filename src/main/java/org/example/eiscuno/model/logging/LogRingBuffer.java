@@ -0,0 +1,123 @@
+package org.example.eiscuno.model.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded lock-free queue of log messages for many producers and a single consumer.
+ * <p>
+ * The slots are allocated once, as parallel arrays, and each has a sequence number that says whose turn
+ * it is: a producer claims the next position with one CAS, fills the slot and publishes it by advancing
+ * its sequence; the consumer takes it when the sequence says it is full and hands it back by advancing
+ * the sequence one lap. Producers never wait: when the buffer is full the message is dropped and counted.
+ */
+final class LogRingBuffer {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final LogLevel[] levels;
+    private final long[] times;
+    private final String[] threads;
+    private final String[] patterns;
+    private final Object[] firsts;
+    private final Object[] seconds;
+
+    /** Next position to claim by a producer. */
+    private final AtomicLong tail = new AtomicLong();
+    /** Next position to take by the consumer; written only by the consumer. */
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        levels = new LogLevel[size];
+        times = new long[size];
+        threads = new String[size];
+        patterns = new String[size];
+        firsts = new Object[size];
+        seconds = new Object[size];
+    }
+
+    /**
+     * Adds a message. Safe to call from any thread; never blocks.
+     *
+     * @return false if the buffer was full and the message was dropped
+     */
+    boolean offer(LogLevel level, long timeMillis, String thread, String pattern, Object first, Object second) {
+        long position;
+        int slot;
+        while (true) {
+            position = tail.get();
+            slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                // El consumidor aún no libera este lugar: el buffer está lleno
+                dropped.increment();
+                return false;
+            }
+            // Otro productor tomó la posición; se intenta con la siguiente
+        }
+        levels[slot] = level;
+        times[slot] = timeMillis;
+        threads[slot] = thread;
+        patterns[slot] = pattern;
+        firsts[slot] = first;
+        seconds[slot] = second;
+        sequences.set(slot, position + 1);
+        return true;
+    }
+
+    /**
+     * Takes the oldest message. Must only be called by the single consumer.
+     *
+     * @param into the record that receives the message
+     * @return false if there was no message ready
+     */
+    boolean poll(LogRecord into) {
+        long position = head.get();
+        int slot = (int) (position & mask);
+        if (sequences.get(slot) != position + 1) {
+            return false;
+        }
+        into.level = levels[slot];
+        into.timeMillis = times[slot];
+        into.thread = threads[slot];
+        into.pattern = patterns[slot];
+        into.first = firsts[slot];
+        into.second = seconds[slot];
+        // Soltar las referencias para no retener objetos hasta la siguiente vuelta
+        threads[slot] = null;
+        patterns[slot] = null;
+        firsts[slot] = null;
+        seconds[slot] = null;
+        sequences.set(slot, position + mask + 1);
+        head.set(position + 1);
+        return true;
+    }
+
+    /** Number of positions claimed by producers so far. */
+    long getProduced() { return tail.get(); }
+
+    /** Number of messages taken by the consumer so far. */
+    long getConsumed() { return head.get(); }
+
+    /** Number of messages dropped because the buffer was full. */
+    long getDropped() { return dropped.sum(); }
+
+    int getCapacity() { return mask + 1; }
+}
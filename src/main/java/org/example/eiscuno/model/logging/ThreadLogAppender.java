@@ -0,0 +1,99 @@
+package org.example.eiscuno.model.logging;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Daemon thread that takes the messages out of the {@link LogRingBuffer}, formats them and writes them
+ * to the console: DEBUG and INFO to {@code System.out}, WARN and ERROR to {@code System.err}.
+ * <p>
+ * All the formatting and the synchronized console I/O happen here, off the JavaFX thread and the game
+ * threads. The streams are flushed once per batch, when the buffer runs empty. While it is empty the
+ * thread parks until a producer wakes it: it first raises a {@code sleeping} flag and checks the buffer
+ * once more, and producers only call {@link #wakeUp()}, which unparks it when the flag is up, so an
+ * idle appender never wakes and a busy one costs producers a single volatile read.
+ */
+class ThreadLogAppender extends Thread {
+
+    private static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final LogRingBuffer buffer;
+    private final LogRecord record = new LogRecord();
+    private final StringBuilder line = new StringBuilder(256);
+
+    /** Set while the thread is parked, or about to park, on an empty buffer. */
+    private volatile boolean sleeping;
+
+    ThreadLogAppender(LogRingBuffer buffer) {
+        super("LogAppender");
+        this.buffer = buffer;
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            if (drain()) {
+                continue;
+            }
+            sleeping = true;
+            // Un productor que publicó antes de ver la bandera no despierta al hilo: se vuelve a mirar
+            if (buffer.getProduced() == buffer.getConsumed()) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+        }
+    }
+
+    /**
+     * Wakes the thread if it is parked on an empty buffer. Called by producers after each message;
+     * costs one volatile read while the thread is busy.
+     */
+    void wakeUp() {
+        if (sleeping) {
+            LockSupport.unpark(this);
+        }
+    }
+
+    /**
+     * Writes every message ready in the buffer.
+     *
+     * @return true if at least one message was written
+     */
+    private boolean drain() {
+        boolean wrote = false;
+        PrintStream out = null;
+        PrintStream err = null;
+        while (buffer.poll(record)) {
+            line.setLength(0);
+            TIME.formatTo(Instant.ofEpochMilli(record.timeMillis), line);
+            line.append(' ').append(record.level.name());
+            if (record.level.name().length() < 5) {
+                line.append(' ');
+            }
+            line.append(" [").append(record.thread).append("] ");
+            record.formatMessage(line);
+            if (record.level.compareTo(LogLevel.WARN) >= 0) {
+                err = System.err;
+                err.println(line);
+            } else {
+                out = System.out;
+                out.println(line);
+            }
+            record.first = null;
+            record.second = null;
+            wrote = true;
+        }
+        if (out != null) {
+            out.flush();
+        }
+        if (err != null) {
+            err.flush();
+        }
+        return wrote;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.exceptions.EmptyDeckException;
+import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.metrics.events.MachineDecisionEvent;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The move of the machine on its turn, without the thread, the pauses or the UI of {@link ThreadPlayMachine}.
+ * <p>
+ * The machine plays the first card of its hand that can be played, choosing a random color for WILD
+ * and +4; if none can be played it draws one card. Kept apart from the thread so the move can be run
+ * headless, e.g. by the allocation budget tests.
+ */
+public final class MachineTurn {
+
+    private static final String[] COLORS = {"RED", "GREEN", "BLUE", "YELLOW"};
+
+    private final GameUno gameUno;
+    private final Player machinePlayer;
+
+    /**
+     * Creates the turn logic of the machine.
+     *
+     * @param gameUno       the game the machine plays in
+     * @param machinePlayer the machine player
+     */
+    public MachineTurn(GameUno gameUno, Player machinePlayer) {
+        this.gameUno = gameUno;
+        this.machinePlayer = machinePlayer;
+    }
+
+    /**
+     * Plays the first playable card of the machine's hand.
+     *
+     * @param decision the Flight Recorder event that receives the move made
+     * @return the card played, or null if no card of the hand can be played
+     * @throws InvalidCardPlayException if the game rejects the card
+     */
+    public Card playCard(MachineDecisionEvent decision) throws InvalidCardPlayException {
+        for (int i = 0; i < machinePlayer.getCardCount(); i++) {
+            Card card = machinePlayer.getCard(i);
+            if (gameUno.canPlay(card)) {
+                decision.action = "play";
+                gameUno.playCard(card);
+
+                if ("WILD".equals(card.getValue()) || "+4".equals(card.getValue())) {
+                    String selectedColor = COLORS[ThreadLocalRandom.current().nextInt(COLORS.length)];
+                    gameUno.chooseColor(selectedColor);
+                    GameLog.debug("Máquina eligió el color: {}", selectedColor);
+                }
+                decision.value = card.getValue();
+                decision.color = card.getColor();
+                return card;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Draws one card for the machine; the game notifies its listener so the hand is refreshed.
+     *
+     * @param decision the Flight Recorder event that receives the move made
+     * @return the card drawn
+     * @throws EmptyDeckException if the deck is empty
+     */
+    public Card drawCard(MachineDecisionEvent decision) throws EmptyDeckException {
+        decision.action = "draw";
+        Card drawnCard = gameUno.drawCard(machinePlayer);
+        decision.value = drawnCard.getValue();
+        decision.color = drawnCard.getColor();
+        GameLog.debug("Máquina robó: {} - {}", drawnCard.getValue(), drawnCard.getColor());
+        return drawnCard;
+    }
+}
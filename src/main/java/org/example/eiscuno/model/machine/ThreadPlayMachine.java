@@ -1,7 +1,5 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.application.Platform;
-import javafx.scene.control.Alert;
 import javafx.scene.image.ImageView;
 import org.example.eiscuno.controller.GameUnoController;
 import org.example.eiscuno.model.card.Card;
@@ -9,6 +7,10 @@ import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.exceptions.EmptyDeckException;
 import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.metrics.FxTasks;
+import org.example.eiscuno.model.metrics.GameMetrics;
+import org.example.eiscuno.model.metrics.events.MachineDecisionEvent;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 /**
@@ -31,6 +33,7 @@ public class ThreadPlayMachine extends Thread {
     private Deck deck;
     private volatile boolean hasPlayerPlayed;
     private GameUnoController gameUnocontroller;
+    private final MachineTurn machineTurn;
     /**
      * Constructs a new {@code ThreadPlayMachine} to control the machine player's actions.
      *
@@ -50,15 +53,16 @@ public class ThreadPlayMachine extends Thread {
         this.deck = deck;
         this.hasPlayerPlayed = false;
         this.gameUnocontroller = gameUnocontroller;
+        this.machineTurn = new MachineTurn(gameUno, machinePlayer);
     }
     /**
      * Runs the thread loop that manages the machine player's turn.
      * <p>
      * While the game is not over and the thread is not interrupted:
      * - Checks if the machine's turn should be skipped and clears the skip flag if so.
-     * - Displays a temporary "Machine's turn" label for 1 second.
+     * - Passes the turn to the machine, which shows the "Machine's turn" label, and waits 1 second.
      * - Plays a valid card or draws if no playable card is available.
-     * - Clears the human skip flag if set.
+     * - Clears the human skip flag if set, otherwise gives the turn back to the human player.
      * <p>
      * Handles interruptions and unexpected exceptions gracefully.
      */
@@ -74,8 +78,8 @@ public class ThreadPlayMachine extends Thread {
                         continue;
                     }
 
-                    // Mostrar la label "Turno de la máquina..." por 1 segundo
-                    Platform.runLater(() -> gameUnocontroller.showMachineTurnTemporarily());
+                    // El turno pasa a la máquina; el HUD muestra "Turno de la máquina..." mientras dure
+                    gameUno.setHumanTurn(false);
 
                     // Esperar 1 segundo para mostrar el mensaje
                     Thread.sleep(1000);
@@ -85,21 +89,28 @@ public class ThreadPlayMachine extends Thread {
                         return;
                     }
 
-                    // Jugar la carta
-                    putCardOnTheTable();
+                    // Jugar la carta; la pausa anterior no cuenta como tiempo de decisión
+                    long thinkStart = System.nanoTime();
+                    MachineDecisionEvent decision = new MachineDecisionEvent();
+                    decision.handSize = machinePlayer.getCardCount();
+                    decision.begin();
+                    putCardOnTheTable(decision);
+                    decision.commit();
+                    GameMetrics.MACHINE_THINK.recordSince(thinkStart);
 
                     if (gameUno.isSkipHumanTurn()) {
                         gameUno.clearSkipHumanTurn();
                     } else {
                         hasPlayerPlayed = false;
+                        gameUno.setHumanTurn(true);
                     }
 
                 } catch (InterruptedException e) {
-                    System.out.println("ThreadPlayMachine interrumpido");
+                    GameLog.debug("ThreadPlayMachine interrumpido");
                     Thread.currentThread().interrupt();
                     break;
                 } catch (Exception e) {
-                    System.err.println("Error inesperado en ThreadPlayMachine: " + e.getMessage());
+                    GameLog.error("Error inesperado en ThreadPlayMachine: {}", e.getMessage());
                 }
             }
         }
@@ -113,61 +124,32 @@ public class ThreadPlayMachine extends Thread {
      * <p>
      * If no playable card is found, the machine draws a card from the deck and updates the UI.
      * <p>
-     * Displays warning alerts if an invalid card is played or if the deck is empty.
+     * Shows a non-modal warning notification if an invalid card is played or if the deck is empty.
+     *
+     * @param decision the Flight Recorder event that receives the move made
      */
-    private void putCardOnTheTable() {
-        for (int i = 0; i < machinePlayer.getCardsPlayer().size(); i++) {
-            Card card = machinePlayer.getCard(i);
-            if (gameUno.canPlay(card)) {
-                try {
-                    gameUno.playCard(card);
-                    tableImageView.setImage(card.getImage());
-                    machinePlayer.removeCard(i);
-
-                    String colorToSet = card.getColor();
-
-                    if ("WILD".equals(card.getValue()) || "+4".equals(card.getValue())) {
-                        String[] colors = {"RED", "GREEN", "BLUE", "YELLOW"};
-                        String selectedColor = colors[(int)(Math.random() * colors.length)];
-                        table.getCurrentCardOnTheTable().setColor(selectedColor);
-                        colorToSet = selectedColor;
-                        System.out.println("Máquina eligió el color: " + selectedColor);
-                    }
-
-                    final String finalColor = colorToSet;
-                    Platform.runLater(() -> {
-                        gameUnocontroller.printCardsMachinePlayer();
-                        gameUnocontroller.updateColorIndicator(finalColor);
-                    });
-
-                } catch (InvalidCardPlayException e) {
-                    System.out.println(" Carta inválida: " + e.getMessage());
-                    Platform.runLater(() -> {
-                        Alert alert = new Alert(Alert.AlertType.WARNING);
-                        alert.setTitle("Error de juego");
-                        alert.setHeaderText(null);
-                        alert.setContentText("La máquina intentó jugar una carta inválida: " + e.getMessage());
-                        alert.showAndWait();
-                    });
-                }
-                return;
-            }
+    private void putCardOnTheTable(MachineDecisionEvent decision) {
+        Card card;
+        try {
+            card = machineTurn.playCard(decision);
+        } catch (InvalidCardPlayException e) {
+            GameLog.warn("Carta inválida: {}", e.getMessage());
+            gameUnocontroller.getNotifications().warning("Error de juego", "La máquina intentó jugar una carta inválida: " + e.getMessage());
+            return;
+        }
+        if (card != null) {
+            card.showIn(tableImageView);
+            // El indicador de color se actualiza solo a partir del estado publicado por el juego
+            FxTasks.runLater("ThreadPlayMachine.putCardOnTheTable", gameUnocontroller::printCardsMachinePlayer);
+            return;
         }
 
         try {
-            Card drawnCard = deck.takeCard();
-            machinePlayer.addCard(drawnCard);
-            Platform.runLater(() -> gameUnocontroller.printCardsMachinePlayer());
-            System.out.println("Máquina robó: " + drawnCard.getValue() + " - " + drawnCard.getColor());
+            // drawCard notifica al controlador para refrescar la mano de la máquina
+            machineTurn.drawCard(decision);
         } catch (EmptyDeckException e) {
-            System.out.println("Mazo vacío. No se puede robar más.");
-            Platform.runLater(() -> {
-                Alert alert = new Alert(Alert.AlertType.WARNING);
-                alert.setTitle("Mazo vacío");
-                alert.setHeaderText(null);
-                alert.setContentText("El mazo está vacío. No se puede robar más cartas.");
-                alert.showAndWait();
-            });
+            GameLog.warn("Mazo vacío. No se puede robar más.");
+            gameUnocontroller.getNotifications().warning("Mazo vacío", "El mazo está vacío. No se puede robar más cartas.");
         }
     }
     /**
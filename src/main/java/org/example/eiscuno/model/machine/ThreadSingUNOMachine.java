@@ -1,6 +1,7 @@
 package org.example.eiscuno.model.machine;
 
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.logging.GameLog;
 
 import java.util.ArrayList;
 /**
@@ -29,7 +30,7 @@ public class ThreadSingUNOMachine implements Runnable{
             try {
                 Thread.sleep((long) (Math.random() * 5000));
             } catch (InterruptedException e) {
-                System.out.println("ThreadSingUNOMachine interrumpido");
+                GameLog.debug("ThreadSingUNOMachine interrumpido");
                 Thread.currentThread().interrupt();
                 break;
             }
@@ -50,7 +51,7 @@ public class ThreadSingUNOMachine implements Runnable{
      */
     private void hasOneCardTheHumanPlayer(){
         if(cardsPlayer.size() == 1){
-            System.out.println("UNO");
+            GameLog.info("UNO");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.example.eiscuno.model.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter. Incrementing is a single {@link LongAdder} add, cheap enough for any
+ * thread and any call site, including the game model.
+ */
+public class Counter implements CounterMBean {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Creates a counter at zero. Counters are normally obtained from {@link MetricsRegistry#counter(String)}.
+     *
+     * @param name the name of the counter, e.g. "cards.drawn"
+     */
+    public Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public String getName() { return name; }
+
+    @Override
+    public long getCount() { return count.sum(); }
+
+    @Override
+    public void reset() {
+        count.reset();
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.eiscuno.model.metrics;
+
+/**
+ * JMX view of a {@link Counter}.
+ */
+public interface CounterMBean {
+
+    long getCount();
+
+    void reset();
+}
@@ -0,0 +1,107 @@
+package org.example.eiscuno.model.metrics;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry point for work handed to the JavaFX Application Thread, measured per call site.
+ * <p>
+ * {@link #runLater(String, Runnable)} behaves exactly like {@link Platform#runLater(Runnable)} unless
+ * the JavaFX monitor is enabled with {@code -Deiscuno.fxmonitor=true}. When enabled, every task records
+ * two durations under the name of its call site:
+ * <ul>
+ *     <li>the wait: from being queued until the JavaFX thread starts it, which grows when the thread is
+ *         busy or blocked by something else (a slow refresh, a synchronous save, a modal dialog);</li>
+ *     <li>the run: how long the task itself kept the JavaFX thread busy.</li>
+ * </ul>
+ */
+public final class FxTasks {
+
+    private static final boolean ENABLED = Boolean.getBoolean("eiscuno.fxmonitor");
+
+    private static final Map<String, Site> SITES = new ConcurrentHashMap<>();
+
+    private FxTasks() {
+    }
+
+    /**
+     * Tells whether the JavaFX monitor is enabled for this run.
+     *
+     * @return true if {@code eiscuno.fxmonitor} is set to true
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Runs the task on the JavaFX Application Thread at some time in the future. May be called from any thread.
+     *
+     * @param site short name of the call site, e.g. "GameUno.drawCard"
+     * @param task the task to run
+     */
+    public static void runLater(String site, Runnable task) {
+        if (!ENABLED) {
+            Platform.runLater(task);
+            return;
+        }
+        Site stats = SITES.computeIfAbsent(site, Site::new);
+        long queuedNanos = System.nanoTime();
+        Platform.runLater(() -> {
+            long startNanos = System.nanoTime();
+            stats.wait.record(startNanos - queuedNanos);
+            try {
+                task.run();
+            } finally {
+                stats.run.recordSince(startNanos);
+            }
+        });
+    }
+
+    /**
+     * Returns the run-time histogram of every call site seen so far, slowest first.
+     *
+     * @return the run times, one histogram per call site
+     */
+    public static List<LatencyHistogram> getRunTimes() {
+        List<LatencyHistogram> result = new ArrayList<>();
+        for (Site site : SITES.values()) {
+            result.add(site.run);
+        }
+        result.sort(Comparator.comparingLong(LatencyHistogram::getMaxNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Returns one summary line per call site, with its run time and its wait before running.
+     *
+     * @return the summaries, slowest call site first
+     */
+    public static List<String> summaries() {
+        List<Site> sites = new ArrayList<>(SITES.values());
+        sites.sort(Comparator.comparingLong((Site site) -> site.run.getMaxNanos()).reversed());
+        List<String> lines = new ArrayList<>();
+        for (Site site : sites) {
+            lines.add(site.run.summary());
+            lines.add("  " + site.wait.summary());
+        }
+        return lines;
+    }
+
+    /**
+     * Statistics of one call site.
+     */
+    private static final class Site {
+        private final LatencyHistogram run;
+        private final LatencyHistogram wait;
+
+        private Site(String name) {
+            this.run = new LatencyHistogram(name);
+            this.wait = new LatencyHistogram("espera");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.eiscuno.model.metrics;
+
+/**
+ * The metrics recorded by the game, kept as constants so that recording is a direct call on the metric.
+ * Every one of them lives in the {@link MetricsRegistry} under the name shown.
+ */
+public final class GameMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getInstance();
+
+    /** "game.turn.human": how long each turn of the human player lasted. */
+    public static final LatencyHistogram HUMAN_TURN = REGISTRY.histogram("game.turn.human");
+    /** "game.turn.machine": how long each turn of the machine lasted, including its pause before playing. */
+    public static final LatencyHistogram MACHINE_TURN = REGISTRY.histogram("game.turn.machine");
+    /** "machine.think": time the machine spent choosing and playing its card, without the pause. */
+    public static final LatencyHistogram MACHINE_THINK = REGISTRY.histogram("machine.think");
+    /** "game.save": time to write one snapshot of the game. */
+    public static final LatencyHistogram SAVE = REGISTRY.histogram("game.save");
+    /** "game.load": time to read the saved game and replay its journal. */
+    public static final LatencyHistogram LOAD = REGISTRY.histogram("game.load");
+    /** "ui.refresh": time of each refresh of a hand on screen; its count is the number of refreshes. */
+    public static final LatencyHistogram UI_REFRESH = REGISTRY.histogram("ui.refresh");
+    /** "cards.drawn": cards taken from the deck by either player, penalties included. */
+    public static final Counter CARDS_DRAWN = REGISTRY.counter("cards.drawn");
+    /** "cards.played": cards put on the table by either player. */
+    public static final Counter CARDS_PLAYED = REGISTRY.counter("cards.played");
+
+    private GameMetrics() {
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.eiscuno.model.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Value sampled on demand, such as the number of cards left in the deck. The supplier is read from
+ * whatever thread asks (e.g. a JMX client), so it must only read state that is safe to read there.
+ */
+public class Gauge implements GaugeMBean {
+
+    private final String name;
+    private volatile LongSupplier supplier;
+
+    /**
+     * Creates a gauge. Gauges are normally obtained from {@link MetricsRegistry#gauge(String, LongSupplier)}.
+     *
+     * @param name     the name of the gauge, e.g. "game.deck.size"
+     * @param supplier the source of the value
+     */
+    public Gauge(String name, LongSupplier supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Replaces the source of the value, e.g. when a new game starts.
+     *
+     * @param supplier the new source of the value
+     */
+    public void setSupplier(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    public String getName() { return name; }
+
+    @Override
+    public long getValue() {
+        return supplier.getAsLong();
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.eiscuno.model.metrics;
+
+/**
+ * JMX view of a {@link Gauge}.
+ */
+public interface GaugeMBean {
+
+    long getValue();
+}
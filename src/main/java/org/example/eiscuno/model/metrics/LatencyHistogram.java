@@ -0,0 +1,128 @@
+package org.example.eiscuno.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two buckets measured in nanoseconds.
+ * <p>
+ * Bucket {@code i} counts samples in the range {@code [2^i, 2^(i+1))} nanoseconds,
+ * so recording a sample is a single {@code numberOfLeadingZeros} plus one atomic
+ * increment. Percentiles are approximated by the upper bound of the bucket that
+ * contains them, which is precise enough to spot regressions.
+ */
+public class LatencyHistogram implements LatencyHistogramMBean {
+
+    /** Number of buckets; 2^63 ns covers any realistic duration. */
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param name a short, human readable name used in {@link #summary()}
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the measured duration in nanoseconds; negative values count as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, as returned by {@link System#nanoTime()}.
+     *
+     * @param startNanos the start timestamp
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    private static int bucketOf(long nanos) {
+        return nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * Returns an upper bound of the requested percentile.
+     *
+     * @param percentile a value between 0 and 100
+     * @return the upper bound, in nanoseconds, of the bucket holding that percentile, or 0 when empty
+     */
+    public long percentile(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(total * (percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= Math.max(1, rank)) {
+                return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return maxNanos.get();
+    }
+
+    @Override
+    public String getName() { return name; }
+    @Override
+    public long getCount() { return count.sum(); }
+    @Override
+    public long getMaxNanos() { return maxNanos.get(); }
+    @Override
+    public long getP50Nanos() { return percentile(50); }
+    @Override
+    public long getP99Nanos() { return percentile(99); }
+
+    /**
+     * Returns the mean of all recorded samples.
+     *
+     * @return the mean in nanoseconds, or 0 when empty
+     */
+    @Override
+    public long getMeanNanos() {
+        long total = count.sum();
+        return total == 0 ? 0L : totalNanos.sum() / total;
+    }
+
+    /**
+     * Clears every recorded sample.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Returns a one-line summary in microseconds, suitable for console logging.
+     *
+     * @return the summary text
+     */
+    public String summary() {
+        return String.format("%s: n=%d media=%dus p50<=%dus p99<=%dus max=%dus",
+                name, getCount(), getMeanNanos() / 1000, percentile(50) / 1000,
+                percentile(99) / 1000, getMaxNanos() / 1000);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.eiscuno.model.metrics;
+
+/**
+ * JMX view of a {@link LatencyHistogram}. Every duration is in nanoseconds.
+ */
+public interface LatencyHistogramMBean {
+
+    String getName();
+
+    long getCount();
+
+    long getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getMaxNanos();
+
+    void reset();
+}
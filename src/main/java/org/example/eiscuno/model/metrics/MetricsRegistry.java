@@ -0,0 +1,161 @@
+package org.example.eiscuno.model.metrics;
+
+import org.example.eiscuno.model.logging.GameLog;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process registry of the application's metrics: {@link Counter}s, {@link Gauge}s and
+ * {@link LatencyHistogram}s, each identified by a dotted name such as "game.turn.human".
+ * <p>
+ * Asking twice for the same name returns the same metric, so call sites keep a reference (see
+ * {@link GameMetrics}) and recording never goes through the registry. After {@link #exposeJmx()},
+ * every metric, present or future, is also a JMX MBean named
+ * {@code org.example.eiscuno:type=<Counter|Gauge|Histogram>,name=<name>}, which can be inspected
+ * with {@code jconsole} or {@code jcmd}.
+ */
+public final class MetricsRegistry {
+
+    private static final String JMX_DOMAIN = "org.example.eiscuno";
+
+    private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+    private volatile MBeanServer mBeanServer;
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Returns the registry of the application.
+     *
+     * @return the single registry instance
+     */
+    public static MetricsRegistry getInstance() {
+        return MetricsRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the counter with the given name, creating it at zero if needed.
+     *
+     * @param name the name of the counter
+     * @return the counter
+     * @throws IllegalArgumentException if the name belongs to another kind of metric
+     */
+    public Counter counter(String name) {
+        return get(name, Counter.class, () -> new Counter(name));
+    }
+
+    /**
+     * Returns the gauge with the given name, creating it if needed; an existing gauge takes the new supplier.
+     *
+     * @param name     the name of the gauge
+     * @param supplier the source of the value
+     * @return the gauge
+     * @throws IllegalArgumentException if the name belongs to another kind of metric
+     */
+    public Gauge gauge(String name, LongSupplier supplier) {
+        Gauge gauge = get(name, Gauge.class, () -> new Gauge(name, supplier));
+        gauge.setSupplier(supplier);
+        return gauge;
+    }
+
+    /**
+     * Returns the latency histogram with the given name, creating it if needed.
+     *
+     * @param name the name of the histogram, also used in its {@link LatencyHistogram#summary()}
+     * @return the histogram
+     * @throws IllegalArgumentException if the name belongs to another kind of metric
+     */
+    public LatencyHistogram histogram(String name) {
+        return get(name, LatencyHistogram.class, () -> new LatencyHistogram(name));
+    }
+
+    private <T> T get(String name, Class<T> type, Supplier<T> factory) {
+        Object metric = metrics.computeIfAbsent(name, key -> {
+            T created = factory.get();
+            if (mBeanServer != null) {
+                register(key, created);
+            }
+            return created;
+        });
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("La métrica " + name + " ya existe como "
+                    + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Registers every metric in the platform MBean server, and every metric created afterwards.
+     * Calling it again has no effect.
+     */
+    public synchronized void exposeJmx() {
+        if (mBeanServer != null) {
+            return;
+        }
+        mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        metrics.forEach(this::register);
+    }
+
+    private void register(String name, Object metric) {
+        try {
+            mBeanServer.registerMBean(metric, objectName(name, metric));
+        } catch (InstanceAlreadyExistsException e) {
+            // Ya registrada por otra llamada concurrente a exposeJmx
+        } catch (JMException e) {
+            GameLog.warn("No se pudo exponer la métrica {} por JMX: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the JMX name of a metric.
+     *
+     * @param name   the name of the metric
+     * @param metric the metric
+     * @return the object name, e.g. {@code org.example.eiscuno:type=Counter,name=cards.drawn}
+     * @throws JMException if the name cannot be part of an object name
+     */
+    public static ObjectName objectName(String name, Object metric) throws JMException {
+        String type = metric instanceof LatencyHistogram ? "Histogram" : metric.getClass().getSimpleName();
+        return new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * Returns one line per metric, sorted by name, for console logging.
+     *
+     * @return the summary lines
+     */
+    public List<String> summaries() {
+        List<String> names = new ArrayList<>(metrics.keySet());
+        names.sort(null);
+        List<String> lines = new ArrayList<>();
+        for (String name : names) {
+            Object metric = metrics.get(name);
+            if (metric instanceof Counter) {
+                lines.add(name + ": " + ((Counter) metric).getCount());
+            } else if (metric instanceof Gauge) {
+                lines.add(name + ": " + ((Gauge) metric).getValue());
+            } else {
+                lines.add(((LatencyHistogram) metric).summary());
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Holder class for the singleton instance of MetricsRegistry.
+     * The instance is created the first time {@link #getInstance()} is called.
+     */
+    private static class MetricsRegistryHolder {
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+}
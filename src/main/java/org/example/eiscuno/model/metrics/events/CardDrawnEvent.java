@@ -0,0 +1,30 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of {@code GameUno.drawCard}: one card taken from the deck by choice.
+ */
+@Name("org.example.eiscuno.CardDrawn")
+@Label("Card Drawn")
+@Category({"EISC Uno", "Engine"})
+@Description("A card taken from the deck by a player")
+public class CardDrawnEvent extends Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Value")
+    public String value;
+
+    @Label("Color")
+    public String color;
+
+    @Label("Deck Size")
+    @Description("Cards left in the deck after drawing")
+    public int deckSize;
+}
@@ -0,0 +1,28 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of {@code CardEffectManager.applyCardEffect}: the effect of a special card.
+ */
+@Name("org.example.eiscuno.CardEffect")
+@Label("Card Effect")
+@Category({"EISC Uno", "Engine"})
+@Description("The effect of a special card applied to the opponent")
+public class CardEffectEvent extends Event {
+
+    @Label("Value")
+    public String value;
+
+    @Label("Effect")
+    @Description("Class of the effect applied, empty if the card has none")
+    public String effect;
+
+    @Label("Target")
+    @Description("Player affected by the effect")
+    public String target;
+}
@@ -0,0 +1,31 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of {@code GameUno.playCard}: validating the card, moving it to the table and
+ * applying its effect.
+ */
+@Name("org.example.eiscuno.CardPlayed")
+@Label("Card Played")
+@Category({"EISC Uno", "Engine"})
+@Description("A card put on the table, including its effect")
+public class CardPlayedEvent extends Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Value")
+    public String value;
+
+    @Label("Color")
+    public String color;
+
+    @Label("Cards Left")
+    @Description("Cards in the hand of the player after playing")
+    public int cardsLeft;
+}
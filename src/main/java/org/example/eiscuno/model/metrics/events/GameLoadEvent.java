@@ -0,0 +1,29 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of {@code GameUnoController.loadGameState}: decoding the save and replaying the
+ * move journal.
+ */
+@Name("org.example.eiscuno.GameLoad")
+@Label("Game Load")
+@Category({"EISC Uno", "Persistence"})
+@Description("A saved game read from disk and brought up to date with its journal")
+public class GameLoadEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Found")
+    @Description("Whether a valid saved game was found")
+    public boolean found;
+
+    @Label("Journal Generation")
+    @Description("Generation of the move journal the game was resumed from")
+    public long journalGeneration;
+}
@@ -0,0 +1,28 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of saving the game: capturing the snapshot on the JavaFX thread, and writing it in
+ * the background.
+ */
+@Name("org.example.eiscuno.GameSave")
+@Label("Game Save")
+@Category({"EISC Uno", "Persistence"})
+@Description("A snapshot of the game captured or written to disk")
+public class GameSaveEvent extends Event {
+
+    @Label("Phase")
+    @Description("\"snapshot\" when captured and queued, \"write\" when written to disk")
+    public String phase;
+
+    @Label("File")
+    public String file;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,25 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of refreshing a hand on screen, on the JavaFX thread.
+ */
+@Name("org.example.eiscuno.HandRefresh")
+@Label("Hand Refresh")
+@Category({"EISC Uno", "UI"})
+@Description("A hand of cards redrawn on screen")
+public class HandRefreshEvent extends Event {
+
+    @Label("Hand")
+    @Description("\"human\" or \"machine\"")
+    public String hand;
+
+    @Label("Cards")
+    @Description("Cards in the hand")
+    public int cards;
+}
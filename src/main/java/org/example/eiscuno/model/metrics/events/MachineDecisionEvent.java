@@ -0,0 +1,34 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of the machine turn in {@code ThreadPlayMachine}: choosing a card and playing it,
+ * or drawing.
+ */
+@Name("org.example.eiscuno.MachineDecision")
+@Label("Machine Decision")
+@Category({"EISC Uno", "AI"})
+@Description("The machine choosing and making its move, without the pause before it")
+public class MachineDecisionEvent extends Event {
+
+    @Label("Action")
+    @Description("\"play\" or \"draw\"")
+    public String action;
+
+    @Label("Value")
+    @Description("Value of the card played or drawn, empty if the deck was empty")
+    public String value;
+
+    @Label("Color")
+    @Description("Color of the card played (the chosen one for a wild card) or drawn")
+    public String color;
+
+    @Label("Hand Size")
+    @Description("Cards in the hand of the machine before its move")
+    public int handSize;
+}
@@ -0,0 +1,28 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of {@code GameUno.eatCard}: the cards a player must take after a +2 or +4.
+ */
+@Name("org.example.eiscuno.PenaltyDraw")
+@Label("Penalty Draw")
+@Category({"EISC Uno", "Engine"})
+@Description("Cards a player had to take from the deck")
+public class PenaltyDrawEvent extends Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Requested")
+    @Description("Cards the player had to take")
+    public int requested;
+
+    @Label("Drawn")
+    @Description("Cards actually taken; fewer than requested if the deck ran out")
+    public int drawn;
+}
@@ -86,6 +86,15 @@ public class Player implements IPlayer, Serializable  {
             cardsPlayer.remove(index);
         }
     }
+    /**
+     * Removes the given card from the player's hand.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the hand and has been removed, false otherwise
+     */
+    public boolean removeCard(Card card) {
+        return cardsPlayer.remove(card);
+    }
     /**
      * Retrieves the card at the specified index from the player's hand.
      *
@@ -119,6 +128,15 @@ public class Player implements IPlayer, Serializable  {
     public boolean hasPlayableCard(Card topCard) {
         return cardChecker.hasPlayableCard(cardsPlayer, topCard);
     }
+    /**
+     * Checks whether the given card is in the player's hand, without copying the hand.
+     *
+     * @param card the card to look for
+     * @return true if the player holds the card, false otherwise
+     */
+    public boolean hasCard(Card card) {
+        return cardsPlayer.contains(card);
+    }
     /**
      * Returns the number of cards in the player's hand.
      *
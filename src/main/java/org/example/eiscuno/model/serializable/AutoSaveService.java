@@ -0,0 +1,261 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.metrics.GameMetrics;
+import org.example.eiscuno.model.metrics.LatencyHistogram;
+import org.example.eiscuno.model.metrics.events.GameSaveEvent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind autosave for the UNO game state.
+ * <p>
+ * Callers hand over immutable {@link GameUnoState} snapshots through {@link #submit(GameUnoState)},
+ * which never blocks. A single background writer keeps only the newest snapshot: every snapshot
+ * submitted while a write is in progress, or during the coalescing window that follows it, replaces
+ * the previous pending one. The writer therefore touches the disk at most once per window, and a
+ * crash can lose at most {@code coalesceMillis} plus the duration of one write.
+ * <p>
+ * Snapshots carry the position of the move journal they were taken at; a snapshot older than
+ * the last one written is dropped, so a late background write never replaces a newer save.
+ * A snapshot that a later step depends on, such as rotating the move journal, is handed over with
+ * {@link #submitDurable(GameUnoState)}: it is never coalesced away and its future completes once
+ * it is on disk, still without blocking the caller.
+ * The time spent on each write is recorded in {@link #getSaveLatency()}.
+ */
+public class AutoSaveService {
+
+    /** Default coalescing window, which is also the bound on data lost after a crash. */
+    public static final long DEFAULT_COALESCE_MILLIS = 250;
+
+    private final ISerializableFileHandler handler;
+    private final String filename;
+    private final long coalesceNanos;
+
+    private final AtomicReference<GameUnoState> pending = new AtomicReference<>();
+    private final AtomicReference<DurableWrite> durable = new AtomicReference<>();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final LatencyHistogram saveLatency = new LatencyHistogram("Guardado");
+    private final Object writeLock = new Object();
+    private GameUnoState lastWritten;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    /**
+     * Creates and starts an autosave service with the default coalescing window.
+     *
+     * @param handler  the handler used to write each snapshot
+     * @param filename the file the snapshots are written to
+     */
+    public AutoSaveService(ISerializableFileHandler handler, String filename) {
+        this(handler, filename, DEFAULT_COALESCE_MILLIS);
+    }
+
+    /**
+     * Creates and starts an autosave service.
+     *
+     * @param handler        the handler used to write each snapshot
+     * @param filename       the file the snapshots are written to
+     * @param coalesceMillis minimum time between two writes; bounds the data lost on a crash
+     */
+    public AutoSaveService(ISerializableFileHandler handler, String filename, long coalesceMillis) {
+        this.handler = handler;
+        this.filename = filename;
+        this.coalesceNanos = TimeUnit.MILLISECONDS.toNanos(coalesceMillis);
+        this.writer = new Thread(this::runWriter, "AutoSaveService");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a snapshot to be written in the background, replacing any snapshot not yet written.
+     *
+     * @param state the snapshot to persist; must not be modified afterwards
+     */
+    public void submit(GameUnoState state) {
+        submitted.incrementAndGet();
+        if (pending.getAndSet(state) != null) {
+            coalesced.incrementAndGet();
+        }
+        LockSupport.unpark(writer);
+    }
+
+    /**
+     * Writes the pending snapshots, if any, on the calling thread and waits for them to finish.
+     */
+    public void flush() {
+        DurableWrite write = durable.getAndSet(null);
+        if (write != null) {
+            write.complete(write(write.state));
+        }
+        GameUnoState state = pending.getAndSet(null);
+        if (state != null) {
+            write(state);
+        }
+    }
+
+    /**
+     * Queues a snapshot that must reach the disk, such as the snapshot the move journal is
+     * compacted into. Unlike {@link #submit(GameUnoState)} it is not replaced by later snapshots
+     * and skips the coalescing window; the caller is never blocked.
+     * <p>
+     * Only one durable snapshot can be queued at a time: a new one replaces a queued one that is
+     * not being written yet, whose future then completes with {@code false}.
+     *
+     * @param state the snapshot to persist; must not be modified afterwards
+     * @return a future completed on the writer thread with true once the snapshot is on disk,
+     *         or false if it could not be written or was dropped
+     */
+    public CompletableFuture<Boolean> submitDurable(GameUnoState state) {
+        submitted.incrementAndGet();
+        DurableWrite write = new DurableWrite(state);
+        DurableWrite replaced = durable.getAndSet(write);
+        if (replaced != null) {
+            coalesced.incrementAndGet();
+            replaced.complete(false);
+        }
+        LockSupport.unpark(writer);
+        return write;
+    }
+
+    /**
+     * Stops the background writer after persisting the newest pending snapshot.
+     * <p>
+     * Waits at most {@code timeoutMillis} for the writer to finish its current write.
+     *
+     * @param timeoutMillis maximum time to wait for the writer thread
+     */
+    public void shutdown(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        GameLog.info("Autoguardado detenido. {}", getStatistics());
+    }
+
+    /**
+     * Main loop of the writer thread: write the newest snapshot, then wait for the
+     * coalescing window so intermediate snapshots are dropped instead of written.
+     */
+    private void runWriter() {
+        while (true) {
+            DurableWrite write = durable.getAndSet(null);
+            if (write != null) {
+                write.complete(write(write.state));
+                continue;
+            }
+            GameUnoState state = pending.getAndSet(null);
+            if (state != null) {
+                write(state);
+                long deadline = System.nanoTime() + coalesceNanos;
+                long remaining;
+                // Una instantánea duradera no espera la ventana de agrupamiento
+                while (running && durable.get() == null && (remaining = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+            } else if (!running) {
+                return;
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private boolean write(GameUnoState state) {
+        synchronized (writeLock) {
+            if (lastWritten != null && state.isOlderThan(lastWritten)) {
+                coalesced.incrementAndGet();
+                return false;
+            }
+            long start = System.nanoTime();
+            GameSaveEvent event = new GameSaveEvent();
+            event.phase = "write";
+            event.file = filename;
+            event.begin();
+            try {
+                handler.serialize(filename, state);
+                written.incrementAndGet();
+                lastWritten = state;
+                event.success = true;
+                return true;
+            } catch (Exception e) {
+                GameLog.error("Error al autoguardar el estado del juego: {}", e.getMessage());
+                return false;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                saveLatency.record(elapsed);
+                GameMetrics.SAVE.record(elapsed);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Returns the histogram of write durations.
+     *
+     * @return the save latency histogram
+     */
+    public LatencyHistogram getSaveLatency() {
+        return saveLatency;
+    }
+
+    /**
+     * Returns the number of snapshots handed over, durable ones included.
+     *
+     * @return the submitted snapshot count
+     */
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    /**
+     * Returns the number of snapshots written to disk.
+     *
+     * @return the written snapshot count
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Returns the number of snapshots never written: replaced by a newer one before being written,
+     * or dropped for being older than the last one written.
+     *
+     * @return the coalesced snapshot count
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns a one-line summary of the service activity.
+     *
+     * @return submitted, written and coalesced counts plus the latency summary
+     */
+    public String getStatistics() {
+        return "enviados=" + submitted.get() + " escritos=" + written.get()
+                + " descartados=" + coalesced.get() + " | " + saveLatency.summary();
+    }
+
+    /**
+     * A snapshot queued through {@link #submitDurable(GameUnoState)}, completed once written.
+     */
+    private static final class DurableWrite extends CompletableFuture<Boolean> {
+        private final GameUnoState state;
+
+        DurableWrite(GameUnoState state) {
+            this.state = state;
+        }
+    }
+}
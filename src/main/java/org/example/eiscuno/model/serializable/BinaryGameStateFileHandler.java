@@ -0,0 +1,202 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.exceptions.GameSaveException;
+import org.example.eiscuno.model.logging.GameLog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of {@link ISerializableFileHandler} that stores a {@link GameUnoState}
+ * with the compact binary format of {@link GameUnoStateCodec} through NIO buffers and channels.
+ * <p>
+ * Saves are crash-safe: the encoded state is written to a temporary file in a single write,
+ * forced to disk, and then atomically renamed over the save file in a single step, so the save
+ * file always exists and is always complete. Before that, the save being replaced is hard-linked
+ * (or copied, where links are not supported) to the previous generation ({@code <filename>.bak})
+ * without being removed. On load the CRC of the current save is verified and the previous
+ * generation is used if it is missing or corrupt. A leftover {@code <filename>.tmp} of an
+ * interrupted save is never read.
+ * <p>
+ * Files that do not start with the binary magic number are assumed to be saves written by
+ * the former Java-serialization format and are read through {@link SerializableFileHandler},
+ * so existing saved games can still be continued.
+ */
+public class BinaryGameStateFileHandler implements ISerializableFileHandler {
+
+    /** Suffix of the temporary file a save is written to before being renamed. */
+    private static final String TEMP_SUFFIX = ".tmp";
+    /** Suffix of the previous save generation. */
+    private static final String BACKUP_SUFFIX = ".bak";
+
+    /**
+     * The save file this handler wrote last. It is known to be complete, so the next save can keep it
+     * as the previous generation without reading it back to check its CRC.
+     */
+    private volatile Path lastWritten;
+
+    /**
+     * Encodes the given state and atomically replaces the specified file with it.
+     *
+     * @param filename the name of the file to write
+     * @param element  the {@link GameUnoState} to save
+     * @throws IllegalArgumentException if the element is not a {@code GameUnoState}
+     * @throws GameSaveException        if the state could not be written; the previous save is kept
+     */
+    @Override
+    public void serialize(String filename, Object element) {
+        if (!(element instanceof GameUnoState)) {
+            throw new IllegalArgumentException("Solo se puede guardar un GameUnoState en formato binario");
+        }
+        GameUnoState state = (GameUnoState) element;
+        ByteBuffer buffer = ByteBuffer.allocate(GameUnoStateCodec.maxEncodedSize(state));
+        GameUnoStateCodec.encode(state, buffer);
+        buffer.flip();
+
+        Path target = Path.of(filename).toAbsolutePath();
+        Path temp = Path.of(filename + TEMP_SUFFIX).toAbsolutePath();
+        Path backup = Path.of(filename + BACKUP_SUFFIX).toAbsolutePath();
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            if (Files.exists(target) && (target.equals(lastWritten) || isValid(target))) {
+                keepAsBackup(target, backup);
+            }
+            move(temp, target);
+            forceDirectory(target.getParent());
+            lastWritten = target;
+        } catch (IOException e) {
+            throw new GameSaveException("No se pudo guardar la partida en " + filename, e);
+        }
+    }
+
+    /**
+     * Reads and decodes the game state stored in the specified file, falling back to the
+     * previous generation if the current one is missing or fails its checksum.
+     *
+     * @param filename the name of the file to read
+     * @return the decoded {@link GameUnoState}, or null if no valid save exists
+     */
+    @Override
+    public Object deserialize(String filename) {
+        Object state = read(Path.of(filename));
+        if (state == null) {
+            state = read(Path.of(filename + BACKUP_SUFFIX));
+            if (state != null) {
+                GameLog.warn("Partida recuperada de la copia anterior ({})", filename + BACKUP_SUFFIX);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Tells whether a save that can be continued exists, without decoding it.
+     *
+     * @param filename the name of the save file
+     * @return true if the save file or its previous generation passes the checksum
+     */
+    public boolean hasValidSave(String filename) {
+        return isValid(Path.of(filename)) || isValid(Path.of(filename + BACKUP_SUFFIX));
+    }
+
+    private boolean isValid(Path path) {
+        ByteBuffer buffer = readFully(path);
+        if (buffer == null) {
+            return false;
+        }
+        // Las partidas antiguas no tienen CRC; se consideran válidas si existen
+        return !GameUnoStateCodec.hasMagic(buffer) || GameUnoStateCodec.verify(buffer);
+    }
+
+    private Object read(Path path) {
+        ByteBuffer buffer = readFully(path);
+        if (buffer == null) {
+            return null;
+        }
+        if (!GameUnoStateCodec.hasMagic(buffer)) {
+            return new SerializableFileHandler().deserialize(path.toString());
+        }
+        try {
+            return GameUnoStateCodec.decode(buffer);
+        } catch (IllegalArgumentException e) {
+            GameLog.warn("Partida guardada inválida ({}): {}", path.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static ByteBuffer readFully(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Leer hasta llenar el buffer
+            }
+            buffer.flip();
+            return buffer;
+        } catch (IOException e) {
+            GameLog.warn("No se pudo leer {}: {}", path.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Makes the current save the previous generation without removing it: the save is hard-linked,
+     * or copied, to a temporary name that is then renamed over the backup, so neither file is ever
+     * missing or incomplete.
+     */
+    private static void keepAsBackup(Path target, Path backup) throws IOException {
+        Path link = Path.of(backup + TEMP_SUFFIX);
+        Files.deleteIfExists(link);
+        try {
+            Files.createLink(link, target);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // Sin enlaces duros (por ejemplo, FAT): se copia y se fuerza la copia
+            Files.copy(target, link, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(link, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+        move(link, backup);
+    }
+
+    /**
+     * Renames a file over another one, atomically where the file system allows it.
+     * Also used by {@link MoveJournal} to replace the journal.
+     */
+    static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the directory entry of the renamed file where the platform allows it.
+     * Not every file system supports opening a directory, so failures are ignored.
+     */
+    static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // No soportado en este sistema de archivos (por ejemplo, Windows)
+        }
+    }
+}
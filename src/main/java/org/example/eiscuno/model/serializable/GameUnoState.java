@@ -1,10 +1,14 @@
 package org.example.eiscuno.model.serializable;
 
+import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Stack;
 /**
  * Represents the complete state of an UNO game, including the deck, table, players,
  * turn information, and blocked statuses. This class is serializable to allow saving
@@ -20,6 +24,8 @@ public class GameUnoState implements Serializable {
     private boolean isHumanTurn;
     private boolean isHumanBlocked;
     private boolean isMachineBlocked;
+    private long journalGeneration;
+    private int journalPosition;
     /**
      * Constructs a new {@code GameUnoState} with the specified game components and statuses.
      *
@@ -52,6 +58,93 @@ public class GameUnoState implements Serializable {
         this.isMachineBlocked = isMachineBlocked;
     }
 
+    /**
+     * Constructs a new {@code GameUnoState} that also records how far the move journal had
+     * progressed when the snapshot was taken.
+     *
+     * @param deck the deck of cards used in the game
+     * @param table the current state of the table with played cards
+     * @param humanPlayer the human player in the game
+     * @param machinePlayer the machine player in the game
+     * @param gameOver indicates if the game has ended
+     * @param isHumanTurn indicates if it is currently the human player's turn
+     * @param isHumanBlocked indicates if the human player is currently blocked from playing
+     * @param isMachineBlocked indicates if the machine player is currently blocked from playing
+     * @param journalGeneration the generation of the move journal this snapshot belongs to
+     * @param journalPosition the number of journal records of that generation already included
+     */
+    public GameUnoState(
+            Deck deck,
+            Table table,
+            Player humanPlayer,
+            Player machinePlayer,
+            boolean gameOver,
+            boolean isHumanTurn,
+            boolean isHumanBlocked,
+            boolean isMachineBlocked,
+            long journalGeneration,
+            int journalPosition
+    ) {
+        this(deck, table, humanPlayer, machinePlayer, gameOver, isHumanTurn, isHumanBlocked, isMachineBlocked);
+        this.journalGeneration = journalGeneration;
+        this.journalPosition = journalPosition;
+    }
+
+    /**
+     * Captures a snapshot of the given game that is safe to hand over to another thread.
+     * <p>
+     * The card containers (deck, table and both hands) are copied, so later moves do not
+     * change the snapshot while it is being written in the background. The {@link Card}
+     * objects themselves are shared.
+     *
+     * @param gameUno the game to capture
+     * @return a new {@code GameUnoState} detached from the live game containers
+     */
+    public static GameUnoState snapshotOf(GameUno gameUno) {
+        return snapshotOf(gameUno, 0L, 0);
+    }
+
+    /**
+     * Captures a snapshot of the given game tagged with a move journal position.
+     *
+     * @param gameUno the game to capture
+     * @param journalGeneration the current generation of the move journal
+     * @param journalPosition the number of records of that generation reflected in the game
+     * @return a new {@code GameUnoState} detached from the live game containers
+     * @see #snapshotOf(GameUno)
+     */
+    public static GameUnoState snapshotOf(GameUno gameUno, long journalGeneration, int journalPosition) {
+        Stack<Card> deckCards = new Stack<>();
+        deckCards.addAll(gameUno.getDeck().getDeckOfCards());
+
+        Table tableCopy = new Table();
+        for (Card card : new ArrayList<>(gameUno.getTable().getCardsTable())) {
+            tableCopy.addCardOnTheTable(card);
+        }
+
+        return new GameUnoState(
+                new Deck(deckCards),
+                tableCopy,
+                copyOf(gameUno.getHumanPlayer()),
+                copyOf(gameUno.getMachinePlayer()),
+                gameUno.isGameOver(),
+                gameUno.isHumanTurn(),
+                gameUno.isSkipHumanTurn(),
+                gameUno.isSkipMachineTurn(),
+                journalGeneration,
+                journalPosition
+        );
+    }
+
+    private static Player copyOf(Player player) {
+        Player copy = new Player(player.getTypePlayer());
+        copy.setPlayerName(player.getPlayerName());
+        for (Card card : player.getCardsPlayer()) {
+            copy.addCard(card);
+        }
+        return copy;
+    }
+
     // Getters and Setters
 
     public Deck getDeck() { return deck; }
@@ -62,6 +155,22 @@ public class GameUnoState implements Serializable {
     public boolean isHumanTurn() { return isHumanTurn; }
     public boolean isHumanBlocked() { return isHumanBlocked; }
     public boolean isMachineBlocked() { return isMachineBlocked; }
+    public long getJournalGeneration() { return journalGeneration; }
+    public int getJournalPosition() { return journalPosition; }
+
+    /**
+     * Tells whether this snapshot reflects fewer journaled moves than another one,
+     * so a late background write never replaces a newer save.
+     *
+     * @param other the snapshot to compare with
+     * @return true if this snapshot was taken at an earlier journal generation or position
+     */
+    public boolean isOlderThan(GameUnoState other) {
+        if (journalGeneration != other.journalGeneration) {
+            return journalGeneration < other.journalGeneration;
+        }
+        return journalPosition < other.journalPosition;
+    }
 
     /*public void setDeck(Deck deck) { this.deck = deck; }
     public void setTable(Table table) { this.table = table; }
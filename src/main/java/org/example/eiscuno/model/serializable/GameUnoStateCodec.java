@@ -0,0 +1,255 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Stack;
+import java.util.zip.CRC32;
+
+/**
+ * Hand-rolled, versioned binary encoding of a {@link GameUnoState}.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ *  magic    int     'U' 'N' 'O' 'S'
+ *  version  byte
+ *  length   ushort  number of payload bytes
+ *  payload:
+ *    flags    byte    bit 0 game over, bit 1 human turn, bit 2 human blocked, bit 3 machine blocked
+ *    journal  long generation + int position of the move journal (version 2 and later)
+ *    deck     count byte + one card ID byte per card, bottom to top
+ *    table    count byte + one card ID byte per card, oldest to newest
+ *    human    count byte + card IDs, then name as ushort length + UTF-8 bytes
+ *    machine  count byte + card IDs, then name as ushort length + UTF-8 bytes
+ *  crc      int     CRC-32 of version, length and payload
+ * </pre>
+ * Card IDs come from {@link CardCatalog}, so a card costs one byte instead of its three strings
+ * and a full game fits in well under 200 bytes. Version 1 files, written before the move journal
+ * existed, are still decoded and report journal generation 0.
+ */
+public final class GameUnoStateCodec {
+
+    /** First four bytes of every binary save: "UNOS". */
+    public static final int MAGIC = 0x554E4F53;
+    /** Current version of the format. */
+    public static final byte VERSION = 2;
+    /** Oldest version that can still be decoded. */
+    private static final byte FIRST_VERSION = 1;
+    /** Bytes before the payload: magic, version and length. */
+    public static final int HEADER_SIZE = 4 + 1 + 2;
+    /** Bytes after the payload: the CRC. */
+    public static final int TRAILER_SIZE = 4;
+
+    static final int FLAG_GAME_OVER = 1;
+    static final int FLAG_HUMAN_TURN = 1 << 1;
+    static final int FLAG_HUMAN_BLOCKED = 1 << 2;
+    static final int FLAG_MACHINE_BLOCKED = 1 << 3;
+
+    private GameUnoStateCodec() {
+    }
+
+    /**
+     * Encodes a state at the current position of the buffer.
+     *
+     * @param state  the state to encode
+     * @param buffer the destination; must have at least {@link #maxEncodedSize(GameUnoState)} bytes remaining
+     * @return the number of bytes written
+     */
+    public static int encode(GameUnoState state, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        int lengthPosition = buffer.position();
+        buffer.putShort((short) 0);
+
+        int payloadStart = buffer.position();
+        int flags = (state.isGameOver() ? FLAG_GAME_OVER : 0)
+                | (state.isHumanTurn() ? FLAG_HUMAN_TURN : 0)
+                | (state.isHumanBlocked() ? FLAG_HUMAN_BLOCKED : 0)
+                | (state.isMachineBlocked() ? FLAG_MACHINE_BLOCKED : 0);
+        buffer.put((byte) flags);
+        buffer.putLong(state.getJournalGeneration());
+        buffer.putInt(state.getJournalPosition());
+        putCards(buffer, state.getDeck().getDeckOfCards());
+        putCards(buffer, state.getTable().getCardsTable());
+        putPlayer(buffer, state.getHumanPlayer());
+        putPlayer(buffer, state.getMachinePlayer());
+        int payloadLength = buffer.position() - payloadStart;
+        buffer.putShort(lengthPosition, (short) payloadLength);
+
+        buffer.putInt((int) checksum(buffer, lengthPosition - 1, payloadStart + payloadLength));
+        return buffer.position() - start;
+    }
+
+    /**
+     * Returns an upper bound of the number of bytes {@link #encode} writes for the given state.
+     *
+     * @param state the state to measure
+     * @return the size to reserve in the destination buffer
+     */
+    public static int maxEncodedSize(GameUnoState state) {
+        int cards = state.getDeck().getDeckOfCards().size()
+                + state.getTable().getCardsTable().size()
+                + state.getHumanPlayer().getCardCount()
+                + state.getMachinePlayer().getCardCount();
+        return HEADER_SIZE + TRAILER_SIZE + 1 + 8 + 4 + 4 + cards
+                + 2 + maxNameBytes(state.getHumanPlayer())
+                + 2 + maxNameBytes(state.getMachinePlayer());
+    }
+
+    private static int maxNameBytes(Player player) {
+        return player.getPlayerName() == null ? 0 : player.getPlayerName().length() * 3;
+    }
+
+    /**
+     * Decodes a state from the current position of the buffer.
+     *
+     * @param buffer the source, positioned at the magic number
+     * @return the decoded state
+     * @throws IllegalArgumentException if the magic, version, length or CRC is wrong
+     */
+    public static GameUnoState decode(ByteBuffer buffer) {
+        try {
+            byte version = buffer.get(buffer.position() + 4);
+            int payloadLength = checkHeader(buffer);
+            int payloadStart = buffer.position();
+
+            int flags = buffer.get();
+            long journalGeneration = 0L;
+            int journalPosition = 0;
+            if (version >= 2) {
+                journalGeneration = buffer.getLong();
+                journalPosition = buffer.getInt();
+            }
+            Deck deck = new Deck(readStack(buffer));
+            Table table = new Table();
+            for (Card card : readStack(buffer)) {
+                table.addCardOnTheTable(card);
+            }
+            Player human = readPlayer(buffer, "HUMAN_PLAYER");
+            Player machine = readPlayer(buffer, "MACHINE_PLAYER");
+            if (buffer.position() != payloadStart + payloadLength) {
+                throw new IllegalArgumentException("Longitud de datos inconsistente");
+            }
+            buffer.getInt(); // CRC ya verificado
+
+            return new GameUnoState(deck, table, human, machine,
+                    (flags & FLAG_GAME_OVER) != 0,
+                    (flags & FLAG_HUMAN_TURN) != 0,
+                    (flags & FLAG_HUMAN_BLOCKED) != 0,
+                    (flags & FLAG_MACHINE_BLOCKED) != 0,
+                    journalGeneration,
+                    journalPosition);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Archivo de partida truncado", e);
+        }
+    }
+
+    /**
+     * Checks magic number, version, length and CRC without decoding any card.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer the buffer to verify, positioned at the magic number
+     * @return true if the buffer holds a complete, uncorrupted save
+     */
+    public static boolean verify(ByteBuffer buffer) {
+        try {
+            checkHeader(buffer.duplicate());
+            return true;
+        } catch (IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads and validates the header, then checks the CRC of the payload.
+     *
+     * @param buffer the buffer positioned at the magic number; left positioned at the payload
+     * @return the payload length
+     * @throws IllegalArgumentException if any check fails
+     */
+    private static int checkHeader(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("No es un archivo de partida UNO");
+        }
+        int versionPosition = buffer.position();
+        byte version = buffer.get();
+        if (version < FIRST_VERSION || version > VERSION) {
+            throw new IllegalArgumentException("Versión de formato no soportada: " + version);
+        }
+        int payloadLength = Short.toUnsignedInt(buffer.getShort());
+        int payloadStart = buffer.position();
+        if (payloadLength + TRAILER_SIZE > buffer.remaining()) {
+            throw new IllegalArgumentException("Archivo de partida truncado");
+        }
+        int expectedCrc = buffer.getInt(payloadStart + payloadLength);
+        if ((int) checksum(buffer, versionPosition, payloadStart + payloadLength) != expectedCrc) {
+            throw new IllegalArgumentException("CRC inválido en el archivo de partida");
+        }
+        return payloadLength;
+    }
+
+    /**
+     * Tells whether the buffer starts with the binary save magic number, without moving it.
+     *
+     * @param buffer the buffer to inspect
+     * @return true if the next four bytes are {@link #MAGIC}
+     */
+    public static boolean hasMagic(ByteBuffer buffer) {
+        return buffer.remaining() >= 4 && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    private static long checksum(ByteBuffer buffer, int from, int to) {
+        CRC32 crc = new CRC32();
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(to).position(from);
+        crc.update(slice);
+        return crc.getValue();
+    }
+
+    private static void putCards(ByteBuffer buffer, List<Card> cards) {
+        Object[] snapshot = cards.toArray();
+        if (snapshot.length > 255) {
+            throw new IllegalArgumentException("Demasiadas cartas para el formato: " + snapshot.length);
+        }
+        buffer.put((byte) snapshot.length);
+        for (Object card : snapshot) {
+            buffer.put((byte) CardCatalog.idOf((Card) card));
+        }
+    }
+
+    private static void putPlayer(ByteBuffer buffer, Player player) {
+        putCards(buffer, player.getCardsPlayer());
+        String name = player.getPlayerName() == null ? "" : player.getPlayerName();
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) Math.min(bytes.length, 0xFFFF));
+        buffer.put(bytes, 0, Math.min(bytes.length, 0xFFFF));
+    }
+
+    private static Stack<Card> readStack(ByteBuffer buffer) {
+        int count = Byte.toUnsignedInt(buffer.get());
+        Stack<Card> cards = new Stack<>();
+        for (int i = 0; i < count; i++) {
+            cards.push(CardCatalog.newCard(Byte.toUnsignedInt(buffer.get())));
+        }
+        return cards;
+    }
+
+    private static Player readPlayer(ByteBuffer buffer, String typePlayer) {
+        Player player = new Player(typePlayer);
+        for (Card card : readStack(buffer)) {
+            player.addCard(card);
+        }
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        player.setPlayerName(new String(name, StandardCharsets.UTF_8));
+        return player;
+    }
+}
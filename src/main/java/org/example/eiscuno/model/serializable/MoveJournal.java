@@ -0,0 +1,366 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.IGameMoveListener;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.player.Player;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Append-only journal of the moves of an UNO game, used together with periodic snapshots.
+ * <p>
+ * Instead of rewriting the whole game after every action, each card movement reported by
+ * {@link GameUno} is appended as a {@value #RECORD_SIZE}-byte record:
+ * <pre>
+ *  op     byte  draw or play by the human or the machine, or color chosen
+ *  card   byte  card ID from {@link CardCatalog}
+ *  flags  byte  game flags after the move, same bits as {@link GameUnoStateCodec}
+ *  check  byte  op ^ card ^ flags ^ 0x5A, to detect torn or damaged records
+ * </pre>
+ * The file starts with a header holding the journal generation. Every {@code compactEvery}
+ * records a full snapshot of the next generation is handed to the {@link AutoSaveService} writer
+ * thread, so the thread reporting the move never waits for the disk. Moves keep being appended to
+ * the current generation while the snapshot is written, and are also kept in memory; once the
+ * snapshot is on disk the journal is restarted with the new generation, holding just those moves:
+ * the new journal is written to a temporary file, forced to disk and renamed over the old one, so a
+ * crash leaves either the old journal or the new one, never a truncated file.
+ * A snapshot remembers the generation and the number of records it already includes, so on
+ * resume {@link #replay(String, GameUnoState)} applies exactly the records written after it.
+ */
+public class MoveJournal implements IGameMoveListener {
+
+    /** Default number of records between two snapshots. */
+    public static final int DEFAULT_COMPACT_EVERY = 64;
+    /** Size in bytes of one journal record. */
+    public static final int RECORD_SIZE = 4;
+
+    private static final int MAGIC = 0x554E4F4A; // "UNOJ"
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 1 + 8;
+    /** Suffix of the temporary file a new generation is written to before being renamed. */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final byte OP_DRAW_HUMAN = 1;
+    private static final byte OP_DRAW_MACHINE = 2;
+    private static final byte OP_PLAY_HUMAN = 3;
+    private static final byte OP_PLAY_MACHINE = 4;
+    private static final byte OP_COLOR = 5;
+
+    private final Path path;
+    private final AutoSaveService autoSaveService;
+    private final int compactEvery;
+    private final ByteBuffer record = ByteBuffer.allocateDirect(RECORD_SIZE);
+
+    private FileChannel channel;
+    private GameUno gameUno;
+    private long generation;
+    private int position;
+    private int nextCompaction;
+
+    /** Generation of the snapshot being written, or 0 if no compaction is in progress. */
+    private long pendingGeneration;
+    /** Records appended since the pending snapshot was taken; they start the new generation. */
+    private byte[] tail = new byte[16 * RECORD_SIZE];
+    private int tailLength;
+
+    /**
+     * Creates a journal that compacts every {@link #DEFAULT_COMPACT_EVERY} records.
+     *
+     * @param filename        the journal file
+     * @param autoSaveService the service used to write the snapshots
+     */
+    public MoveJournal(String filename, AutoSaveService autoSaveService) {
+        this(filename, autoSaveService, DEFAULT_COMPACT_EVERY);
+    }
+
+    /**
+     * Creates a journal.
+     *
+     * @param filename        the journal file
+     * @param autoSaveService the service used to write the snapshots
+     * @param compactEvery    number of records between two snapshots
+     */
+    public MoveJournal(String filename, AutoSaveService autoSaveService, int compactEvery) {
+        this.path = Path.of(filename);
+        this.autoSaveService = autoSaveService;
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Starts journaling the given game: hands a snapshot of a new generation to the writer thread
+     * and, once it is on disk, replaces the journal. Moves reported in the meantime are only kept
+     * in memory, since the journal on disk still belongs to the previous game.
+     * Must be called before registering the journal as move listener.
+     *
+     * @param gameUno            the game to journal
+     * @param previousGeneration the generation of the snapshot the game was resumed from, or 0
+     */
+    public synchronized void start(GameUno gameUno, long previousGeneration) {
+        close();
+        this.gameUno = gameUno;
+        position = 0;
+        compact(Math.max(System.currentTimeMillis(), Math.max(generation, previousGeneration) + 1));
+    }
+
+    /**
+     * Captures a snapshot of the journaled game tagged with the current journal position.
+     *
+     * @return the snapshot
+     */
+    public synchronized GameUnoState captureSnapshot() {
+        return GameUnoState.snapshotOf(gameUno, generation, position);
+    }
+
+    @Override
+    public void onCardPlayed(GameUno gameUno, Player player, Card card) {
+        append(player == gameUno.getHumanPlayer() ? OP_PLAY_HUMAN : OP_PLAY_MACHINE, CardCatalog.idOf(card));
+    }
+
+    @Override
+    public void onCardDrawn(GameUno gameUno, Player player, Card card) {
+        append(player == gameUno.getHumanPlayer() ? OP_DRAW_HUMAN : OP_DRAW_MACHINE, CardCatalog.idOf(card));
+    }
+
+    @Override
+    public void onColorChosen(GameUno gameUno, Card topCard) {
+        append(OP_COLOR, CardCatalog.idOf(topCard));
+    }
+
+    /**
+     * Appends one record, and starts a compaction once the journal holds {@code compactEvery} records.
+     */
+    private synchronized void append(byte op, int cardId) {
+        if (channel == null && pendingGeneration == 0) {
+            return;
+        }
+        byte flags = flagsOf(gameUno);
+        record.clear();
+        record.put(op).put((byte) cardId).put(flags).put(checkOf(op, (byte) cardId, flags));
+        record.flip();
+        if (pendingGeneration != 0) {
+            if (tailLength == tail.length) {
+                tail = Arrays.copyOf(tail, tail.length * 2);
+            }
+            record.get(0, tail, tailLength, RECORD_SIZE);
+            tailLength += RECORD_SIZE;
+        }
+        if (channel == null) {
+            return;
+        }
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            position++;
+        } catch (IOException e) {
+            GameLog.error("Error al escribir el diario de jugadas: {}", e.getMessage());
+            close();
+            return;
+        }
+        if (pendingGeneration == 0 && position >= nextCompaction) {
+            compact(generation + 1);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the next generation and hands it to the writer thread; the journal
+     * is rotated by {@link #rotate(long, boolean)} once the write has finished.
+     */
+    private void compact(long newGeneration) {
+        pendingGeneration = newGeneration;
+        tailLength = 0;
+        autoSaveService.submitDurable(GameUnoState.snapshotOf(gameUno, newGeneration, 0))
+                .thenAccept(written -> rotate(newGeneration, written));
+    }
+
+    /**
+     * Restarts the journal with the generation of a snapshot that is now on disk, keeping the
+     * records appended while it was written. If the snapshot failed, the journal keeps growing
+     * in the current generation and the compaction is retried {@code compactEvery} records later.
+     * Runs on the writer thread of the {@link AutoSaveService}.
+     */
+    private synchronized void rotate(long newGeneration, boolean written) {
+        if (newGeneration != pendingGeneration) {
+            return; // Otra partida o un cierre dejaron obsoleta esta instantánea
+        }
+        pendingGeneration = 0;
+        if (!written) {
+            if (channel == null) {
+                GameLog.warn("No se pudo iniciar el diario de jugadas; solo se guardará al salir.");
+            }
+            nextCompaction = position + compactEvery;
+            return;
+        }
+        Path journal = path.toAbsolutePath();
+        Path temp = Path.of(journal + TEMP_SUFFIX);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + tailLength);
+            header.putInt(MAGIC).put(VERSION).putLong(newGeneration).put(tail, 0, tailLength).flip();
+            try (FileChannel next = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (header.hasRemaining()) {
+                    next.write(header);
+                }
+                next.force(true);
+            }
+            // El diario anterior se cierra antes de reemplazarlo; sigue completo hasta el renombrado
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            BinaryGameStateFileHandler.move(temp, journal);
+            BinaryGameStateFileHandler.forceDirectory(journal.getParent());
+            channel = FileChannel.open(journal, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            generation = newGeneration;
+            position = tailLength / RECORD_SIZE;
+            nextCompaction = compactEvery;
+        } catch (IOException e) {
+            GameLog.error("Error al reiniciar el diario de jugadas: {}", e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Closes the journal file and abandons a compaction in progress. Further moves are not journaled.
+     */
+    public synchronized void close() {
+        pendingGeneration = 0;
+        tailLength = 0;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                GameLog.error("Error al cerrar el diario de jugadas: {}", e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    public synchronized long getGeneration() { return generation; }
+    public synchronized int getPosition() { return position; }
+
+    /**
+     * Applies to a loaded snapshot the journal records written after it.
+     * <p>
+     * Records of another generation are ignored, because the snapshot already includes them.
+     * Replay stops at the first incomplete, damaged or inconsistent record.
+     *
+     * @param filename the journal file
+     * @param snapshot the snapshot loaded from the save file; its containers are modified
+     * @return a state including the replayed moves, or {@code snapshot} if nothing was replayed
+     */
+    public static GameUnoState replay(String filename, GameUnoState snapshot) {
+        ByteBuffer buffer;
+        try {
+            Path journal = Path.of(filename);
+            if (!Files.isRegularFile(journal)) {
+                return snapshot;
+            }
+            buffer = ByteBuffer.wrap(Files.readAllBytes(journal));
+        } catch (IOException e) {
+            GameLog.error("No se pudo leer el diario de jugadas: {}", e.getMessage());
+            return snapshot;
+        }
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.get() != VERSION
+                || buffer.getLong() != snapshot.getJournalGeneration()) {
+            return snapshot;
+        }
+
+        int records = buffer.remaining() / RECORD_SIZE;
+        int applied = snapshot.getJournalPosition();
+        int flags = -1;
+        for (int i = applied; i < records; i++) {
+            int offset = HEADER_SIZE + i * RECORD_SIZE;
+            byte op = buffer.get(offset);
+            byte cardId = buffer.get(offset + 1);
+            byte recordFlags = buffer.get(offset + 2);
+            if (buffer.get(offset + 3) != checkOf(op, cardId, recordFlags) || !apply(snapshot, op, cardId & 0xFF)) {
+                GameLog.warn("Diario de jugadas inconsistente en el registro {}; se ignora el resto.", i);
+                break;
+            }
+            flags = recordFlags;
+            applied = i + 1;
+        }
+        if (flags < 0) {
+            return snapshot;
+        }
+        GameLog.info("Jugadas recuperadas del diario: {}", applied - snapshot.getJournalPosition());
+        return new GameUnoState(snapshot.getDeck(), snapshot.getTable(),
+                snapshot.getHumanPlayer(), snapshot.getMachinePlayer(),
+                (flags & GameUnoStateCodec.FLAG_GAME_OVER) != 0,
+                (flags & GameUnoStateCodec.FLAG_HUMAN_TURN) != 0,
+                (flags & GameUnoStateCodec.FLAG_HUMAN_BLOCKED) != 0,
+                (flags & GameUnoStateCodec.FLAG_MACHINE_BLOCKED) != 0,
+                snapshot.getJournalGeneration(), applied);
+    }
+
+    /**
+     * Applies one record to the state.
+     *
+     * @return false if the record does not match the state (e.g. the deck top is another card)
+     */
+    private static boolean apply(GameUnoState state, byte op, int cardId) {
+        if (cardId >= CardCatalog.ID_COUNT) {
+            return false;
+        }
+        int baseId = CardCatalog.baseIdOf(cardId);
+        switch (op) {
+            case OP_DRAW_HUMAN:
+            case OP_DRAW_MACHINE: {
+                if (state.getDeck().isEmpty()
+                        || CardCatalog.baseIdOf(CardCatalog.idOf(state.getDeck().getDeckOfCards().peek())) != baseId) {
+                    return false;
+                }
+                Player player = op == OP_DRAW_HUMAN ? state.getHumanPlayer() : state.getMachinePlayer();
+                player.addCard(state.getDeck().getDeckOfCards().pop());
+                return true;
+            }
+            case OP_PLAY_HUMAN:
+            case OP_PLAY_MACHINE: {
+                Player player = op == OP_PLAY_HUMAN ? state.getHumanPlayer() : state.getMachinePlayer();
+                for (Card card : player.getCardsPlayer()) {
+                    if (CardCatalog.baseIdOf(CardCatalog.idOf(card)) == baseId) {
+                        player.removeCard(card);
+                        card.setColor(CardCatalog.colorOf(cardId));
+                        state.getTable().addCardOnTheTable(card);
+                        return true;
+                    }
+                }
+                return false;
+            }
+            case OP_COLOR: {
+                if (state.getTable().getCardsTable().isEmpty()) {
+                    return false;
+                }
+                Card top = state.getTable().getCurrentCardOnTheTable();
+                if (CardCatalog.baseIdOf(CardCatalog.idOf(top)) != baseId) {
+                    return false;
+                }
+                top.setColor(CardCatalog.colorOf(cardId));
+                return true;
+            }
+            default:
+                return false;
+        }
+    }
+
+    private static byte flagsOf(GameUno gameUno) {
+        return (byte) ((gameUno.isGameOver() ? GameUnoStateCodec.FLAG_GAME_OVER : 0)
+                | (gameUno.isHumanTurn() ? GameUnoStateCodec.FLAG_HUMAN_TURN : 0)
+                | (gameUno.isSkipHumanTurn() ? GameUnoStateCodec.FLAG_HUMAN_BLOCKED : 0)
+                | (gameUno.isSkipMachineTurn() ? GameUnoStateCodec.FLAG_MACHINE_BLOCKED : 0));
+    }
+
+    private static byte checkOf(byte op, byte cardId, byte flags) {
+        return (byte) (op ^ cardId ^ flags ^ 0x5A);
+    }
+}
@@ -0,0 +1,260 @@
+package org.example.eiscuno.model.server;
+
+import org.example.eiscuno.model.exceptions.WireProtocolException;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.metrics.LatencyHistogram;
+import org.example.eiscuno.model.metrics.MetricsRegistry;
+import org.example.eiscuno.model.simulation.RuleOptions;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hosts many independent games in one JVM, reached over TCP on localhost in a line-based text protocol
+ * or in the binary frames of {@link WireCodec}.
+ * <p>
+ * Every connection is one {@link GameSession} with its own {@code GameUno}, deck and machine player,
+ * served by its own task on {@link SessionExecutors} (a virtual thread on Java 21 or later). The task
+ * simply blocks reading the socket, so the code stays sequential while thousands of sessions wait for
+ * their clients. Nothing here touches JavaFX.
+ * <p>
+ * Each command is one line and gets one line back, starting with {@code OK}, {@code OVER} or {@code ERR}:
+ * <pre>
+ * STATE             OK top=&lt;id&gt; hand=&lt;id&gt;,&lt;id&gt;,... machine=&lt;n&gt; deck=&lt;n&gt;
+ * PLAY &lt;i&gt; [COLOR]  plays card i of the hand (COLOR for WILD and +4), then the machine answers
+ * DRAW              draws a card and passes the turn to the machine
+ * UNO               declares UNO; an error unless the client has one card left
+ * NEW               deals a new game in the same session
+ * STATS             OK sessions=&lt;n&gt; opened=&lt;n&gt; cores=&lt;n&gt; heap=&lt;bytes&gt; collected=true|false threads=virtual|platform
+ * QUIT              BYE, and the connection is closed
+ * </pre>
+ * When a move ends the game the reply starts with {@code OVER winner=HUMAN|MACHINE|NONE} instead of
+ * {@code OK}. Card IDs are those of {@code CardCatalog}. {@code STATS} reports the heap in use as is,
+ * garbage included. Only a server opened for load tests runs a garbage collection first, so that the
+ * heap can be divided by the number of sessions; otherwise any client could stall every session.
+ * <p>
+ * A connection whose first byte is not printable speaks the binary protocol instead: the same moves as
+ * frames of a few bytes, answered with events for every card moved and the resulting state. It is
+ * read and written through pooled direct buffers ({@link WireBufferPool}), with no text in between.
+ */
+public class GameServer implements AutoCloseable {
+
+    /** Reply to {@code QUIT}. */
+    static final String BYE = "BYE";
+
+    /** Time to serve one command, from reading it to writing the reply. */
+    private static final LatencyHistogram COMMAND_LATENCY = MetricsRegistry.getInstance().histogram("server.command");
+    /**
+     * Buffers of the connections: one for the first read of every connection, kept only by binary
+     * sessions, and one to write in binary sessions.
+     */
+    static final WireBufferPool BUFFERS = new WireBufferPool(256, 4096);
+
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService sessions;
+    private final int cardsPerPlayer;
+    private final boolean loadTest;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final LongAdder openedSessions = new LongAdder();
+    private final Thread acceptor;
+    private volatile boolean running = true;
+
+    /**
+     * Opens the server on localhost and starts accepting connections.
+     *
+     * @param port           the TCP port, or 0 for any free port
+     * @param cardsPerPlayer the number of cards dealt to each player of every game
+     * @throws IOException if the port cannot be opened
+     */
+    public GameServer(int port, int cardsPerPlayer) throws IOException {
+        this(port, cardsPerPlayer, false);
+    }
+
+    /**
+     * Opens the server on localhost and starts accepting connections.
+     *
+     * @param port           the TCP port, or 0 for any free port
+     * @param cardsPerPlayer the number of cards dealt to each player of every game
+     * @param loadTest       whether {@code STATS} runs a garbage collection before measuring the heap;
+     *                       only for servers run by a load test, never for real players
+     * @throws IOException              if the port cannot be opened
+     * @throws IllegalArgumentException if the hands would leave no card for the initial card
+     */
+    public GameServer(int port, int cardsPerPlayer, boolean loadTest) throws IOException {
+        this.cardsPerPlayer = RuleOptions.checkCardsPerPlayer(cardsPerPlayer);
+        this.loadTest = loadTest;
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        this.sessions = SessionExecutors.newPerTaskExecutor("GameSession");
+        MetricsRegistry.getInstance().gauge("server.sessions", activeSessions::get);
+        this.acceptor = new Thread(this::acceptConnections, "GameServer-accept");
+        acceptor.start();
+        GameLog.info("Servidor de partidas en el puerto {} ({})", getPort(), threadKind());
+    }
+
+    /** Returns the port the server listens on. */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /** Returns the number of sessions connected right now. */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    private void acceptConnections() {
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                connections.add(channel);
+                sessions.execute(() -> serve(channel));
+            } catch (IOException e) {
+                if (running) {
+                    GameLog.error("Error al aceptar una conexión: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Serves one connection until the client quits or disconnects, in the protocol given by its first
+     * byte: a binary frame starts with the high byte of its length, which is never a printable character.
+     * Text sessions give back the pooled buffer of the first read at once, since they read through a stream.
+     */
+    private void serve(SocketChannel channel) {
+        activeSessions.incrementAndGet();
+        openedSessions.increment();
+        ByteBuffer in = BUFFERS.acquire();
+        try (channel) {
+            channel.socket().setTcpNoDelay(true);
+            GameSession session = new GameSession(cardsPerPlayer);
+            while (in.position() == 0) {
+                if (channel.read(in) < 0) {
+                    return;
+                }
+            }
+            // Sin signo: un primer byte >= 0x80 (UTF-8, BOM) también es texto
+            if (Byte.toUnsignedInt(in.get(0)) < ' ') {
+                serveBinary(channel, in, session);
+            } else {
+                in.flip();
+                byte[] firstBytes = new byte[in.remaining()];
+                in.get(firstBytes);
+                BUFFERS.release(in);
+                in = null;
+                serveText(channel, firstBytes, session);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            GameLog.debug("Sesión cerrada: {}", e.getMessage());
+        } catch (WireProtocolException e) {
+            GameLog.warn("Trama inválida, se cierra la sesión: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            GameLog.error("Error inesperado en una sesión: {}", e);
+        } finally {
+            if (in != null) {
+                BUFFERS.release(in);
+            }
+            connections.remove(channel);
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Serves the binary protocol of {@link WireCodec}: the frames are decoded and answered straight
+     * from and into pooled direct buffers.
+     *
+     * @param in the buffer with the bytes read so far, in write mode
+     */
+    private void serveBinary(SocketChannel channel, ByteBuffer in, GameSession session) throws IOException {
+        ByteBuffer out = BUFFERS.acquire();
+        try {
+            WireSessionHandler handler = new WireSessionHandler(session, out, channel);
+            do {
+                long start = System.nanoTime();
+                in.flip();
+                int frames = WireCodec.decode(in, handler);
+                in.compact();
+                handler.flush();
+                if (frames > 0) {
+                    COMMAND_LATENCY.recordSince(start);
+                }
+            } while (channel.read(in) >= 0);
+        } finally {
+            BUFFERS.release(out);
+        }
+    }
+
+    /**
+     * Serves the text protocol, one command per line.
+     *
+     * @param firstBytes the bytes read while detecting the protocol
+     */
+    private void serveText(SocketChannel channel, byte[] firstBytes, GameSession session) throws IOException {
+        InputStream input = new SequenceInputStream(new ByteArrayInputStream(firstBytes), Channels.newInputStream(channel));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            long start = System.nanoTime();
+            String reply = "STATS".equalsIgnoreCase(line.trim()) ? stats() : session.handle(line);
+            writer.write(reply);
+            writer.newLine();
+            writer.flush();
+            COMMAND_LATENCY.recordSince(start);
+            if (BYE.equals(reply)) {
+                break;
+            }
+        }
+    }
+
+    private String stats() {
+        if (loadTest) {
+            System.gc();
+        }
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        return "OK sessions=" + activeSessions.get()
+                + " opened=" + openedSessions.sum()
+                + " cores=" + Runtime.getRuntime().availableProcessors()
+                + " heap=" + heap
+                + " collected=" + loadTest
+                + " threads=" + threadKind();
+    }
+
+    private static String threadKind() {
+        return SessionExecutors.isVirtual() ? "virtual" : "platform";
+    }
+
+    /**
+     * Stops accepting connections and closes every open session.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverChannel.close();
+        for (SocketChannel channel : connections) {
+            channel.close();
+        }
+        sessions.shutdownNow();
+    }
+}
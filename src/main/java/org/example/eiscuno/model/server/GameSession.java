@@ -0,0 +1,305 @@
+package org.example.eiscuno.model.server;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.exceptions.EmptyDeckException;
+import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.IGameMoveListener;
+import org.example.eiscuno.model.machine.MachineTurn;
+import org.example.eiscuno.model.metrics.events.MachineDecisionEvent;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+/**
+ * One remote game: a {@link GameUno} of its own where the client takes the human seat and the machine
+ * answers right after every move, without the pauses of the window version.
+ * <p>
+ * The moves return 0 or one of the {@code WireCodec.ERROR_} codes; {@link #handle(String)} turns
+ * them into the text protocol and {@link WireSessionHandler} into the binary one. A session is used by
+ * one thread at a time, the one serving its connection, so it needs no locking. The commands and
+ * replies are described in {@link GameServer}.
+ */
+public class GameSession {
+
+    private final int cardsPerPlayer;
+    private IGameMoveListener moveListener;
+    private Player human;
+    private Player machine;
+    private GameUno gameUno;
+    private MachineTurn machineTurn;
+    private int winner = -1;
+
+    /**
+     * Creates a session and deals its first game.
+     *
+     * @param cardsPerPlayer the number of cards dealt to each player
+     */
+    public GameSession(int cardsPerPlayer) {
+        this.cardsPerPlayer = cardsPerPlayer;
+        newGame();
+    }
+
+    /**
+     * Runs one command of the text protocol.
+     *
+     * @param line the command, e.g. "PLAY 2 RED"
+     * @return the reply, a single line without the line break
+     */
+    public String handle(String line) {
+        String[] words = line.trim().split("\\s+");
+        int error;
+        switch (words[0].toUpperCase()) {
+            case "STATE":
+                return state();
+            case "NEW":
+                newGame();
+                return state();
+            case "PLAY":
+                if (words.length < 2) {
+                    return "ERR Falta el índice de la carta";
+                }
+                try {
+                    error = play(Integer.parseInt(words[1]), words.length > 2 ? words[2].toUpperCase() : null);
+                } catch (NumberFormatException e) {
+                    return "ERR Índice de carta inválido: " + words[1];
+                }
+                break;
+            case "DRAW":
+                error = draw();
+                break;
+            case "UNO":
+                error = callUno();
+                break;
+            case "QUIT":
+                return GameServer.BYE;
+            default:
+                return "ERR Comando desconocido: " + words[0];
+        }
+        return error == 0 ? state() : "ERR " + errorMessage(error);
+    }
+
+    /**
+     * Sets the listener told about every card movement of both players, e.g. to send them as events.
+     * It is kept for the games dealt later in the session.
+     *
+     * @param moveListener the listener, or null to remove it
+     */
+    void setMoveListener(IGameMoveListener moveListener) {
+        this.moveListener = moveListener;
+        gameUno.setMoveListener(moveListener);
+    }
+
+    /** Tells whether the current game has ended. */
+    public boolean isOver() {
+        return winner >= 0;
+    }
+
+    /** Returns the seat that won the game, {@link WireCodec#SEAT_NONE} if nobody did, or -1 while playing. */
+    int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Deals a new game in the session. With the largest hands the deck may hold only special cards
+     * once they are dealt, leaving no initial card; the game is then dealt again.
+     */
+    void newGame() {
+        do {
+            human = new Player("HUMAN_PLAYER");
+            machine = new Player("MACHINE_PLAYER");
+            gameUno = new GameUno(human, machine, new Deck(), new Table());
+            gameUno.startGame(cardsPerPlayer);
+        } while (gameUno.getTable().getCardsTable().isEmpty());
+        gameUno.setMoveListener(moveListener);
+        machineTurn = new MachineTurn(gameUno, machine);
+        winner = -1;
+    }
+
+    /**
+     * Returns the position in the client's hand of a card with the given ID, ignoring the color
+     * chosen for a wild card.
+     *
+     * @return the index, or -1 if the client holds no such card
+     */
+    int indexOfCard(int cardId) {
+        int baseId = CardCatalog.baseIdOf(cardId);
+        for (int i = 0; i < human.getCardCount(); i++) {
+            if (CardCatalog.idOf(human.getCard(i)) == baseId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Plays a card of the client, then the machine's answer.
+     *
+     * @param index the position of the card in the client's hand
+     * @param color the color for a wild card, ignored for the others
+     * @return 0, or the error code if nothing was played
+     */
+    int play(int index, String color) {
+        if (isOver()) {
+            return WireCodec.ERROR_GAME_OVER;
+        }
+        Card card = human.getCard(index);
+        if (card == null) {
+            return WireCodec.ERROR_NOT_IN_HAND;
+        }
+        boolean wild = card.getColor() == null;
+        if (wild && CardCatalog.colorIndex(color) < 0) {
+            return WireCodec.ERROR_MISSING_COLOR;
+        }
+        try {
+            gameUno.playCard(card);
+        } catch (InvalidCardPlayException e) {
+            return WireCodec.ERROR_INVALID_CARD;
+        }
+        if (wild) {
+            gameUno.chooseColor(color);
+        }
+        if (human.getCardCount() == 0) {
+            winner = WireCodec.SEAT_HUMAN;
+        } else if (gameUno.isSkipMachineTurn()) {
+            gameUno.clearSkipMachineTurn();
+        } else {
+            machineTurns();
+        }
+        return 0;
+    }
+
+    /**
+     * Draws a card for the client and passes the turn to the machine.
+     *
+     * @return 0, or the error code if the game is over
+     */
+    int draw() {
+        if (isOver()) {
+            return WireCodec.ERROR_GAME_OVER;
+        }
+        try {
+            gameUno.drawCard(human);
+        } catch (EmptyDeckException e) {
+            if (gameUno.isGameOver()) {
+                winner = WireCodec.SEAT_NONE;
+                return 0;
+            }
+        }
+        machineTurns();
+        return 0;
+    }
+
+    /**
+     * Declares UNO. The session does not penalize a missing declaration; it only checks it is true.
+     *
+     * @return 0, or the error code if the client does not have exactly one card
+     */
+    int callUno() {
+        if (isOver()) {
+            return WireCodec.ERROR_GAME_OVER;
+        }
+        return human.getCardCount() == 1 ? 0 : WireCodec.ERROR_NOT_UNO;
+    }
+
+    /**
+     * Plays the machine until the turn is the human's again: once, or more while the human loses turns.
+     */
+    private void machineTurns() {
+        do {
+            MachineDecisionEvent decision = new MachineDecisionEvent();
+            decision.handSize = machine.getCardCount();
+            decision.begin();
+            try {
+                if (machineTurn.playCard(decision) == null) {
+                    machineTurn.drawCard(decision);
+                }
+            } catch (InvalidCardPlayException | EmptyDeckException e) {
+                // La máquina pasa; si nadie puede jugar el juego ya quedó terminado
+            }
+            decision.commit();
+
+            if (machine.getCardCount() == 0) {
+                winner = WireCodec.SEAT_MACHINE;
+                return;
+            }
+            if (gameUno.isGameOver()) {
+                winner = WireCodec.SEAT_NONE;
+                return;
+            }
+        } while (consumeHumanSkip());
+    }
+
+    private boolean consumeHumanSkip() {
+        if (gameUno.isSkipHumanTurn()) {
+            gameUno.clearSkipHumanTurn();
+            return true;
+        }
+        return false;
+    }
+
+    /** Returns the ID of the card on the table, with the chosen color of a wild card. */
+    int getTopCardId() {
+        return CardCatalog.idOf(gameUno.getTable().getCurrentCardOnTheTable());
+    }
+
+    int getDeckSize() {
+        return gameUno.getDeck().getDeckOfCards().size();
+    }
+
+    int getMachineCardCount() {
+        return machine.getCardCount();
+    }
+
+    int getHandCount() {
+        return human.getCardCount();
+    }
+
+    /**
+     * Copies the IDs of the client's cards.
+     *
+     * @param ids the destination; only the first {@code ids.length} cards are copied
+     */
+    void handIds(int[] ids) {
+        int count = Math.min(human.getCardCount(), ids.length);
+        for (int i = 0; i < count; i++) {
+            ids[i] = CardCatalog.idOf(human.getCard(i));
+        }
+    }
+
+    /**
+     * Describes the game as the client sees it: the card on the table and the client's hand as card
+     * IDs of the {@link CardCatalog}, and only the size of the machine's hand and of the deck.
+     */
+    private String state() {
+        StringBuilder reply = new StringBuilder(96);
+        reply.append(isOver() ? "OVER winner=" + winnerName() + ' ' : "OK ");
+        reply.append("top=").append(getTopCardId());
+        reply.append(" hand=");
+        for (int i = 0; i < human.getCardCount(); i++) {
+            if (i > 0) {
+                reply.append(',');
+            }
+            reply.append(CardCatalog.idOf(human.getCard(i)));
+        }
+        reply.append(" machine=").append(machine.getCardCount());
+        reply.append(" deck=").append(getDeckSize());
+        return reply.toString();
+    }
+
+    private String winnerName() {
+        return winner == WireCodec.SEAT_HUMAN ? "HUMAN" : winner == WireCodec.SEAT_MACHINE ? "MACHINE" : "NONE";
+    }
+
+    private static String errorMessage(int error) {
+        switch (error) {
+            case WireCodec.ERROR_NOT_IN_HAND: return "Índice de carta inválido";
+            case WireCodec.ERROR_INVALID_CARD: return "La carta no puede jugarse sobre la de la mesa";
+            case WireCodec.ERROR_MISSING_COLOR: return "Falta el color del comodín (RED, GREEN, BLUE o YELLOW)";
+            case WireCodec.ERROR_GAME_OVER: return "La partida terminó; envía NEW";
+            case WireCodec.ERROR_NOT_UNO: return "Solo se declara UNO con una carta";
+            default: return "Error " + error;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.eiscuno.model.server;
+
+/**
+ * Receives the frames decoded by {@link WireCodec#decode(java.nio.ByteBuffer, IWireHandler)}, one call
+ * per frame, with the fields as primitives so that no message object is created.
+ * <p>
+ * Every method does nothing by default: a server overrides the commands, a client the events.
+ * Card IDs are those of {@code CardCatalog}; seats are {@link WireCodec#SEAT_HUMAN} and
+ * {@link WireCodec#SEAT_MACHINE}.
+ */
+public interface IWireHandler {
+
+    /** Command: play the card with this ID; a wild card may carry its chosen color in the ID. */
+    default void onPlayCard(int cardId) {
+    }
+
+    /** Command: draw a card and pass the turn. */
+    default void onDraw() {
+    }
+
+    /** Command: the color, as an index of {@code CardCatalog.COLORS}, for the next wild card played. */
+    default void onChooseColor(int colorIndex) {
+    }
+
+    /** Command: declare UNO. */
+    default void onCallUno() {
+    }
+
+    /** Command: deal a new game in the same session. */
+    default void onNewGame() {
+    }
+
+    /** Event: a player put a card on the table and has {@code cardsLeft} cards left. */
+    default void onCardPlayed(int seat, int cardId, int cardsLeft) {
+    }
+
+    /** Event: a player drew a card; {@code cardId} is {@link WireCodec#NO_CARD} for the opponent's cards. */
+    default void onCardDrawn(int seat, int cardId) {
+    }
+
+    /** Event: the color of the wild card on the table was chosen. */
+    default void onColorChosen(int colorIndex) {
+    }
+
+    /**
+     * Event: the state of the game, followed by one {@link #onHandCard(int, int)} call per card of the
+     * client's hand.
+     */
+    default void onState(int topCardId, int deckSize, int machineCards, int handCount) {
+    }
+
+    /** Event: one card of the client's hand, right after {@link #onState(int, int, int, int)}. */
+    default void onHandCard(int index, int cardId) {
+    }
+
+    /** Event: the game ended; {@code winner} is a seat or {@link WireCodec#SEAT_NONE}. */
+    default void onGameOver(int winner) {
+    }
+
+    /** Event: the last command was rejected; {@code code} is one of the {@code WireCodec.ERROR_} codes. */
+    default void onError(int code) {
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.eiscuno.model.server;
+
+import org.example.eiscuno.model.logging.GameLog;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors that run one task per session, on virtual threads when the JVM has them.
+ * <p>
+ * The project is built for Java 17, so {@code Executors.newVirtualThreadPerTaskExecutor()} is looked
+ * up by reflection: on Java 21 or later every session gets a virtual thread, and thousands of sessions
+ * blocked on their sockets cost a few kilobytes each. On older JVMs every session gets a platform
+ * daemon thread instead, which works the same but reserves a whole stack per session.
+ * {@code -Deiscuno.server.virtual=false} forces platform threads, to compare both.
+ */
+public final class SessionExecutors {
+
+    private static final Method VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+    private SessionExecutors() {
+    }
+
+    /**
+     * Tells whether the executors created by {@link #newPerTaskExecutor(String)} use virtual threads.
+     *
+     * @return true if virtual threads are available and enabled
+     */
+    public static boolean isVirtual() {
+        return VIRTUAL_EXECUTOR != null && !"false".equals(System.getProperty("eiscuno.server.virtual"));
+    }
+
+    /**
+     * Creates an executor that starts a new thread for every task.
+     *
+     * @param name the prefix of the names of the platform threads; virtual threads have no name
+     * @return the executor
+     */
+    public static ExecutorService newPerTaskExecutor(String name) {
+        if (isVirtual()) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                GameLog.warn("No se pudieron crear hilos virtuales, se usan hilos de plataforma: {}", e);
+            }
+        }
+        AtomicInteger next = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task, name + "-" + next.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    private static Method findVirtualExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            // Java anterior a 21: no hay hilos virtuales
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.eiscuno.model.server;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of direct {@link ByteBuffer}s of one size, for the binary connections of the {@link GameServer}.
+ * <p>
+ * A direct buffer is read into and written from by the socket without an extra copy, but it is
+ * expensive to allocate and is only freed by the garbage collector, so the buffers are allocated up
+ * front and handed back when a connection closes. When the pool runs dry a new buffer is allocated
+ * and counted as a miss; buffers returned to a full pool are left to the collector.
+ */
+public final class WireBufferPool {
+
+    private final ArrayBlockingQueue<ByteBuffer> free;
+    private final int bufferSize;
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a pool and allocates all of its buffers.
+     *
+     * @param buffers    the number of buffers kept in the pool
+     * @param bufferSize the capacity of every buffer, at least {@link WireCodec#MAX_FRAME_SIZE}
+     */
+    public WireBufferPool(int buffers, int bufferSize) {
+        if (bufferSize < WireCodec.MAX_FRAME_SIZE) {
+            throw new IllegalArgumentException("Los buffers deben caber una trama: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.free = new ArrayBlockingQueue<>(buffers);
+        for (int i = 0; i < buffers; i++) {
+            free.offer(ByteBuffer.allocateDirect(bufferSize));
+        }
+    }
+
+    /**
+     * Takes a cleared buffer from the pool, or allocates one if the pool is empty.
+     *
+     * @return a direct buffer in write mode
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        if (buffer == null) {
+            misses.increment();
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the pool. The caller must not use it afterwards.
+     *
+     * @param buffer a buffer taken with {@link #acquire()}
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.isDirect() && buffer.capacity() == bufferSize) {
+            buffer.clear();
+            free.offer(buffer);
+        }
+    }
+
+    /** Returns the number of buffers ready in the pool. */
+    public int getAvailable() {
+        return free.size();
+    }
+
+    /** Returns the number of buffers allocated because the pool was empty. */
+    public long getMisses() {
+        return misses.sum();
+    }
+}
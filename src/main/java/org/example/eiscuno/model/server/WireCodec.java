@@ -0,0 +1,294 @@
+package org.example.eiscuno.model.server;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.exceptions.WireProtocolException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary encoding of the commands and events of a remote game.
+ * <p>
+ * Every frame is (big-endian):
+ * <pre>
+ *  length  ushort  number of bytes that follow: the type and the body
+ *  type    byte
+ *  body:
+ *    PLAY_CARD     card ID
+ *    DRAW          -
+ *    CHOOSE_COLOR  color index
+ *    CALL_UNO      -
+ *    NEW_GAME      -
+ *    CARD_PLAYED   seat, card ID, cards left
+ *    CARD_DRAWN    seat, card ID (NO_CARD when hidden)
+ *    COLOR_CHOSEN  color index
+ *    STATE         top card ID, deck size (ushort), machine cards, hand count, hand card IDs
+ *    GAME_OVER     winner seat (SEAT_NONE for no winner)
+ *    ERROR         error code
+ * </pre>
+ * Every field but the deck size is one byte. Cards travel as their {@link CardCatalog} ID, as in the
+ * binary save, so a move costs four or five bytes and a whole state well under 64.
+ * <p>
+ * Frames are written straight into the caller's buffer and read straight out of it: {@link #decode}
+ * hands each field to an {@link IWireHandler} as a primitive, so neither side builds objects for
+ * messages. A frame is checked completely before the handler sees any of it.
+ */
+public final class WireCodec {
+
+    public static final byte PLAY_CARD = 0x01;
+    public static final byte DRAW = 0x02;
+    public static final byte CHOOSE_COLOR = 0x03;
+    public static final byte CALL_UNO = 0x04;
+    public static final byte NEW_GAME = 0x05;
+    public static final byte CARD_PLAYED = 0x10;
+    public static final byte CARD_DRAWN = 0x11;
+    public static final byte COLOR_CHOSEN = 0x12;
+    public static final byte STATE = 0x13;
+    public static final byte GAME_OVER = 0x14;
+    public static final byte ERROR = 0x15;
+
+    public static final int SEAT_HUMAN = 0;
+    public static final int SEAT_MACHINE = 1;
+    public static final int SEAT_NONE = 0xFF;
+    /** Card ID of a card the receiver may not see. */
+    public static final int NO_CARD = 0xFF;
+
+    /** The card is not in the hand. */
+    public static final int ERROR_NOT_IN_HAND = 1;
+    /** The card cannot be played over the card on the table. */
+    public static final int ERROR_INVALID_CARD = 2;
+    /** A wild card was played without a color. */
+    public static final int ERROR_MISSING_COLOR = 3;
+    /** The game is over; a new one must be dealt. */
+    public static final int ERROR_GAME_OVER = 4;
+    /** UNO can only be declared with one card left. */
+    public static final int ERROR_NOT_UNO = 5;
+
+    /** Bytes of the length field. */
+    public static final int LENGTH_SIZE = 2;
+    /** Largest number of cards in the hand of a STATE frame. */
+    public static final int MAX_HAND = 255;
+    /** Largest frame, a STATE with a full hand. */
+    public static final int MAX_FRAME_SIZE = LENGTH_SIZE + 1 + 1 + 2 + 1 + 1 + MAX_HAND;
+
+    private WireCodec() {
+    }
+
+    public static void putPlayCard(ByteBuffer out, int cardId) {
+        header(out, PLAY_CARD, 1);
+        out.put(cardByte(cardId));
+    }
+
+    public static void putDraw(ByteBuffer out) {
+        header(out, DRAW, 0);
+    }
+
+    public static void putChooseColor(ByteBuffer out, int colorIndex) {
+        header(out, CHOOSE_COLOR, 1);
+        out.put(colorByte(colorIndex));
+    }
+
+    public static void putCallUno(ByteBuffer out) {
+        header(out, CALL_UNO, 0);
+    }
+
+    public static void putNewGame(ByteBuffer out) {
+        header(out, NEW_GAME, 0);
+    }
+
+    public static void putCardPlayed(ByteBuffer out, int seat, int cardId, int cardsLeft) {
+        header(out, CARD_PLAYED, 3);
+        out.put(seatByte(seat)).put(cardByte(cardId)).put((byte) Math.min(cardsLeft, 0xFF));
+    }
+
+    public static void putCardDrawn(ByteBuffer out, int seat, int cardId) {
+        header(out, CARD_DRAWN, 2);
+        out.put(seatByte(seat)).put(cardId == NO_CARD ? (byte) NO_CARD : cardByte(cardId));
+    }
+
+    public static void putColorChosen(ByteBuffer out, int colorIndex) {
+        header(out, COLOR_CHOSEN, 1);
+        out.put(colorByte(colorIndex));
+    }
+
+    /**
+     * Writes a STATE frame.
+     *
+     * @param out          the destination
+     * @param topCardId    the ID of the card on the table
+     * @param deckSize     the number of cards left in the deck
+     * @param machineCards the number of cards of the machine
+     * @param hand         the IDs of the client's cards
+     * @param handCount    the number of cards in {@code hand}, at most {@link #MAX_HAND}
+     */
+    public static void putState(ByteBuffer out, int topCardId, int deckSize, int machineCards,
+                                int[] hand, int handCount) {
+        if (handCount > MAX_HAND) {
+            throw new IllegalArgumentException("Demasiadas cartas para el protocolo: " + handCount);
+        }
+        header(out, STATE, 5 + handCount);
+        out.put(cardByte(topCardId)).putShort((short) deckSize).put((byte) Math.min(machineCards, 0xFF))
+                .put((byte) handCount);
+        for (int i = 0; i < handCount; i++) {
+            out.put(cardByte(hand[i]));
+        }
+    }
+
+    public static void putGameOver(ByteBuffer out, int winner) {
+        header(out, GAME_OVER, 1);
+        out.put(seatByte(winner));
+    }
+
+    public static void putError(ByteBuffer out, int code) {
+        header(out, ERROR, 1);
+        out.put((byte) code);
+    }
+
+    /**
+     * Decodes every complete frame between the position and the limit of the buffer.
+     * <p>
+     * The buffer is left at the start of the first incomplete frame, ready for
+     * {@link ByteBuffer#compact()} and the next read.
+     *
+     * @param in      the source, in read mode
+     * @param handler the receiver of the frames
+     * @return the number of frames decoded
+     * @throws WireProtocolException if a frame is malformed; the frames before it were already handled
+     */
+    public static int decode(ByteBuffer in, IWireHandler handler) {
+        int frames = 0;
+        while (in.remaining() >= LENGTH_SIZE) {
+            int start = in.position();
+            int length = Short.toUnsignedInt(in.getShort(start));
+            if (length < 1 || length > MAX_FRAME_SIZE - LENGTH_SIZE) {
+                throw new WireProtocolException("Longitud de trama inválida: " + length);
+            }
+            if (in.remaining() < LENGTH_SIZE + length) {
+                break;
+            }
+            int body = start + LENGTH_SIZE + 1;
+            dispatch(in, in.get(start + LENGTH_SIZE), body, length - 1, handler);
+            in.position(start + LENGTH_SIZE + length);
+            frames++;
+        }
+        return frames;
+    }
+
+    private static void dispatch(ByteBuffer in, byte type, int body, int bodyLength, IWireHandler handler) {
+        switch (type) {
+            case PLAY_CARD:
+                expect(type, bodyLength, 1);
+                handler.onPlayCard(card(in, body));
+                break;
+            case DRAW:
+                expect(type, bodyLength, 0);
+                handler.onDraw();
+                break;
+            case CHOOSE_COLOR:
+                expect(type, bodyLength, 1);
+                handler.onChooseColor(color(in, body));
+                break;
+            case CALL_UNO:
+                expect(type, bodyLength, 0);
+                handler.onCallUno();
+                break;
+            case NEW_GAME:
+                expect(type, bodyLength, 0);
+                handler.onNewGame();
+                break;
+            case CARD_PLAYED:
+                expect(type, bodyLength, 3);
+                handler.onCardPlayed(seat(in, body, false), card(in, body + 1), Byte.toUnsignedInt(in.get(body + 2)));
+                break;
+            case CARD_DRAWN: {
+                expect(type, bodyLength, 2);
+                int seat = seat(in, body, false);
+                int cardId = Byte.toUnsignedInt(in.get(body + 1));
+                handler.onCardDrawn(seat, cardId == NO_CARD ? NO_CARD : card(in, body + 1));
+                break;
+            }
+            case COLOR_CHOSEN:
+                expect(type, bodyLength, 1);
+                handler.onColorChosen(color(in, body));
+                break;
+            case STATE: {
+                if (bodyLength < 5) {
+                    throw new WireProtocolException("Trama STATE demasiado corta: " + bodyLength);
+                }
+                int handCount = Byte.toUnsignedInt(in.get(body + 4));
+                expect(type, bodyLength, 5 + handCount);
+                int top = card(in, body);
+                for (int i = 0; i < handCount; i++) {
+                    card(in, body + 5 + i);
+                }
+                handler.onState(top, Short.toUnsignedInt(in.getShort(body + 1)),
+                        Byte.toUnsignedInt(in.get(body + 3)), handCount);
+                for (int i = 0; i < handCount; i++) {
+                    handler.onHandCard(i, Byte.toUnsignedInt(in.get(body + 5 + i)));
+                }
+                break;
+            }
+            case GAME_OVER:
+                expect(type, bodyLength, 1);
+                handler.onGameOver(seat(in, body, true));
+                break;
+            case ERROR:
+                expect(type, bodyLength, 1);
+                handler.onError(Byte.toUnsignedInt(in.get(body)));
+                break;
+            default:
+                throw new WireProtocolException("Tipo de trama desconocido: " + type);
+        }
+    }
+
+    private static void header(ByteBuffer out, byte type, int bodyLength) {
+        out.putShort((short) (1 + bodyLength)).put(type);
+    }
+
+    private static void expect(byte type, int bodyLength, int expected) {
+        if (bodyLength != expected) {
+            throw new WireProtocolException("Trama " + type + " de " + bodyLength + " bytes; se esperaban " + expected);
+        }
+    }
+
+    private static int card(ByteBuffer in, int index) {
+        int cardId = Byte.toUnsignedInt(in.get(index));
+        if (cardId >= CardCatalog.ID_COUNT) {
+            throw new WireProtocolException("ID de carta inválido: " + cardId);
+        }
+        return cardId;
+    }
+
+    private static int color(ByteBuffer in, int index) {
+        int color = Byte.toUnsignedInt(in.get(index));
+        if (color >= CardCatalog.COLORS.length) {
+            throw new WireProtocolException("Color inválido: " + color);
+        }
+        return color;
+    }
+
+    private static int seat(ByteBuffer in, int index, boolean noneAllowed) {
+        int seat = Byte.toUnsignedInt(in.get(index));
+        if (seat != SEAT_HUMAN && seat != SEAT_MACHINE && !(noneAllowed && seat == SEAT_NONE)) {
+            throw new WireProtocolException("Jugador inválido: " + seat);
+        }
+        return seat;
+    }
+
+    private static byte cardByte(int cardId) {
+        if (cardId < 0 || cardId >= CardCatalog.ID_COUNT) {
+            throw new IllegalArgumentException("ID de carta inválido: " + cardId);
+        }
+        return (byte) cardId;
+    }
+
+    private static byte colorByte(int colorIndex) {
+        if (colorIndex < 0 || colorIndex >= CardCatalog.COLORS.length) {
+            throw new IllegalArgumentException("Color inválido: " + colorIndex);
+        }
+        return (byte) colorIndex;
+    }
+
+    private static byte seatByte(int seat) {
+        return (byte) seat;
+    }
+}
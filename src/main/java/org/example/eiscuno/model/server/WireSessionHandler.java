@@ -0,0 +1,138 @@
+package org.example.eiscuno.model.server;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.IGameMoveListener;
+import org.example.eiscuno.model.player.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Plays the binary commands of one connection on its {@link GameSession} and writes the answer frames.
+ * <p>
+ * Every card movement of the game, the machine's included, is sent as an event as it happens; after
+ * each command the client gets the resulting STATE, preceded by GAME_OVER if the game ended, or an
+ * ERROR. The frames go into one direct buffer, which is written to the channel whenever it could not
+ * hold another frame and after every batch of commands.
+ */
+final class WireSessionHandler implements IWireHandler, IGameMoveListener {
+
+    private final GameSession session;
+    private final ByteBuffer out;
+    private final WritableByteChannel channel;
+    private final int[] hand = new int[WireCodec.MAX_HAND];
+    /** Color sent with CHOOSE_COLOR for the next wild card, or -1. */
+    private int pendingColor = -1;
+
+    /**
+     * @param session the session of the connection
+     * @param out     the buffer for the outgoing frames, in write mode
+     * @param channel the connection the frames are written to
+     */
+    WireSessionHandler(GameSession session, ByteBuffer out, WritableByteChannel channel) {
+        this.session = session;
+        this.out = out;
+        this.channel = channel;
+        session.setMoveListener(this);
+    }
+
+    @Override
+    public void onPlayCard(int cardId) {
+        int index = session.indexOfCard(cardId);
+        int color = CardCatalog.colorIndex(CardCatalog.colorOf(cardId));
+        if (color < 0) {
+            color = pendingColor;
+        }
+        pendingColor = -1;
+        reply(index < 0 ? WireCodec.ERROR_NOT_IN_HAND
+                : session.play(index, color < 0 ? null : CardCatalog.COLORS[color]));
+    }
+
+    @Override
+    public void onDraw() {
+        reply(session.draw());
+    }
+
+    @Override
+    public void onChooseColor(int colorIndex) {
+        pendingColor = colorIndex;
+    }
+
+    @Override
+    public void onCallUno() {
+        reply(session.callUno());
+    }
+
+    @Override
+    public void onNewGame() {
+        pendingColor = -1;
+        session.newGame();
+        reply(0);
+    }
+
+    @Override
+    public void onCardPlayed(GameUno gameUno, Player player, Card card) {
+        ensureRoom();
+        WireCodec.putCardPlayed(out, seatOf(gameUno, player), CardCatalog.idOf(card), player.getCardCount());
+    }
+
+    @Override
+    public void onCardDrawn(GameUno gameUno, Player player, Card card) {
+        ensureRoom();
+        int seat = seatOf(gameUno, player);
+        WireCodec.putCardDrawn(out, seat, seat == WireCodec.SEAT_HUMAN ? CardCatalog.idOf(card) : WireCodec.NO_CARD);
+    }
+
+    @Override
+    public void onColorChosen(GameUno gameUno, Card topCard) {
+        ensureRoom();
+        WireCodec.putColorChosen(out, CardCatalog.colorIndex(topCard.getColor()));
+    }
+
+    /**
+     * Writes the outgoing frames to the channel.
+     *
+     * @throws IOException if the connection fails
+     */
+    void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    private void reply(int error) {
+        ensureRoom();
+        if (error != 0) {
+            WireCodec.putError(out, error);
+            return;
+        }
+        if (session.isOver()) {
+            WireCodec.putGameOver(out, session.getWinner());
+            ensureRoom();
+        }
+        int handCount = Math.min(session.getHandCount(), WireCodec.MAX_HAND);
+        session.handIds(hand);
+        WireCodec.putState(out, session.getTopCardId(), session.getDeckSize(), session.getMachineCardCount(),
+                hand, handCount);
+    }
+
+    private void ensureRoom() {
+        if (out.remaining() < WireCodec.MAX_FRAME_SIZE) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static int seatOf(GameUno gameUno, Player player) {
+        return player == gameUno.getHumanPlayer() ? WireCodec.SEAT_HUMAN : WireCodec.SEAT_MACHINE;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.effects.CardEffectManager;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.Stack;
+
+/**
+ * The effect of every card of the catalog, flattened into arrays indexed by base card ID.
+ * <p>
+ * The table is not written by hand: each card is played once on a {@link ProbeGame}, a {@link GameUno}
+ * that records what the {@link CardEffectManager} asks of it instead of changing any hand. A new or
+ * changed {@code ICardEffect} is therefore picked up by the lockstep simulator without touching it,
+ * as long as its effect is made of penalty cards and lost turns.
+ */
+final class EffectTable {
+
+    /** Number of cards the opponent draws after each card is played. */
+    final byte[] penalty = new byte[CardCatalog.BASE_CARD_COUNT];
+    /** Whether the opponent loses its turn after each card is played. */
+    final boolean[] skip = new boolean[CardCatalog.BASE_CARD_COUNT];
+    /** Whether each card is a special card, which can never be the initial card on the table. */
+    final boolean[] special = new boolean[CardCatalog.BASE_CARD_COUNT];
+
+    private EffectTable() {
+    }
+
+    /**
+     * Builds the table by playing every card of the catalog through the given effect manager.
+     *
+     * @param manager the effect manager whose rules the table must reproduce
+     * @return the effect of every card
+     */
+    static EffectTable probe(CardEffectManager manager) {
+        EffectTable table = new EffectTable();
+        for (int id = 0; id < CardCatalog.BASE_CARD_COUNT; id++) {
+            Card card = CardCatalog.newCard(id);
+            ProbeGame game = new ProbeGame();
+            manager.applyCardEffect(game, card, game.getMachinePlayer(), game.getHumanPlayer());
+            table.penalty[id] = (byte) game.penalty;
+            table.skip[id] = game.skipped;
+            table.special[id] = card.getColor() == null || manager.hasSpecialEffect(card);
+        }
+        return table;
+    }
+
+    /**
+     * A game in which the machine plays against the human and the effects are only recorded.
+     */
+    private static final class ProbeGame extends GameUno {
+        private int penalty;
+        private boolean skipped;
+
+        ProbeGame() {
+            super(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"), new Deck(new Stack<>()), new Table());
+        }
+
+        @Override
+        public void eatCard(Player player, int numberOfCards) {
+            if (player == getHumanPlayer()) {
+                penalty += numberOfCards;
+            }
+        }
+
+        @Override
+        public void skipHumanTurn() {
+            skipped = true;
+        }
+
+        @Override
+        public void skipMachineTurn() {
+            // La máquina es quien juega en la sonda; perder su propio turno no es un efecto conocido
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.eiscuno.model.simulation;
+
+/**
+ * Outcome of one simulated game.
+ */
+public class GameResult {
+
+    /** Why a simulated game ended. */
+    public enum EndReason {
+        /** A player ran out of cards. */
+        WIN,
+        /** The deck ran out and no player could play. */
+        DECK_EXHAUSTED,
+        /** The game reached {@link RuleOptions#getMaxTurns()}. */
+        TURN_LIMIT
+    }
+
+    private final int winner;
+    private final EndReason endReason;
+    private final int turns;
+    private final int cardsPlayed;
+    private final int cardsDrawn;
+    private final long nanos;
+
+    /**
+     * Creates the result of a game.
+     *
+     * @param winner      0 if the first player won, 1 if the second player won, -1 if nobody did
+     * @param endReason   why the game ended
+     * @param turns       the number of turns played
+     * @param cardsPlayed the number of cards put on the table, by both players
+     * @param cardsDrawn  the number of cards taken from the deck after the deal, including penalties
+     * @param nanos       the time the game took to simulate
+     */
+    public GameResult(int winner, EndReason endReason, int turns, int cardsPlayed, int cardsDrawn, long nanos) {
+        this.winner = winner;
+        this.endReason = endReason;
+        this.turns = turns;
+        this.cardsPlayed = cardsPlayed;
+        this.cardsDrawn = cardsDrawn;
+        this.nanos = nanos;
+    }
+
+    public int getWinner() { return winner; }
+    public EndReason getEndReason() { return endReason; }
+    public int getTurns() { return turns; }
+    public int getCardsPlayed() { return cardsPlayed; }
+    public int getCardsDrawn() { return cardsDrawn; }
+    public long getNanos() { return nanos; }
+
+    /**
+     * Returns the number of moves: every card played and every card drawn.
+     *
+     * @return the number of moves of the game
+     */
+    public int getMoves() {
+        return cardsPlayed + cardsDrawn;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Decides the moves of a simulated player.
+ * <p>
+ * Implementations must not keep state between calls, so that one instance can be shared by every
+ * game and worker thread of a simulation; all randomness comes from the {@code random} argument,
+ * which is seeded per game.
+ */
+public interface IPlayStrategy {
+
+    /**
+     * Returns the short name used to select the strategy on the command line.
+     *
+     * @return the name of the strategy
+     */
+    String getName();
+
+    /**
+     * Chooses the card to play among the playable ones.
+     *
+     * @param playable the cards of the player that can be played now, never empty
+     * @param player   the player whose turn it is
+     * @param opponent the other player
+     * @param topCard  the card on top of the table
+     * @param random   the source of randomness of the game
+     * @return one of the playable cards, or null to draw a card instead
+     */
+    Card chooseCard(List<Card> playable, Player player, Player opponent, Card topCard, Random random);
+
+    /**
+     * Chooses the color after playing a wild card.
+     *
+     * @param player the player who played the wild card, without that card
+     * @param random the source of randomness of the game
+     * @return one of "RED", "GREEN", "BLUE" or "YELLOW"
+     */
+    String chooseColor(Player player, Random random);
+}
@@ -0,0 +1,31 @@
+package org.example.eiscuno.model.simulation;
+
+/**
+ * Finds the playable cards of many games at once.
+ * <p>
+ * Hands are bit sets of card IDs and every possible top card has a precomputed mask of the cards that
+ * can be played over it (same color, same value, or a wild card, as in {@code Card.canBePlayedOver}),
+ * so the cards playable in game {@code g} are {@code hands[g] & matchMasks[matchIndex[g]]}.
+ * Every implementation must give exactly the same result as {@link PlayabilityKernels#SCALAR}.
+ */
+public interface IPlayabilityKernel {
+
+    /**
+     * Returns the short name of the implementation, shown in simulation reports.
+     *
+     * @return the name of the kernel
+     */
+    String getName();
+
+    /**
+     * Computes {@code playable[g] = hands[g] & matchMasks[matchIndex[g]]} for every {@code g} in
+     * {@code [0, count)}.
+     *
+     * @param hands      the hand of the player on turn in each game
+     * @param matchIndex the index in {@code matchMasks} of the top card of each game
+     * @param matchMasks the cards playable over each possible top card
+     * @param playable   receives the playable cards of each game
+     * @param count      the number of games
+     */
+    void playableMasks(long[] hands, int[] matchIndex, long[] matchMasks, long[] playable, int count);
+}
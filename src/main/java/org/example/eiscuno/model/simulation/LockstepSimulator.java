@@ -0,0 +1,448 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.effects.CardEffectManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a batch of machine-versus-machine games in lockstep, keeping every game in flat primitive
+ * arrays instead of a {@code GameUno} object graph.
+ * <p>
+ * Each of the {@link CardCatalog#BASE_CARD_COUNT} cards of the deck is unique, so a hand is a
+ * {@code long} bit set of card IDs and "which cards can be played" is one AND against a precomputed
+ * mask of the top card's color and value. The deck of a game is a slice of a {@code byte} array, the
+ * top card the index of that mask, and the random generator one {@code long}: about a hundred bytes per game,
+ * allocated once per simulator and reused by every batch.
+ * <p>
+ * One step plays one turn of every game still running. It starts by finding the playable cards of
+ * all of them in one pass of an {@link IPlayabilityKernel}, which is why the hand of the player on turn
+ * and the top card of every game sit in their own contiguous arrays; then each game plays its turn.
+ * Finished games are reported to the {@link SimulationStats} and dropped from the active list. The rules are those of
+ * {@link SimulatedGame}, and the card effects come from a {@link CardEffectManager} through an
+ * {@link EffectTable}. The random numbers are not those of {@link SimulatedGame}, so a seed gives
+ * a different game in each engine; only the statistics are comparable.
+ * <p>
+ * A simulator is not thread-safe; use one per worker thread.
+ */
+public final class LockstepSimulator {
+
+    /** The strategies of {@link PlayStrategies}, reimplemented on bit sets. */
+    public enum Policy {
+        /** Plays the playable card with the lowest ID and picks a random color. */
+        FIRST,
+        /** Plays a random playable card and picks a random color. */
+        RANDOM,
+        /** Same scores as {@link PlayStrategies#AGGRESSIVE}. */
+        AGGRESSIVE;
+
+        /**
+         * Returns the policy with the given strategy name.
+         *
+         * @param name the name of the strategy, e.g. "first"
+         * @return the policy
+         * @throws IllegalArgumentException if there is no policy with that name
+         */
+        public static Policy byName(String name) {
+            for (Policy policy : values()) {
+                if (policy.name().equalsIgnoreCase(name)) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException("Estrategia desconocida: " + name);
+        }
+    }
+
+    private static final int DECK_SIZE = CardCatalog.BASE_CARD_COUNT;
+    private static final int COLOR_COUNT = CardCatalog.COLORS.length;
+    /** The opponent is considered close to winning with this many cards or fewer, as in {@link PlayStrategies}. */
+    private static final int THREAT = 3;
+    /** Outcome of a game still running; 0 and 1 are the winning seat, and higher codes a {@link #reasonCode}. */
+    private static final byte RUNNING = -1;
+
+    // Tablas de reglas, indexadas por ID de carta
+    private final byte[] colorOf = new byte[DECK_SIZE];
+    private final byte[] valueOf = new byte[DECK_SIZE];
+    private final byte[] penalty;
+    private final long skipMask;
+    private final long specialMask;
+    private final long wildMask;
+    private final long[] colorMasks = new long[COLOR_COUNT];
+    /** Cards playable over each (color, value) of the top card, at {@code color * valueCount + value}. */
+    private final long[] matchMasks;
+    private final int valueCount;
+    private final byte[] calmScore = new byte[DECK_SIZE];
+    private final byte[] threatScore = new byte[DECK_SIZE];
+
+    private final Policy[] policies;
+    private final RuleOptions rules;
+    private final IPlayabilityKernel kernel;
+    private final int capacity;
+
+    // Estado de cada partida, en arreglos paralelos
+    private final byte[] decks;
+    private final byte[] deckSizes;
+    /** The hand of the player on turn; swapped with {@link #waitingHands} when the turn passes. */
+    private final long[] hands;
+    private final long[] waitingHands;
+    /** The index in {@link #matchMasks} of the top card. */
+    private final int[] matchIndex;
+    private final long[] playable;
+    private final byte[] seats;
+    private final byte[] passes;
+    private final byte[] outcomes;
+    private final int[] turns;
+    private final int[] cardsPlayed;
+    private final int[] cardsDrawn;
+    private final long[] randoms;
+    private final int[] active;
+    private int activeCount;
+
+    /**
+     * Creates a simulator with the effects of a default {@link CardEffectManager} and the fastest
+     * available {@link IPlayabilityKernel}.
+     *
+     * @param capacity the largest number of games of one batch
+     * @param first    the policy of the first player
+     * @param second   the policy of the second player
+     * @param rules    the rule options
+     */
+    public LockstepSimulator(int capacity, Policy first, Policy second, RuleOptions rules) {
+        this(capacity, first, second, rules, new CardEffectManager(), PlayabilityKernels.best());
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param capacity the largest number of games of one batch
+     * @param first    the policy of the first player
+     * @param second   the policy of the second player
+     * @param rules    the rule options
+     * @param effects  the effect manager whose effects the games apply
+     * @param kernel   the kernel that finds the playable cards
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public LockstepSimulator(int capacity, Policy first, Policy second, RuleOptions rules, CardEffectManager effects,
+                             IPlayabilityKernel kernel) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacidad de lote inválida: " + capacity);
+        }
+        if (DECK_SIZE > Long.SIZE) {
+            throw new IllegalStateException("El mazo no cabe en un conjunto de 64 bits: " + DECK_SIZE);
+        }
+        this.capacity = capacity;
+        this.policies = new Policy[]{first, second};
+        this.rules = rules;
+        this.kernel = kernel;
+
+        EffectTable table = EffectTable.probe(effects);
+        penalty = table.penalty;
+        List<String> values = new ArrayList<>();
+        long skip = 0;
+        long special = 0;
+        long wild = 0;
+        for (int id = 0; id < DECK_SIZE; id++) {
+            long bit = 1L << id;
+            String value = CardCatalog.valueOf(id);
+            if (!values.contains(value)) {
+                values.add(value);
+            }
+            valueOf[id] = (byte) values.indexOf(value);
+            colorOf[id] = (byte) CardCatalog.colorIndex(CardCatalog.colorOf(id));
+            if (colorOf[id] < 0) {
+                wild |= bit;
+            } else {
+                colorMasks[colorOf[id]] |= bit;
+            }
+            if (table.skip[id]) {
+                skip |= bit;
+            }
+            if (table.special[id]) {
+                special |= bit;
+            }
+            calmScore[id] = (byte) aggressiveScore(value, false);
+            threatScore[id] = (byte) aggressiveScore(value, true);
+        }
+        skipMask = skip;
+        specialMask = special;
+        wildMask = wild;
+        valueCount = values.size();
+        matchMasks = new long[COLOR_COUNT * valueCount];
+        for (int color = 0; color < COLOR_COUNT; color++) {
+            for (int value = 0; value < valueCount; value++) {
+                long mask = colorMasks[color] | wildMask;
+                for (int id = 0; id < DECK_SIZE; id++) {
+                    if (valueOf[id] == value) {
+                        mask |= 1L << id;
+                    }
+                }
+                matchMasks[color * valueCount + value] = mask;
+            }
+        }
+
+        decks = new byte[capacity * DECK_SIZE];
+        deckSizes = new byte[capacity];
+        hands = new long[capacity];
+        waitingHands = new long[capacity];
+        matchIndex = new int[capacity];
+        playable = new long[capacity];
+        seats = new byte[capacity];
+        passes = new byte[capacity];
+        outcomes = new byte[capacity];
+        turns = new int[capacity];
+        cardsPlayed = new int[capacity];
+        cardsDrawn = new int[capacity];
+        randoms = new long[capacity];
+        active = new int[capacity];
+    }
+
+    /**
+     * Returns the largest number of games of one batch.
+     *
+     * @return the capacity of the simulator
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the kernel that finds the playable cards.
+     *
+     * @return the playability kernel
+     */
+    public IPlayabilityKernel getKernel() {
+        return kernel;
+    }
+
+    /**
+     * Plays one game per seed and adds every result to the statistics. The time of the batch is
+     * spread evenly over its games.
+     *
+     * @param seeds the seed of each game
+     * @param count the number of games, taken from the start of {@code seeds}
+     * @param stats the statistics that receive the results
+     * @throws IllegalArgumentException if {@code count} is larger than the capacity or the seeds
+     */
+    public void playBatch(long[] seeds, int count, SimulationStats stats) {
+        if (count > capacity || count > seeds.length) {
+            throw new IllegalArgumentException("Lote demasiado grande: " + count);
+        }
+        long start = System.nanoTime();
+        activeCount = 0;
+        for (int game = 0; game < count; game++) {
+            deal(game, seeds[game]);
+            if (outcomes[game] == RUNNING) {
+                active[activeCount++] = game;
+            }
+        }
+        while (activeCount > 0) {
+            // La lista activa queda ordenada, así que el kernel solo recorre hasta la última partida viva
+            kernel.playableMasks(hands, matchIndex, matchMasks, playable, active[activeCount - 1] + 1);
+            int running = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int game = active[i];
+                playTurn(game, playable[game]);
+                if (outcomes[game] == RUNNING) {
+                    active[running++] = game;
+                }
+            }
+            activeCount = running;
+        }
+        long nanosPerGame = (System.nanoTime() - start) / Math.max(1, count);
+        for (int game = 0; game < count; game++) {
+            int outcome = outcomes[game];
+            int winner = outcome < 2 ? outcome : -1;
+            GameResult.EndReason reason = outcome < 2 ? GameResult.EndReason.WIN
+                    : GameResult.EndReason.values()[outcome - 2];
+            stats.add(winner, reason, turns[game], cardsPlayed[game], cardsDrawn[game], nanosPerGame);
+        }
+    }
+
+    /**
+     * Shuffles the deck of a game, deals the hands and turns up the initial card like
+     * {@code GameUno.startGame}: special cards taken while looking for it are left out of the game.
+     */
+    private void deal(int game, long seed) {
+        randoms[game] = seed;
+        int base = game * DECK_SIZE;
+        for (int id = 0; id < DECK_SIZE; id++) {
+            decks[base + id] = (byte) id;
+        }
+        for (int i = DECK_SIZE - 1; i > 0; i--) {
+            int j = nextInt(game, i + 1);
+            byte card = decks[base + i];
+            decks[base + i] = decks[base + j];
+            decks[base + j] = card;
+        }
+        int size = DECK_SIZE;
+        long human = 0;
+        long machine = 0;
+        for (int i = 0; i < rules.getCardsPerPlayer(); i++) {
+            human |= 1L << decks[base + --size];
+        }
+        for (int i = 0; i < rules.getCardsPerPlayer(); i++) {
+            machine |= 1L << decks[base + --size];
+        }
+        int seat = (int) (seed & 1);
+        hands[game] = seat == 0 ? human : machine;
+        waitingHands[game] = seat == 0 ? machine : human;
+        turns[game] = 0;
+        cardsPlayed[game] = 0;
+        cardsDrawn[game] = 0;
+        passes[game] = 0;
+        seats[game] = (byte) seat;
+        outcomes[game] = RUNNING;
+
+        int initial = -1;
+        while (size > 0) {
+            int card = decks[base + --size];
+            if ((specialMask & (1L << card)) == 0) {
+                initial = card;
+                break;
+            }
+        }
+        deckSizes[game] = (byte) size;
+        if (initial < 0) {
+            outcomes[game] = reasonCode(GameResult.EndReason.DECK_EXHAUSTED);
+            return;
+        }
+        matchIndex[game] = colorOf[initial] * valueCount + valueOf[initial];
+    }
+
+    /**
+     * Plays one turn of a game: the same steps as {@link SimulatedGame}, on bit sets.
+     *
+     * @param playable the cards of the player on turn that can be played, from the kernel
+     */
+    private void playTurn(int game, long playable) {
+        int seat = seats[game];
+        long match = matchMasks[matchIndex[game]];
+        turns[game]++;
+
+        boolean skipOpponent = false;
+        if (playable != 0) {
+            skipOpponent = play(game, seat, choose(game, seat, playable));
+            passes[game] = 0;
+        } else if (deckSizes[game] == 0) {
+            // Como GameUno.drawCard: el juego termina si ninguno puede jugar, o tras dos pases seguidos
+            if ((waitingHands[game] & match) == 0 || ++passes[game] >= 2) {
+                outcomes[game] = reasonCode(GameResult.EndReason.DECK_EXHAUSTED);
+                return;
+            }
+        } else {
+            int drawn = draw(game, hands);
+            passes[game] = 0;
+            if (rules.isPlayDrawnCard() && (match & (1L << drawn)) != 0) {
+                skipOpponent = play(game, seat, drawn);
+            }
+        }
+
+        if (hands[game] == 0) {
+            outcomes[game] = (byte) seat;
+            return;
+        }
+        if (!skipOpponent) {
+            long hand = hands[game];
+            hands[game] = waitingHands[game];
+            waitingHands[game] = hand;
+            seats[game] = (byte) (1 - seat);
+        }
+        if (turns[game] >= rules.getMaxTurns()) {
+            outcomes[game] = reasonCode(GameResult.EndReason.TURN_LIMIT);
+        }
+    }
+
+    /**
+     * Puts a card of the player on turn on the table and applies its effect.
+     *
+     * @return true if the opponent loses its next turn
+     */
+    private boolean play(int game, int seat, int card) {
+        hands[game] &= ~(1L << card);
+        cardsPlayed[game]++;
+        for (int i = 0; i < penalty[card] && deckSizes[game] > 0; i++) {
+            draw(game, waitingHands);
+        }
+        int color = colorOf[card] >= 0 ? colorOf[card] : chooseColor(game, seat, hands[game]);
+        matchIndex[game] = color * valueCount + valueOf[card];
+        return (skipMask & (1L << card)) != 0;
+    }
+
+    private int draw(int game, long[] target) {
+        int size = --deckSizes[game];
+        int card = decks[game * DECK_SIZE + size];
+        target[game] |= 1L << card;
+        cardsDrawn[game]++;
+        return card;
+    }
+
+    private int choose(int game, int seat, long playable) {
+        switch (policies[seat]) {
+            case RANDOM: {
+                long remaining = playable;
+                for (int skip = nextInt(game, Long.bitCount(playable)); skip > 0; skip--) {
+                    remaining &= remaining - 1;
+                }
+                return Long.numberOfTrailingZeros(remaining);
+            }
+            case AGGRESSIVE: {
+                byte[] scores = Long.bitCount(waitingHands[game]) <= THREAT ? threatScore : calmScore;
+                int best = -1;
+                for (long rest = playable; rest != 0; rest &= rest - 1) {
+                    int card = Long.numberOfTrailingZeros(rest);
+                    if (best < 0 || scores[card] > scores[best]) {
+                        best = card;
+                    }
+                }
+                return best;
+            }
+            default:
+                return Long.numberOfTrailingZeros(playable);
+        }
+    }
+
+    private byte chooseColor(int game, int seat, long hand) {
+        int best = nextInt(game, COLOR_COUNT);
+        if (policies[seat] == Policy.AGGRESSIVE) {
+            for (int color = 0; color < COLOR_COUNT; color++) {
+                if (Long.bitCount(hand & colorMasks[color]) > Long.bitCount(hand & colorMasks[best])) {
+                    best = color;
+                }
+            }
+        }
+        return (byte) best;
+    }
+
+    /**
+     * Returns a random number in {@code [0, bound)} from the generator of the game (SplitMix64).
+     */
+    private int nextInt(int game, int bound) {
+        long z = randoms[game] += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) (((z >>> 32) * bound) >>> 32);
+    }
+
+    private static byte reasonCode(GameResult.EndReason reason) {
+        return (byte) (2 + reason.ordinal());
+    }
+
+    /** The scores of {@link PlayStrategies#AGGRESSIVE}. */
+    private static int aggressiveScore(String value, boolean threatened) {
+        switch (value) {
+            case "+4":
+                return threatened ? 4 : -2;
+            case "+2":
+                return threatened ? 3 : 1;
+            case "SKIP":
+            case "REVERSE":
+                return threatened ? 2 : 1;
+            case "WILD":
+                return -1;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The built-in strategies of the simulator.
+ * <ul>
+ *     <li>{@code first}: plays the first playable card and picks a random color, like the machine player.</li>
+ *     <li>{@code random}: plays a random playable card and picks a random color.</li>
+ *     <li>{@code aggressive}: plays attack cards (+4, +2, SKIP, REVERSE) first when the opponent has
+ *         few cards, keeps wild cards for last otherwise, and picks the color it holds the most.</li>
+ * </ul>
+ */
+public final class PlayStrategies {
+
+    /** Plays the first playable card, like {@code ThreadPlayMachine}. */
+    public static final IPlayStrategy FIRST = new IPlayStrategy() {
+        @Override
+        public String getName() { return "first"; }
+
+        @Override
+        public Card chooseCard(List<Card> playable, Player player, Player opponent, Card topCard, Random random) {
+            return playable.get(0);
+        }
+
+        @Override
+        public String chooseColor(Player player, Random random) {
+            return randomColor(random);
+        }
+    };
+
+    /** Plays a random playable card. */
+    public static final IPlayStrategy RANDOM = new IPlayStrategy() {
+        @Override
+        public String getName() { return "random"; }
+
+        @Override
+        public Card chooseCard(List<Card> playable, Player player, Player opponent, Card topCard, Random random) {
+            return playable.get(random.nextInt(playable.size()));
+        }
+
+        @Override
+        public String chooseColor(Player player, Random random) {
+            return randomColor(random);
+        }
+    };
+
+    /** Attacks when the opponent is close to winning and keeps wild cards as long as possible. */
+    public static final IPlayStrategy AGGRESSIVE = new IPlayStrategy() {
+        /** The opponent is considered close to winning with this many cards or fewer. */
+        private static final int THREAT = 3;
+
+        @Override
+        public String getName() { return "aggressive"; }
+
+        @Override
+        public Card chooseCard(List<Card> playable, Player player, Player opponent, Card topCard, Random random) {
+            boolean threatened = opponent.getCardCount() <= THREAT;
+            Card best = null;
+            int bestScore = Integer.MIN_VALUE;
+            for (Card card : playable) {
+                int score = score(card, threatened);
+                if (score > bestScore) {
+                    best = card;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+
+        private int score(Card card, boolean threatened) {
+            switch (card.getValue()) {
+                case "+4":
+                    return threatened ? 4 : -2;
+                case "+2":
+                    return threatened ? 3 : 1;
+                case "SKIP":
+                case "REVERSE":
+                    return threatened ? 2 : 1;
+                case "WILD":
+                    return -1;
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public String chooseColor(Player player, Random random) {
+            int[] counts = new int[CardCatalog.COLORS.length];
+            for (int i = 0; i < player.getCardCount(); i++) {
+                int index = CardCatalog.colorIndex(player.getCard(i).getColor());
+                if (index >= 0) {
+                    counts[index]++;
+                }
+            }
+            int best = random.nextInt(counts.length);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > counts[best]) {
+                    best = i;
+                }
+            }
+            return CardCatalog.COLORS[best];
+        }
+    };
+
+    private static final IPlayStrategy[] ALL = {FIRST, RANDOM, AGGRESSIVE};
+
+    private PlayStrategies() {
+    }
+
+    /**
+     * Returns the strategy with the given name.
+     *
+     * @param name the name of the strategy, e.g. "first"
+     * @return the strategy
+     * @throws IllegalArgumentException if there is no strategy with that name
+     */
+    public static IPlayStrategy byName(String name) {
+        for (IPlayStrategy strategy : ALL) {
+            if (strategy.getName().equalsIgnoreCase(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Estrategia desconocida: " + name + " (disponibles: " + names() + ")");
+    }
+
+    /**
+     * Returns the names of every built-in strategy, separated by commas.
+     *
+     * @return the names of the strategies
+     */
+    public static String names() {
+        StringBuilder names = new StringBuilder();
+        for (IPlayStrategy strategy : ALL) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(strategy.getName());
+        }
+        return names.toString();
+    }
+
+    private static String randomColor(Random random) {
+        return CardCatalog.COLORS[random.nextInt(CardCatalog.COLORS.length)];
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.logging.GameLog;
+
+/**
+ * The available {@link IPlayabilityKernel}s.
+ * <p>
+ * The vector kernel uses the incubating Vector API ({@code jdk.incubator.vector}), which the JVM only
+ * loads when started with {@code --add-modules jdk.incubator.vector}. Without it, or with
+ * {@code -Deiscuno.vector=false}, {@link #best()} falls back to the scalar kernel, which gives
+ * identical results.
+ */
+public final class PlayabilityKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "org.example.eiscuno.model.simulation.VectorPlayabilityKernel";
+
+    /** Plain loop, one game at a time. */
+    public static final IPlayabilityKernel SCALAR = new IPlayabilityKernel() {
+        @Override
+        public String getName() { return "scalar"; }
+
+        @Override
+        public void playableMasks(long[] hands, int[] matchIndex, long[] matchMasks, long[] playable, int count) {
+            for (int g = 0; g < count; g++) {
+                playable[g] = hands[g] & matchMasks[matchIndex[g]];
+            }
+        }
+    };
+
+    private static final IPlayabilityKernel VECTOR = loadVector();
+
+    private PlayabilityKernels() {
+    }
+
+    /**
+     * Returns the fastest kernel available in this JVM.
+     *
+     * @return the vector kernel if the Vector API is available and enabled, the scalar kernel otherwise
+     */
+    public static IPlayabilityKernel best() {
+        return VECTOR != null && !"false".equals(System.getProperty("eiscuno.vector")) ? VECTOR : SCALAR;
+    }
+
+    /**
+     * Returns the vector kernel.
+     *
+     * @return the vector kernel, or null if the JVM was started without {@code jdk.incubator.vector}
+     */
+    public static IPlayabilityKernel vector() {
+        return VECTOR;
+    }
+
+    /**
+     * Loads the vector kernel by name, so that this class never links against the Vector API
+     * when the module is missing.
+     */
+    private static IPlayabilityKernel loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (IPlayabilityKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            GameLog.warn("No se pudo cargar el kernel vectorial: {}", e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.CardCatalog;
+
+/**
+ * Rule variations of a simulated game.
+ */
+public class RuleOptions {
+
+    /** The rules of the game as played in the application. */
+    public static final RuleOptions DEFAULT = new RuleOptions(5, false, 1000);
+
+    private final int cardsPerPlayer;
+    private final boolean playDrawnCard;
+    private final int maxTurns;
+
+    /**
+     * Creates a set of rules.
+     *
+     * @param cardsPerPlayer the number of cards dealt to each player; both hands must leave at least
+     *                       one card in the deck for the initial card
+     * @param playDrawnCard  true if a drawn card that can be played is played in the same turn
+     * @param maxTurns       the number of turns after which a game is stopped without winner
+     * @throws IllegalArgumentException if a number is out of range
+     */
+    public RuleOptions(int cardsPerPlayer, boolean playDrawnCard, int maxTurns) {
+        checkCardsPerPlayer(cardsPerPlayer);
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("Cantidad máxima de turnos inválida: " + maxTurns);
+        }
+        this.cardsPerPlayer = cardsPerPlayer;
+        this.playDrawnCard = playDrawnCard;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Checks that both hands can be dealt and still leave a card in the deck for the initial card.
+     * Also used by the game server, whose games follow the same rule.
+     *
+     * @param cardsPerPlayer the number of cards dealt to each player
+     * @return {@code cardsPerPlayer}
+     * @throws IllegalArgumentException if the number is out of range
+     */
+    public static int checkCardsPerPlayer(int cardsPerPlayer) {
+        if (cardsPerPlayer < 1 || 2 * cardsPerPlayer >= CardCatalog.BASE_CARD_COUNT) {
+            throw new IllegalArgumentException("Cantidad de cartas por jugador inválida: " + cardsPerPlayer);
+        }
+        return cardsPerPlayer;
+    }
+
+    public int getCardsPerPlayer() { return cardsPerPlayer; }
+    public boolean isPlayDrawnCard() { return playDrawnCard; }
+    public int getMaxTurns() { return maxTurns; }
+
+    @Override
+    public String toString() {
+        return "cartas=" + cardsPerPlayer + " jugarRobada=" + playDrawnCard + " maxTurnos=" + maxTurns;
+    }
+}
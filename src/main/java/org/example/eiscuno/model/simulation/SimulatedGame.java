@@ -0,0 +1,154 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.exceptions.EmptyDeckException;
+import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Plays one machine-versus-machine game on a {@link GameUno}, without JavaFX and without threads.
+ * <p>
+ * The turn loop that the application spreads over the controller and {@code ThreadPlayMachine} is
+ * done here in a single method: the player on turn plays the card chosen by its strategy or draws,
+ * and the opponent loses its turn when the game says so (SKIP, REVERSE, +2, +4). Every random
+ * decision, including the shuffle, comes from one {@link Random} seeded per game, so a seed always
+ * reproduces the same game.
+ */
+public final class SimulatedGame {
+
+    private SimulatedGame() {
+    }
+
+    /**
+     * Plays a whole game.
+     *
+     * @param seed   the seed of the game
+     * @param first  the strategy of the first player, who takes the human seat of {@link GameUno}
+     * @param second the strategy of the second player, who takes the machine seat
+     * @param rules  the rule options
+     * @return the outcome of the game
+     */
+    public static GameResult play(long seed, IPlayStrategy first, IPlayStrategy second, RuleOptions rules) {
+        long start = System.nanoTime();
+        Random random = new Random(seed);
+        Player[] players = {new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER")};
+        IPlayStrategy[] strategies = {first, second};
+        Deck deck = new Deck(random);
+        GameUno gameUno = new GameUno(players[0], players[1], deck, new Table());
+        gameUno.startGame(rules.getCardsPerPlayer());
+        int deckAfterDeal = deck.getDeckOfCards().size();
+        if (gameUno.getTable().getCardsTable().isEmpty()) {
+            // Como en LockstepSimulator: solo quedaban cartas especiales y no hay carta inicial
+            return result(-1, GameResult.EndReason.DECK_EXHAUSTED, 0, 0, deckAfterDeal, deck, start);
+        }
+
+        // Se alterna quién empieza para que ninguna estrategia tenga ventaja por salir primero
+        int current = (int) (seed & 1);
+        int turns = 0;
+        int cardsPlayed = 0;
+        int passes = 0;
+        List<Card> playable = new ArrayList<>();
+        while (turns < rules.getMaxTurns() && !gameUno.isGameOver()) {
+            Player player = players[current];
+            Player opponent = players[1 - current];
+            turns++;
+
+            int played = playTurn(gameUno, player, opponent, strategies[current], rules, random, playable);
+            if (played < 0) {
+                // Ni jugó ni pudo robar: si los dos pasan seguidos nadie puede continuar
+                if (++passes >= 2) {
+                    gameUno.setGameOver(true);
+                    break;
+                }
+            } else {
+                passes = 0;
+                cardsPlayed += played;
+            }
+            if (player.getCardCount() == 0) {
+                return result(current, GameResult.EndReason.WIN, turns, cardsPlayed, deckAfterDeal, deck, start);
+            }
+
+            if (!consumeSkip(gameUno, 1 - current)) {
+                current = 1 - current;
+            }
+        }
+        GameResult.EndReason reason = gameUno.isGameOver()
+                ? GameResult.EndReason.DECK_EXHAUSTED : GameResult.EndReason.TURN_LIMIT;
+        return result(-1, reason, turns, cardsPlayed, deckAfterDeal, deck, start);
+    }
+
+    /**
+     * Plays one turn.
+     *
+     * @return the number of cards played (0 or 1), or -1 if the player could neither play nor draw
+     */
+    private static int playTurn(GameUno gameUno, Player player, Player opponent, IPlayStrategy strategy,
+                                RuleOptions rules, Random random, List<Card> playable) {
+        Card topCard = gameUno.getTable().getCurrentCardOnTheTable();
+        playable.clear();
+        for (int i = 0; i < player.getCardCount(); i++) {
+            Card card = player.getCard(i);
+            if (card.canBePlayedOver(topCard)) {
+                playable.add(card);
+            }
+        }
+        Card chosen = playable.isEmpty() ? null : strategy.chooseCard(playable, player, opponent, topCard, random);
+        if (chosen != null) {
+            return play(gameUno, player, strategy, chosen, random);
+        }
+
+        Card drawn;
+        try {
+            drawn = gameUno.drawCard(player);
+        } catch (EmptyDeckException e) {
+            return -1;
+        }
+        if (rules.isPlayDrawnCard() && drawn.canBePlayedOver(topCard)) {
+            return play(gameUno, player, strategy, drawn, random);
+        }
+        return 0;
+    }
+
+    private static int play(GameUno gameUno, Player player, IPlayStrategy strategy, Card card, Random random) {
+        try {
+            gameUno.playCard(card);
+        } catch (InvalidCardPlayException e) {
+            // La estrategia eligió una carta no jugable; se cuenta como turno sin jugada
+            return 0;
+        }
+        if ("WILD".equals(card.getValue()) || "+4".equals(card.getValue())) {
+            gameUno.chooseColor(strategy.chooseColor(player, random));
+        }
+        return 1;
+    }
+
+    /**
+     * Clears the skip flag of the given player.
+     *
+     * @return true if the player had to lose its turn
+     */
+    private static boolean consumeSkip(GameUno gameUno, int seat) {
+        if (seat == 0 && gameUno.isSkipHumanTurn()) {
+            gameUno.clearSkipHumanTurn();
+            return true;
+        }
+        if (seat == 1 && gameUno.isSkipMachineTurn()) {
+            gameUno.clearSkipMachineTurn();
+            return true;
+        }
+        return false;
+    }
+
+    private static GameResult result(int winner, GameResult.EndReason reason, int turns, int cardsPlayed,
+                                     int deckAfterDeal, Deck deck, long start) {
+        int cardsDrawn = deckAfterDeal - deck.getDeckOfCards().size();
+        return new GameResult(winner, reason, turns, cardsPlayed, cardsDrawn, System.nanoTime() - start);
+    }
+}
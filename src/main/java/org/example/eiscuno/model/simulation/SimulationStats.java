@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregate statistics of many simulated games. Thread-safe: every worker adds its results directly.
+ */
+public class SimulationStats {
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder[] wins = {new LongAdder(), new LongAdder()};
+    private final LongAdder[] endReasons = new LongAdder[GameResult.EndReason.values().length];
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder cardsPlayed = new LongAdder();
+    private final LongAdder cardsDrawn = new LongAdder();
+    private final LatencyHistogram gameTime = new LatencyHistogram("Tiempo por partida");
+    private final LongAccumulator maxTurns = new LongAccumulator(Math::max, 0L);
+
+    public SimulationStats() {
+        for (int i = 0; i < endReasons.length; i++) {
+            endReasons[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds the result of one game.
+     *
+     * @param result the result to add
+     */
+    public void add(GameResult result) {
+        add(result.getWinner(), result.getEndReason(), result.getTurns(), result.getCardsPlayed(),
+                result.getCardsDrawn(), result.getNanos());
+    }
+
+    /**
+     * Adds the result of one game without building a {@link GameResult}, for engines that keep
+     * their games in arrays.
+     *
+     * @param winner      0 or 1 for the winning player, -1 if nobody won
+     * @param endReason   why the game ended
+     * @param turns       the number of turns played
+     * @param cardsPlayed the number of cards put on the table
+     * @param cardsDrawn  the number of cards taken from the deck after the deal
+     * @param nanos       the time the game took to simulate
+     */
+    public void add(int winner, GameResult.EndReason endReason, int turns, int cardsPlayed, int cardsDrawn,
+                    long nanos) {
+        games.increment();
+        if (winner >= 0) {
+            wins[winner].increment();
+        }
+        endReasons[endReason.ordinal()].increment();
+        this.turns.add(turns);
+        this.cardsPlayed.add(cardsPlayed);
+        this.cardsDrawn.add(cardsDrawn);
+        gameTime.record(nanos);
+        maxTurns.accumulate(turns);
+    }
+
+    public long getGames() { return games.sum(); }
+    public long getWins(int player) { return wins[player].sum(); }
+    public long getEndReasonCount(GameResult.EndReason reason) { return endReasons[reason.ordinal()].sum(); }
+    public long getTurns() { return turns.sum(); }
+    public long getCardsPlayed() { return cardsPlayed.sum(); }
+    public long getCardsDrawn() { return cardsDrawn.sum(); }
+    public LatencyHistogram getGameTime() { return gameTime; }
+
+    /**
+     * Returns the total number of moves: cards played plus cards drawn.
+     *
+     * @return the number of moves of every game
+     */
+    public long getMoves() {
+        return getCardsPlayed() + getCardsDrawn();
+    }
+
+    /**
+     * Returns a multi-line report of the statistics.
+     *
+     * @param firstName  the name of the strategy of the first player
+     * @param secondName the name of the strategy of the second player
+     * @return the report text
+     */
+    public String report(String firstName, String secondName) {
+        long total = Math.max(1, getGames());
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Victorias: %s=%d (%.1f%%) %s=%d (%.1f%%)%n",
+                firstName, getWins(0), 100.0 * getWins(0) / total,
+                secondName, getWins(1), 100.0 * getWins(1) / total));
+        report.append("Final:");
+        for (GameResult.EndReason reason : GameResult.EndReason.values()) {
+            report.append(' ').append(reason.name().toLowerCase()).append('=').append(getEndReasonCount(reason));
+        }
+        report.append(System.lineSeparator());
+        report.append(String.format("Promedio por partida: turnos=%.1f (max %d) jugadas=%.1f robadas=%.1f%n",
+                (double) getTurns() / total, maxTurns.get(), (double) getCardsPlayed() / total,
+                (double) getCardsDrawn() / total));
+        report.append(gameTime.summary());
+        return report.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.eiscuno.model.simulation;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link IPlayabilityKernel} on the Vector API: each step loads the hands of as many games as fit in
+ * a SIMD register, gathers their match masks and ANDs them in one instruction; the games left over
+ * go through the scalar loop.
+ * <p>
+ * Only loaded through {@link PlayabilityKernels}, when {@code jdk.incubator.vector} is present.
+ */
+final class VectorPlayabilityKernel implements IPlayabilityKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public String getName() {
+        return "vector" + SPECIES.length();
+    }
+
+    @Override
+    public void playableMasks(long[] hands, int[] matchIndex, long[] matchMasks, long[] playable, int count) {
+        int g = 0;
+        for (int bound = SPECIES.loopBound(count); g < bound; g += SPECIES.length()) {
+            LongVector hand = LongVector.fromArray(SPECIES, hands, g);
+            LongVector match = LongVector.fromArray(SPECIES, matchMasks, 0, matchIndex, g);
+            hand.and(match).intoArray(playable, g);
+        }
+        for (; g < count; g++) {
+            playable[g] = hands[g] & matchMasks[matchIndex[g]];
+        }
+    }
+}
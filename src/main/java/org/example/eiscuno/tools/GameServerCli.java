@@ -0,0 +1,60 @@
+package org.example.eiscuno.tools;
+
+import org.example.eiscuno.model.metrics.MetricsRegistry;
+import org.example.eiscuno.model.server.GameServer;
+import org.example.eiscuno.model.simulation.RuleOptions;
+
+import java.io.IOException;
+
+/**
+ * Command-line entry point that runs a {@link GameServer} until the JVM is stopped.
+ * <pre>
+ * mvn -B compile exec:java -Dexec.mainClass=org.example.eiscuno.tools.GameServerCli -Dexec.args="--port 7070"
+ * </pre>
+ * The metrics of the server ({@code server.sessions}, {@code server.command}) are exposed through JMX.
+ * {@code --load-test} makes {@code STATS} collect garbage before measuring the heap, for
+ * {@link ServerLoadClient}; it lets any client stall the server, so it is off by default.
+ */
+public final class GameServerCli {
+
+    private GameServerCli() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 7070;
+        int cards = 5;
+        boolean loadTest = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(args[++i]); break;
+                    case "--cards": cards = RuleOptions.checkCardsPerPlayer(Integer.parseInt(args[++i])); break;
+                    case "--load-test": loadTest = true; break;
+                    case "--help": printUsage(); return;
+                    default: throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        MetricsRegistry.getInstance().exposeJmx();
+        GameServer server = new GameServer(port, cards, loadTest);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                System.err.println("Error al cerrar el servidor: " + e.getMessage());
+            }
+        }, "GameServer-shutdown"));
+        System.out.println("Servidor escuchando en 127.0.0.1:" + server.getPort() + "; Ctrl+C para detenerlo");
+        Thread.currentThread().join();
+    }
+
+    private static void printUsage() {
+        System.err.println("Uso: GameServerCli [--port N] [--cards N] [--load-test]");
+    }
+}
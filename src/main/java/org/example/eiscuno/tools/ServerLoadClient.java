@@ -0,0 +1,263 @@
+package org.example.eiscuno.tools;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.logging.LogLevel;
+import org.example.eiscuno.model.metrics.LatencyHistogram;
+import org.example.eiscuno.model.server.GameServer;
+import org.example.eiscuno.model.server.SessionExecutors;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test of a {@link GameServer}: opens many sessions at once, has each one play a number of moves
+ * and reports sessions per core, memory per session, throughput and move latency.
+ * <pre>
+ * mvn -B compile exec:java -Dexec.mainClass=org.example.eiscuno.tools.ServerLoadClient \
+ *     -Dexec.args="--embedded --sessions 2000 --moves 100"
+ * </pre>
+ * With {@code --embedded} the server runs in the same JVM on a free port; otherwise {@code --port}
+ * names a server already running on localhost. All sessions connect before any of them plays, so the
+ * memory is measured with every session open.
+ * <p>
+ * The memory per session is the growth of the server heap divided by the sessions. In embedded mode
+ * the heap also holds the connections of this client, so the figure is an upper bound and is labelled
+ * as such. For the cost of a session alone, run the server in its own JVM with {@code --load-test}:
+ * <pre>
+ * mvn -B compile exec:java -Dexec.mainClass=org.example.eiscuno.tools.GameServerCli -Dexec.args="--load-test"
+ * mvn -B compile exec:java -Dexec.mainClass=org.example.eiscuno.tools.ServerLoadClient \
+ *     -Dexec.args="--port 7070 --sessions 2000 --moves 100"
+ * </pre> The latency of a move is the round trip of one
+ * {@code PLAY} or {@code DRAW}, the machine's answer included, as the client sees it.
+ */
+public final class ServerLoadClient {
+
+    private ServerLoadClient() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = 7070;
+        int sessions = 1000;
+        int moves = 100;
+        boolean embedded = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(args[++i]); break;
+                    case "--sessions": sessions = Integer.parseInt(args[++i]); break;
+                    case "--moves": moves = Integer.parseInt(args[++i]); break;
+                    case "--embedded": embedded = true; break;
+                    case "--help": printUsage(); return;
+                    default: throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+            if (sessions < 1 || moves < 1) {
+                throw new IllegalArgumentException("--sessions y --moves deben ser positivos");
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        if (embedded) {
+            // Con miles de sesiones el mazo se agota a menudo; solo interesan los errores
+            GameLog.setLevel(LogLevel.ERROR);
+        }
+        GameServer server = embedded ? new GameServer(0, 5, true) : null;
+        try {
+            run(server != null ? server.getPort() : port, sessions, moves, embedded);
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static void run(int port, int sessions, int moves, boolean embedded) throws Exception {
+        try (Connection control = new Connection(port)) {
+            Stats before = new Stats(control.send("STATS"));
+            System.out.printf("Abriendo %d sesiones de %d jugadas (servidor con hilos %s, %d núcleos)%n",
+                    sessions, moves, before.threads, before.cores);
+
+            LatencyHistogram latency = new LatencyHistogram("move");
+            LongAdder games = new LongAdder();
+            AtomicLong failures = new AtomicLong();
+            CountDownLatch connected = new CountDownLatch(sessions);
+            CountDownLatch go = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(sessions);
+            ExecutorService clients = SessionExecutors.newPerTaskExecutor("LoadClient");
+            for (int s = 0; s < sessions; s++) {
+                clients.execute(() -> {
+                    boolean counted = false;
+                    try (Connection connection = new Connection(port)) {
+                        String state = connection.send("STATE");
+                        connected.countDown();
+                        counted = true;
+                        go.await();
+                        for (int m = 0; m < moves; m++) {
+                            long start = System.nanoTime();
+                            state = connection.send(nextMove(state));
+                            latency.recordSince(start);
+                            if (state.startsWith("OVER")) {
+                                games.increment();
+                                state = connection.send("NEW");
+                            } else if (state.startsWith("ERR")) {
+                                failures.incrementAndGet();
+                                state = connection.send("STATE");
+                            }
+                        }
+                        connection.send("QUIT");
+                    } catch (IOException | InterruptedException e) {
+                        failures.incrementAndGet();
+                        if (!counted) {
+                            connected.countDown();
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            connected.await();
+            Stats open = new Stats(control.send("STATS"));
+            long start = System.nanoTime();
+            go.countDown();
+            done.await();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            clients.shutdown();
+            clients.awaitTermination(10, TimeUnit.SECONDS);
+
+            long totalMoves = latency.getCount();
+            System.out.printf("Sesiones simultáneas: %d (%.0f por núcleo)%n",
+                    open.sessions - 1, (open.sessions - 1) / (double) open.cores);
+            double perSession = (open.heap - before.heap) / 1024.0 / Math.max(1, open.sessions - 1);
+            if (embedded) {
+                System.out.printf("Memoria por sesión: %.1f KB (servidor y cliente en la misma JVM; cota superior)%n",
+                        perSession);
+            } else if (open.collected) {
+                System.out.printf("Memoria por sesión: %.1f KB (solo el servidor)%n", perSession);
+            } else {
+                System.out.printf("Memoria por sesión: %.1f KB (sin recolectar basura; inicie el servidor"
+                        + " con --load-test para una medida fiable)%n", perSession);
+            }
+            System.out.printf("Jugadas: %d en %.2f s | %.0f jugadas/s | %.0f jugadas/s por núcleo | %d partidas terminadas%n",
+                    totalMoves, seconds, totalMoves / seconds, totalMoves / seconds / open.cores, games.sum());
+            System.out.printf("Latencia por jugada: p50 %.2f ms | p99 %.2f ms | máx %.2f ms%n",
+                    latency.getP50Nanos() / 1e6, latency.getP99Nanos() / 1e6, latency.getMaxNanos() / 1e6);
+            if (failures.get() > 0) {
+                System.out.println("Errores: " + failures.get());
+            }
+            control.send("QUIT");
+        }
+    }
+
+    /**
+     * Chooses the move of the client: the first playable card of the hand, or drawing.
+     *
+     * @param state a reply of the server with the card on the table and the hand
+     * @return the command to send
+     */
+    static String nextMove(String state) {
+        int top = -1;
+        String hand = "";
+        for (String field : state.split(" ")) {
+            if (field.startsWith("top=")) {
+                top = Integer.parseInt(field.substring(4));
+            } else if (field.startsWith("hand=")) {
+                hand = field.substring(5);
+            }
+        }
+        if (top >= 0 && !hand.isEmpty()) {
+            String[] cards = hand.split(",");
+            for (int i = 0; i < cards.length; i++) {
+                int card = Integer.parseInt(cards[i]);
+                String color = CardCatalog.colorOf(card);
+                if (color == null) {
+                    return "PLAY " + i + " RED";
+                }
+                if (color.equals(CardCatalog.colorOf(top)) || CardCatalog.valueOf(card).equals(CardCatalog.valueOf(top))) {
+                    return "PLAY " + i;
+                }
+            }
+        }
+        return "DRAW";
+    }
+
+    private static void printUsage() {
+        System.err.println("Uso: ServerLoadClient [--embedded | --port N] [--sessions N] [--moves N]");
+    }
+
+    /**
+     * One connection to the server, sending a command and waiting for its reply.
+     */
+    private static final class Connection implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final BufferedWriter out;
+
+        Connection(int port) throws IOException {
+            socket = new Socket("127.0.0.1", port);
+            socket.setTcpNoDelay(true);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        String send(String command) throws IOException {
+            out.write(command);
+            out.newLine();
+            out.flush();
+            String reply = in.readLine();
+            if (reply == null) {
+                throw new IOException("El servidor cerró la conexión");
+            }
+            return reply;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    /**
+     * The fields of a {@code STATS} reply.
+     */
+    private static final class Stats {
+        long sessions;
+        long heap;
+        boolean collected;
+        int cores = 1;
+        String threads = "?";
+
+        Stats(String reply) {
+            for (String field : reply.split(" ")) {
+                int equals = field.indexOf('=');
+                if (equals < 0) {
+                    continue;
+                }
+                String value = field.substring(equals + 1);
+                switch (field.substring(0, equals)) {
+                    case "sessions": sessions = Long.parseLong(value); break;
+                    case "heap": heap = Long.parseLong(value); break;
+                    case "collected": collected = Boolean.parseBoolean(value); break;
+                    case "cores": cores = Integer.parseInt(value); break;
+                    case "threads": threads = value; break;
+                    default: break;
+                }
+            }
+        }
+    }
+}
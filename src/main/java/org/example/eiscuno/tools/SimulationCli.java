@@ -0,0 +1,225 @@
+package org.example.eiscuno.tools;
+
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.logging.LogLevel;
+import org.example.eiscuno.model.simulation.GameResult;
+import org.example.eiscuno.model.simulation.IPlayStrategy;
+import org.example.eiscuno.model.simulation.LockstepSimulator;
+import org.example.eiscuno.model.simulation.PlayStrategies;
+import org.example.eiscuno.model.simulation.PlayabilityKernels;
+import org.example.eiscuno.model.simulation.RuleOptions;
+import org.example.eiscuno.model.simulation.SimulatedGame;
+import org.example.eiscuno.model.simulation.SimulationStats;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Command-line entry point that plays many machine-versus-machine games headless, without JavaFX,
+ * and prints throughput and aggregate statistics. Used for capacity planning and to compare strategies.
+ * <pre>
+ * mvn -B compile exec:java -Dexec.mainClass=org.example.eiscuno.tools.SimulationCli \
+ *     -Dexec.args="--games 100000 --threads 8 --seed 1 --first aggressive --second first --cards 7 --play-drawn"
+ * </pre>
+ * Every game gets its own seed derived from {@code --seed} and its number, so the statistics of a run
+ * do not depend on the number of threads.
+ * <p>
+ * {@code --engine lockstep} plays the games on a {@link LockstepSimulator} per thread, in batches of
+ * {@code --batch} games, instead of one {@code GameUno} per game. It is much faster for millions of
+ * games, but a seed gives a different game than with the default {@code object} engine. Start the JVM
+ * with {@code --add-modules jdk.incubator.vector} (e.g. in {@code MAVEN_OPTS}) to use the vector kernel.
+ * <p>
+ * If a game fails on a worker thread, the other workers stop, the error is printed instead of the
+ * statistics and the process exits with status 1.
+ */
+public final class SimulationCli {
+
+    private SimulationCli() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long games = 10_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        IPlayStrategy first = PlayStrategies.FIRST;
+        IPlayStrategy second = PlayStrategies.FIRST;
+        int cardsPerPlayer = RuleOptions.DEFAULT.getCardsPerPlayer();
+        boolean playDrawnCard = RuleOptions.DEFAULT.isPlayDrawnCard();
+        int maxTurns = RuleOptions.DEFAULT.getMaxTurns();
+        boolean lockstep = false;
+        int batch = 4096;
+        RuleOptions rules;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--games": games = Long.parseLong(args[++i]); break;
+                    case "--threads": threads = Integer.parseInt(args[++i]); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    case "--first": first = PlayStrategies.byName(args[++i]); break;
+                    case "--second": second = PlayStrategies.byName(args[++i]); break;
+                    case "--cards": cardsPerPlayer = Integer.parseInt(args[++i]); break;
+                    case "--max-turns": maxTurns = Integer.parseInt(args[++i]); break;
+                    case "--play-drawn": playDrawnCard = true; break;
+                    case "--engine": lockstep = parseEngine(args[++i]); break;
+                    case "--batch": batch = Integer.parseInt(args[++i]); break;
+                    case "--help": printUsage(); return;
+                    default: throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+            if (games < 1 || threads < 1 || batch < 1) {
+                throw new IllegalArgumentException("--games, --threads y --batch deben ser positivos");
+            }
+            rules = new RuleOptions(cardsPerPlayer, playDrawnCard, maxTurns);
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        PrintStream out = System.out;
+        out.printf("Simulando %d partidas (%s vs %s) con %d hilos, semilla %d, motor %s, %s%n",
+                games, first.getName(), second.getName(), threads, seed, lockstep ? "lockstep" : "object", rules);
+        if (lockstep) {
+            out.println("Kernel de jugabilidad: " + PlayabilityKernels.best().getName());
+        }
+
+        // El juego registra cada jugada; aquí solo importan las estadísticas
+        LogLevel logLevel = GameLog.getLevel();
+        GameLog.setLevel(LogLevel.OFF);
+        SimulationStats stats = new SimulationStats();
+        long start = System.nanoTime();
+        try {
+            if (lockstep) {
+                runLockstep(games, threads, batch, seed, first, second, rules, stats);
+            } else {
+                run(games, threads, seed, first, second, rules, stats);
+            }
+        } catch (ExecutionException e) {
+            // Las estadísticas de las partidas jugadas hasta el fallo no representan la corrida
+            System.err.println("La simulación falló tras " + stats.getGames() + " partidas:");
+            e.getCause().printStackTrace();
+            System.exit(1);
+            return;
+        } finally {
+            GameLog.setLevel(logLevel);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        out.printf("Tiempo: %.2f s | %.0f partidas/s | %.0f jugadas/s%n",
+                seconds, stats.getGames() / seconds, stats.getMoves() / seconds);
+        out.println(stats.report(first.getName(), second.getName()));
+    }
+
+    private static void run(long games, int threads, long seed, IPlayStrategy first, IPlayStrategy second,
+                            RuleOptions rules, SimulationStats stats)
+            throws InterruptedException, ExecutionException {
+        AtomicLong nextGame = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    long game;
+                    while ((game = nextGame.getAndIncrement()) < games) {
+                        GameResult result = SimulatedGame.play(gameSeed(seed, game), first, second, rules);
+                        stats.add(result);
+                    }
+                } catch (RuntimeException | Error e) {
+                    fail(failure, nextGame, games, e);
+                }
+            }, "Simulation-" + t);
+            worker.start();
+            workers.add(worker);
+        }
+        join(workers, failure);
+    }
+
+    private static void runLockstep(long games, int threads, int batch, long seed, IPlayStrategy first,
+                                    IPlayStrategy second, RuleOptions rules, SimulationStats stats)
+            throws InterruptedException, ExecutionException {
+        LockstepSimulator.Policy firstPolicy = LockstepSimulator.Policy.byName(first.getName());
+        LockstepSimulator.Policy secondPolicy = LockstepSimulator.Policy.byName(second.getName());
+        AtomicLong nextGame = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    LockstepSimulator simulator = new LockstepSimulator(batch, firstPolicy, secondPolicy, rules);
+                    long[] seeds = new long[batch];
+                    long firstGame;
+                    while ((firstGame = nextGame.getAndAdd(batch)) < games) {
+                        int count = (int) Math.min(batch, games - firstGame);
+                        for (int i = 0; i < count; i++) {
+                            seeds[i] = gameSeed(seed, firstGame + i);
+                        }
+                        simulator.playBatch(seeds, count, stats);
+                    }
+                } catch (RuntimeException | Error e) {
+                    fail(failure, nextGame, games, e);
+                }
+            }, "Simulation-" + t);
+            worker.start();
+            workers.add(worker);
+        }
+        join(workers, failure);
+    }
+
+    /**
+     * Records the first failure of a worker and makes the other workers stop after their current game.
+     */
+    private static void fail(AtomicReference<Throwable> failure, AtomicLong nextGame, long games, Throwable error) {
+        if (!failure.compareAndSet(null, error)) {
+            failure.get().addSuppressed(error);
+        }
+        nextGame.set(games);
+    }
+
+    /**
+     * Waits for every worker and rethrows the first failure, if any, on the calling thread.
+     *
+     * @throws ExecutionException if a worker failed; its error is the cause
+     */
+    private static void join(List<Thread> workers, AtomicReference<Throwable> failure)
+            throws InterruptedException, ExecutionException {
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+    }
+
+    private static boolean parseEngine(String engine) {
+        switch (engine) {
+            case "object": return false;
+            case "lockstep": return true;
+            default: throw new IllegalArgumentException("Motor desconocido: " + engine + " (disponibles: object, lockstep)");
+        }
+    }
+
+    /**
+     * Derives the seed of one game, spreading consecutive game numbers over the whole range
+     * (the finalizer of SplitMix64).
+     */
+    static long gameSeed(long seed, long game) {
+        long z = seed + (game + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void printUsage() {
+        System.err.println("Uso: SimulationCli [--games N] [--threads N] [--seed N] [--first ESTRATEGIA]"
+                + " [--second ESTRATEGIA] [--cards N] [--max-turns N] [--play-drawn] [--engine object|lockstep]"
+                + " [--batch N]");
+        System.err.println("Estrategias: " + PlayStrategies.names());
+    }
+}
@@ -0,0 +1,305 @@
+package org.example.eiscuno.view;
+
+import javafx.geometry.Point2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardAtlas;
+import org.example.eiscuno.model.card.CardImageCache;
+import org.example.eiscuno.model.metrics.FxTasks;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Draws a whole UNO table on a single {@link Canvas}: the machine hand, the table card, the color
+ * indicator and the full human hand.
+ * <p>
+ * It is an alternative to the node-per-card rendering of {@link HandRenderer} and {@link CardBackPool}
+ * for cases where the scene graph becomes the bottleneck, such as very large hands or many tables
+ * shown at once. There are no nodes per card, so a change costs no layout or CSS pass:
+ * <ul>
+ *     <li>{@link #update(List, int, Card, Color)} compares the new state with the drawn one and marks only
+ *         the regions that changed as dirty.</li>
+ *     <li>Only dirty regions are cleared and drawn again, all at once on the next pulse.</li>
+ *     <li>Clicks are resolved by hit-testing the card rectangles of the human hand, topmost first,
+ *         so the canvas itself never blocks the controls drawn over it.</li>
+ * </ul>
+ * Hands that do not fit their region are drawn overlapped, so every card stays visible and clickable.
+ */
+public class CanvasTableRenderer {
+
+    /** Regions of the table, each redrawn independently. */
+    private enum Region { MACHINE_HAND, TABLE_CARD, COLOR_INDICATOR, HUMAN_HAND }
+
+    private static final String CARD_BACK_URL = CardAtlas.CARDS_DIRECTORY + "card_uno.png";
+    private static final double CARD_WIDTH = CardAtlas.HAND_WIDTH;
+    private static final double CARD_HEIGHT = CardAtlas.HAND_HEIGHT;
+    private static final double CARD_GAP = 4;
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final Rectangle2D[] regions = new Rectangle2D[Region.values().length];
+    private final boolean[] dirty = new boolean[Region.values().length];
+    private final long[] redraws = new long[Region.values().length];
+    private final Consumer<Card> onCardClicked;
+    private boolean redrawScheduled;
+
+    // Estado dibujado, para saber qué regiones cambiaron
+    private Card[] humanCards = new Card[0];
+    private int machineCardCount = -1;
+    private Card tableCard;
+    private String tableCardColor;
+    private Color indicatorColor;
+
+    /**
+     * Creates a renderer with the default layout of the 700x500 game window.
+     *
+     * @param onCardClicked called with the human card under a click
+     */
+    public CanvasTableRenderer(Consumer<Card> onCardClicked) {
+        this(700, 500, onCardClicked);
+    }
+
+    /**
+     * Creates a renderer of the given size, with regions proportional to the game window.
+     *
+     * @param width         canvas width
+     * @param height        canvas height
+     * @param onCardClicked called with the human card under a click
+     */
+    public CanvasTableRenderer(double width, double height, Consumer<Card> onCardClicked) {
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.onCardClicked = onCardClicked;
+        double sx = width / 700;
+        double sy = height / 500;
+        regions[Region.MACHINE_HAND.ordinal()] = new Rectangle2D(210 * sx, 30 * sy, 380 * sx, 100 * sy);
+        regions[Region.TABLE_CARD.ordinal()] = new Rectangle2D(285 * sx, 160 * sy, 125 * sx, 180 * sy);
+        regions[Region.COLOR_INDICATOR.ordinal()] = new Rectangle2D(415 * sx, 165 * sy, 50 * sx, 50 * sy);
+        regions[Region.HUMAN_HAND.ordinal()] = new Rectangle2D(150 * sx, 375 * sy, 400 * sx, 100 * sy);
+        // El lienzo no recibe eventos para no tapar los botones; los clics se leen en el contenedor
+        canvas.setMouseTransparent(true);
+    }
+
+    /**
+     * Adds the canvas to the given container and starts hit-testing the clicks made on it.
+     * Clicks that hit a human card are consumed; any other click reaches the controls as usual.
+     *
+     * @param parent the container of the game scene, usually its root
+     * @param index  position of the canvas among the children of the container
+     */
+    public void attachTo(Pane parent, int index) {
+        parent.getChildren().add(index, canvas);
+        parent.addEventFilter(MouseEvent.MOUSE_CLICKED, this::handleClick);
+    }
+
+    /**
+     * Returns the canvas the table is drawn on, to be added to the scene.
+     *
+     * @return the canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Updates the drawn state and schedules a redraw of the regions that changed.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @param humanHand        the cards of the human player, all of them are drawn
+     * @param machineCardCount number of cards of the machine, drawn face down
+     * @param topCard          the card on top of the table, or null
+     * @param indicator        the color of the indicator, or null to leave it empty
+     */
+    public void update(List<Card> humanHand, int machineCardCount, Card topCard, Color indicator) {
+        Card[] cards = humanHand.toArray(new Card[0]);
+        if (!sameCards(cards, humanCards)) {
+            humanCards = cards;
+            markDirty(Region.HUMAN_HAND);
+        }
+        if (machineCardCount != this.machineCardCount) {
+            this.machineCardCount = machineCardCount;
+            markDirty(Region.MACHINE_HAND);
+        }
+        String color = topCard == null ? null : topCard.getColor();
+        if (topCard != tableCard || (color == null ? tableCardColor != null : !color.equals(tableCardColor))) {
+            tableCard = topCard;
+            tableCardColor = color;
+            markDirty(Region.TABLE_CARD);
+        }
+        if (indicator == null ? indicatorColor != null : !indicator.equals(indicatorColor)) {
+            indicatorColor = indicator;
+            markDirty(Region.COLOR_INDICATOR);
+        }
+    }
+
+    private void markDirty(Region region) {
+        dirty[region.ordinal()] = true;
+        if (!redrawScheduled) {
+            redrawScheduled = true;
+            // Se agrupan todos los cambios de este pulso en un solo redibujado
+            FxTasks.runLater("CanvasTableRenderer.redraw", this::redrawDirtyRegions);
+        }
+    }
+
+    /**
+     * Clears and draws again every dirty region. Called once per batch of updates.
+     */
+    private void redrawDirtyRegions() {
+        redrawScheduled = false;
+        for (Region region : Region.values()) {
+            if (!dirty[region.ordinal()]) {
+                continue;
+            }
+            dirty[region.ordinal()] = false;
+            redraws[region.ordinal()]++;
+            Rectangle2D bounds = regions[region.ordinal()];
+            graphics.clearRect(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+            switch (region) {
+                case MACHINE_HAND:
+                    drawMachineHand(bounds);
+                    break;
+                case TABLE_CARD:
+                    drawTableCard(bounds);
+                    break;
+                case COLOR_INDICATOR:
+                    drawIndicator(bounds);
+                    break;
+                case HUMAN_HAND:
+                    drawHumanHand(bounds);
+                    break;
+            }
+        }
+    }
+
+    private void drawMachineHand(Rectangle2D bounds) {
+        Image image = CardImageCache.getHandSize(CARD_BACK_URL);
+        Rectangle2D source = sourceOf(image, CardImageCache.handViewportOf(CARD_BACK_URL));
+        double step = stepFor(machineCardCount, bounds.getWidth());
+        double x = firstCardX(machineCardCount, step, bounds);
+        for (int i = 0; i < machineCardCount; i++) {
+            drawImage(image, source, x + i * step, bounds.getMinY() + 5, CARD_WIDTH, CARD_HEIGHT);
+        }
+    }
+
+    private void drawTableCard(Rectangle2D bounds) {
+        if (tableCard == null) {
+            return;
+        }
+        Image image = tableCard.getImage();
+        Rectangle2D source = sourceOf(image, null);
+        double scale = Math.min(bounds.getWidth() / source.getWidth(), bounds.getHeight() / source.getHeight());
+        drawImage(image, source, bounds.getMinX(), bounds.getMinY(), source.getWidth() * scale, source.getHeight() * scale);
+    }
+
+    private void drawIndicator(Rectangle2D bounds) {
+        if (indicatorColor == null) {
+            return;
+        }
+        graphics.setFill(indicatorColor);
+        graphics.fillRoundRect(bounds.getMinX() + 1, bounds.getMinY() + 1, bounds.getWidth() - 2, bounds.getHeight() - 2, 10, 10);
+        graphics.setStroke(Color.BLACK);
+        graphics.setLineWidth(1.5);
+        graphics.strokeRoundRect(bounds.getMinX() + 1, bounds.getMinY() + 1, bounds.getWidth() - 2, bounds.getHeight() - 2, 10, 10);
+    }
+
+    private void drawHumanHand(Rectangle2D bounds) {
+        double step = stepFor(humanCards.length, bounds.getWidth());
+        double x = firstCardX(humanCards.length, step, bounds);
+        for (int i = 0; i < humanCards.length; i++) {
+            Card card = humanCards[i];
+            String url = card.getUrl();
+            Image image = CardImageCache.getHandSize(url);
+            drawImage(image, sourceOf(image, CardImageCache.handViewportOf(url)),
+                    x + i * step, bounds.getMinY() + 5, CARD_WIDTH, CARD_HEIGHT);
+        }
+    }
+
+    private void drawImage(Image image, Rectangle2D source, double x, double y, double width, double height) {
+        graphics.drawImage(image, source.getMinX(), source.getMinY(), source.getWidth(), source.getHeight(),
+                x, y, width, height);
+    }
+
+    private static Rectangle2D sourceOf(Image image, Rectangle2D viewport) {
+        return viewport != null ? viewport : new Rectangle2D(0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Horizontal distance between two consecutive cards: a small gap if they fit, overlapped otherwise.
+     */
+    private static double stepFor(int count, double width) {
+        if (count <= 1) {
+            return 0;
+        }
+        return Math.min(CARD_WIDTH + CARD_GAP, (width - CARD_WIDTH) / (count - 1));
+    }
+
+    private static double firstCardX(int count, double step, Rectangle2D bounds) {
+        double used = count == 0 ? 0 : CARD_WIDTH + step * (count - 1);
+        return bounds.getMinX() + (bounds.getWidth() - used) / 2;
+    }
+
+    /**
+     * Returns the human card drawn at the given point, checking the topmost (last drawn) card first.
+     *
+     * @param x canvas x coordinate
+     * @param y canvas y coordinate
+     * @return the card under the point, or null
+     */
+    public Card cardAt(double x, double y) {
+        Rectangle2D bounds = regions[Region.HUMAN_HAND.ordinal()];
+        double top = bounds.getMinY() + 5;
+        if (y < top || y > top + CARD_HEIGHT) {
+            return null;
+        }
+        double step = stepFor(humanCards.length, bounds.getWidth());
+        double first = firstCardX(humanCards.length, step, bounds);
+        for (int i = humanCards.length - 1; i >= 0; i--) {
+            double left = first + i * step;
+            if (x >= left && x <= left + CARD_WIDTH) {
+                return humanCards[i];
+            }
+        }
+        return null;
+    }
+
+    private void handleClick(MouseEvent event) {
+        Point2D point = canvas.sceneToLocal(event.getSceneX(), event.getSceneY());
+        Card card = cardAt(point.getX(), point.getY());
+        if (card != null) {
+            event.consume();
+            onCardClicked.accept(card);
+        }
+    }
+
+    private static boolean sameCards(Card[] a, Card[] b) {
+        if (a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a one-line summary of how many times each region was redrawn.
+     *
+     * @return the redraw count per region
+     */
+    public String getStatistics() {
+        StringBuilder summary = new StringBuilder("redibujados:");
+        for (Region region : Region.values()) {
+            summary.append(' ').append(region.name().toLowerCase()).append('=').append(redraws[region.ordinal()]);
+        }
+        return summary.toString();
+    }
+}
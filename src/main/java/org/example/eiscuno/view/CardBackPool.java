@@ -0,0 +1,72 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import org.example.eiscuno.model.card.CardAtlas;
+
+/**
+ * Fixed pool of card-back nodes used to show the hidden hand of the machine.
+ * <p>
+ * The card-back image is decoded once, directly at the size it is shown, and shared by every node.
+ * The nodes are added to the grid when the pool is created, one per column, and a refresh only
+ * toggles their visibility (hidden nodes are also left out of the layout), so showing the machine
+ * hand after each play neither decodes images nor allocates nodes.
+ */
+public class CardBackPool {
+
+    /** Resource of the image shown on the back of every card. */
+    private static final String CARD_BACK_URL = CardAtlas.CARDS_DIRECTORY + "card_uno.png";
+    /** Width the card backs are shown at. */
+    private static final int CARD_BACK_WIDTH = 70;
+
+    private final ImageView[] slots;
+    private int visibleCount = -1;
+
+    /**
+     * Creates the pool and adds its nodes, initially hidden, to the given grid.
+     *
+     * @param gridPane the grid the card backs are shown in, one per column of row 0
+     * @param size     maximum number of card backs shown at once
+     */
+    public CardBackPool(GridPane gridPane, int size) {
+        // Se decodifica directamente al tamaño mostrado, 70 px de ancho conservando la proporción
+        Image cardBack = new Image(getClass().getResource(CARD_BACK_URL).toExternalForm(), CARD_BACK_WIDTH, 0, true, true);
+        slots = new ImageView[size];
+        for (int i = 0; i < size; i++) {
+            ImageView slot = new ImageView(cardBack);
+            slot.setVisible(false);
+            slot.setManaged(false);
+            slots[i] = slot;
+            gridPane.add(slot, i, 0);
+        }
+    }
+
+    /**
+     * Shows the first {@code count} card backs and hides the rest.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @param count number of card backs to show; clamped to the pool size
+     */
+    public void show(int count) {
+        int visible = Math.max(0, Math.min(count, slots.length));
+        if (visible == visibleCount) {
+            return;
+        }
+        for (int i = 0; i < slots.length; i++) {
+            // Las ocultas tampoco ocupan espacio, como si no estuvieran en la grilla
+            slots[i].setVisible(i < visible);
+            slots[i].setManaged(i < visible);
+        }
+        visibleCount = visible;
+    }
+
+    /**
+     * Returns the number of card backs currently shown.
+     *
+     * @return the visible card backs, or -1 before the first {@link #show(int)}
+     */
+    public int getVisibleCount() {
+        return visibleCount;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.eiscuno.view;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.example.eiscuno.controller.EndGameUnoController;
+import org.example.eiscuno.model.logging.GameLog;
+
+import java.io.IOException;
+
+/**
+ * Represents the end-game stage, which shows whether the player won or lost.
+ * <p>
+ * The stage is built once, ahead of time, through {@link #prepare()} (the game calls it when a hand
+ * gets close to empty), and then reused across games: closing it only hides it. Showing a result
+ * is therefore just a label update and a {@link #show()}, with no FXML parsing at game over.
+ */
+public class EndGameStage extends Stage {
+
+    private final EndGameUnoController controller;
+
+    /**
+     * Constructs a new, hidden instance of EndGameStage.
+     *
+     * @throws IOException if an error occurs while loading the FXML file for the end-game interface.
+     */
+    public EndGameStage() throws IOException {
+        FXMLLoader loader = new FXMLLoader(getClass().getResource("/org/example/eiscuno/EndGameUnoView.fxml"));
+        Parent root;
+        try {
+            root = loader.load();
+        } catch (IOException e) {
+            // Re-throwing the caught IOException
+            throw new IOException("Error while loading FXML file", e);
+        }
+        controller = loader.getController();
+        setScene(new Scene(root));
+        setTitle("Game Over");
+    }
+
+    /**
+     * Updates the result and shows the stage, replaying its entrance animations.
+     *
+     * @param playerWon true if the human player won the game; false otherwise.
+     */
+    public void showResult(boolean playerWon) {
+        controller.setResult(playerWon);
+        controller.playEntranceAnimations();
+        show();
+        toFront();
+    }
+
+    /**
+     * Builds the singleton instance if it does not exist yet. Cheap once it exists.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public static void prepare() {
+        try {
+            getInstance();
+        } catch (IOException e) {
+            GameLog.warn("No se pudo preparar la pantalla de fin del juego: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the singleton instance of EndGameStage, building it if it was not prepared.
+     *
+     * @return the singleton instance of EndGameStage.
+     * @throws IOException if an error occurs while creating the instance.
+     */
+    public static EndGameStage getInstance() throws IOException {
+        return EndGameStageHolder.INSTANCE != null ?
+                EndGameStageHolder.INSTANCE :
+                (EndGameStageHolder.INSTANCE = new EndGameStage());
+    }
+
+    /**
+     * Holder class for the singleton instance of EndGameStage.
+     * This class ensures lazy initialization of the singleton instance.
+     */
+    private static class EndGameStageHolder {
+        private static EndGameStage INSTANCE;
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.eiscuno.view;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.util.Duration;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.metrics.FxTasks;
+import org.example.eiscuno.model.metrics.LatencyHistogram;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional overlay and log of how responsive the JavaFX Application Thread is, enabled with
+ * {@code -Deiscuno.fxmonitor=true}. It records:
+ * <ul>
+ *     <li>pulse work: the time the scene spends on CSS and layout in each pulse;</li>
+ *     <li>frame intervals: the time between two frames, which should stay close to 16.7 ms;</li>
+ *     <li>stalls: how late a heartbeat posted every {@value #HEARTBEAT_MILLIS} ms from a watchdog
+ *         thread starts running on the JavaFX thread. Stalls over {@value #STALL_LOG_MILLIS} ms are
+ *         logged by the watchdog thread once they end;</li>
+ *     <li>the run time of every task posted through {@link FxTasks}, grouped by call site.</li>
+ * </ul>
+ * The overlay shows the current numbers in a corner of the scene. The full summary is logged by
+ * {@link #shutdown()}.
+ */
+public final class FxPerformanceMonitor {
+
+    /** Time between two heartbeats of the watchdog. */
+    public static final long HEARTBEAT_MILLIS = 100;
+    /** Stalls longer than this are logged by the watchdog as soon as the JavaFX thread is free again. */
+    public static final long STALL_LOG_MILLIS = 100;
+    /** A frame interval longer than this counts as a dropped frame (two frames at 60 Hz). */
+    private static final long SLOW_FRAME_NANOS = 33_000_000L;
+
+    private static FxPerformanceMonitor instance;
+
+    private final LatencyHistogram pulseWork = new LatencyHistogram("Pulso (CSS + layout)");
+    private final LatencyHistogram frameInterval = new LatencyHistogram("Intervalo entre cuadros");
+    private final LatencyHistogram stalls = new LatencyHistogram("Bloqueo del hilo FX");
+    private final Scene scene;
+    private final Runnable prePulse;
+    private final Runnable postPulse;
+    private final AnimationTimer frameTimer;
+    private final Timeline overlayTimer;
+    private final Thread watchdog;
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+    /** Length of the last stall over {@link #STALL_LOG_MILLIS}, left by the heartbeat for the watchdog to log. */
+    private final AtomicLong stallToLog = new AtomicLong();
+    private final Label overlay = new Label();
+
+    // Solo se usan en el hilo de JavaFX
+    private long pulseStartNanos;
+    private long lastFrameNanos;
+    private long framesInWindow;
+    private long slowFrames;
+    private long windowMaxFrameNanos;
+    private long windowStartNanos = System.nanoTime();
+
+    private FxPerformanceMonitor(Scene scene) {
+        this.scene = scene;
+        this.prePulse = () -> pulseStartNanos = System.nanoTime();
+        this.postPulse = () -> pulseWork.recordSince(pulseStartNanos);
+        this.frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+        this.overlayTimer = new Timeline(new KeyFrame(Duration.millis(500), event -> refreshOverlay()));
+        this.overlayTimer.setCycleCount(Animation.INDEFINITE);
+        this.watchdog = new Thread(this::watch, "FxStallWatchdog");
+        this.watchdog.setDaemon(true);
+        overlay.getStyleClass().add("perf-overlay");
+        overlay.setMouseTransparent(true);
+    }
+
+    /**
+     * Starts monitoring the given scene, if the monitor is enabled for this run.
+     * Must be called on the JavaFX Application Thread, once the scene has its root.
+     *
+     * @param scene the scene to monitor; the overlay is added to its root when the root is a {@link Pane}
+     */
+    public static void install(Scene scene) {
+        if (!FxTasks.isEnabled() || instance != null) {
+            return;
+        }
+        instance = new FxPerformanceMonitor(scene);
+        instance.start();
+    }
+
+    /**
+     * Stops monitoring and prints the summary of everything recorded. Does nothing if not installed.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public static void shutdown() {
+        if (instance == null) {
+            return;
+        }
+        instance.stop();
+        instance.printSummary();
+        instance = null;
+    }
+
+    private void start() {
+        scene.addPreLayoutPulseListener(prePulse);
+        scene.addPostLayoutPulseListener(postPulse);
+        Parent root = scene.getRoot();
+        if (root instanceof Pane) {
+            ((Pane) root).getChildren().add(overlay);
+        }
+        frameTimer.start();
+        overlayTimer.play();
+        watchdog.start();
+    }
+
+    private void stop() {
+        scene.removePreLayoutPulseListener(prePulse);
+        scene.removePostLayoutPulseListener(postPulse);
+        if (overlay.getParent() instanceof Pane) {
+            ((Pane) overlay.getParent()).getChildren().remove(overlay);
+        }
+        frameTimer.stop();
+        overlayTimer.stop();
+        watchdog.interrupt();
+    }
+
+    private void onFrame(long now) {
+        if (lastFrameNanos != 0) {
+            long interval = now - lastFrameNanos;
+            frameInterval.record(interval);
+            windowMaxFrameNanos = Math.max(windowMaxFrameNanos, interval);
+            if (interval > SLOW_FRAME_NANOS) {
+                slowFrames++;
+            }
+        }
+        lastFrameNanos = now;
+        framesInWindow++;
+    }
+
+    /**
+     * Loop of the watchdog thread: posts a heartbeat to the JavaFX thread and measures how late it runs.
+     * A new heartbeat is only posted once the previous one ran, so a long stall is recorded once.
+     * The heartbeat only records the delay; long stalls are logged here, off the JavaFX thread.
+     */
+    private void watch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            long stall = stallToLog.getAndSet(0);
+            if (stall > 0) {
+                GameLog.warn("Hilo FX bloqueado {} ms", stall / 1_000_000L);
+            }
+            if (heartbeatPending.compareAndSet(false, true)) {
+                long postedNanos = System.nanoTime();
+                Platform.runLater(() -> {
+                    long delay = System.nanoTime() - postedNanos;
+                    stalls.record(delay);
+                    if (delay >= STALL_LOG_MILLIS * 1_000_000L) {
+                        stallToLog.set(delay);
+                    }
+                    heartbeatPending.set(false);
+                });
+            }
+            try {
+                Thread.sleep(HEARTBEAT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void refreshOverlay() {
+        long now = System.nanoTime();
+        double seconds = (now - windowStartNanos) / 1e9;
+        List<LatencyHistogram> tasks = FxTasks.getRunTimes();
+        String slowest = tasks.isEmpty() ? "-"
+                : tasks.get(0).getName() + " " + tasks.get(0).getMaxNanos() / 1_000_000L + " ms";
+        overlay.setText(String.format("FPS %.0f | cuadro máx %d ms | lentos %d%npulso p99 %.1f ms | bloqueo máx %d ms%ntarea más lenta: %s",
+                framesInWindow / seconds, windowMaxFrameNanos / 1_000_000L, slowFrames,
+                pulseWork.percentile(99) / 1e6, stalls.getMaxNanos() / 1_000_000L, slowest));
+        overlay.toFront();
+        framesInWindow = 0;
+        windowMaxFrameNanos = 0;
+        windowStartNanos = now;
+    }
+
+    private void printSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("\n  ").append(pulseWork.summary());
+        summary.append("\n  ").append(frameInterval.summary()).append(" lentos=").append(slowFrames);
+        summary.append("\n  ").append(stalls.summary());
+        summary.append("\nTareas en el hilo FX por origen:");
+        for (String line : FxTasks.summaries()) {
+            summary.append("\n  ").append(line);
+        }
+        GameLog.info("Rendimiento del hilo FX:{}", summary.toString());
+    }
+}
@@ -1,10 +1,10 @@
 package org.example.eiscuno.view;
 
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import org.example.eiscuno.model.logging.GameLog;
 
 import java.io.IOException;
 
@@ -16,18 +16,16 @@ public class GameUnoStage extends Stage {
 
     /**
      * Constructs a new instance of GameUnoStage.
+     * <p>
+     * The game view is taken from the {@link GameScenePreloader}, which has usually parsed it in the
+     * background while the welcome screen was shown; the game is then started on this thread.
      *
      * @throws IOException if an error occurs while loading the FXML file for the game interface.
      */
     public GameUnoStage() throws IOException {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/org/example/eiscuno/GameUnoView.fxml"));
-        Parent root;
-        try {
-            root = loader.load();
-        } catch (IOException e) {
-            // Re-throwing the caught IOException
-            throw new IOException("Error while loading FXML file", e);
-        }
+        GameScenePreloader.PreparedScene prepared = GameScenePreloader.take();
+        Parent root = prepared.getRoot();
+        prepared.getController().beginGame();
         Scene scene = new Scene(root);
         // Configuring the stage
         setTitle("EISC Uno"); // Sets the title of the stage
@@ -36,11 +34,31 @@ public class GameUnoStage extends Stage {
 
         this.getIcons().add(new Image(getClass().getResource("/org/example/eiscuno/favicon.png").toExternalForm()));
         scene.getStylesheets().add(getClass().getResource("/org/example/eiscuno/css/style.css").toExternalForm());
+        // Superposición de rendimiento, solo con -Deiscuno.fxmonitor=true
+        FxPerformanceMonitor.install(scene);
 
 
         show(); // Displays the stage
     }
 
+    /**
+     * Prints the time elapsed between {@code startNanos} and the first frame laid out by this stage,
+     * which is when the game becomes interactive.
+     *
+     * @param label      short description of what started the measurement (e.g. "Continuar")
+     * @param startNanos the start timestamp, as returned by {@link System#nanoTime()}
+     */
+    public void reportTimeToFirstFrame(String label, long startNanos) {
+        Scene scene = getScene();
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            GameLog.info("{}: primer cuadro interactivo en {} ms",
+                    label, String.format("%.1f", (System.nanoTime() - startNanos) / 1_000_000.0));
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
     /**
      * Closes the instance of GameUnoStage.
      * This method is used to clean up resources when the game stage is no longer needed.
@@ -0,0 +1,128 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import org.example.eiscuno.model.card.Card;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Renders the visible part of a hand into a {@link GridPane} by applying only the differences
+ * with the previous render.
+ * <p>
+ * Each card keeps its own {@link ImageView} ({@link Card#getCard()}), which is used as a stable
+ * node: it gets its click handler once, when it enters the grid, and stays attached while the
+ * card remains visible. On every {@link #render(Card[])} the new visible cards are compared with
+ * the rendered ones, and only the nodes of cards that left the window are removed, the nodes of
+ * cards that entered it are added, and the nodes of cards that changed column are moved.
+ * A refresh with the same visible cards does not touch the scene graph at all.
+ */
+public class HandRenderer {
+
+    private final GridPane gridPane;
+    private final Consumer<Card> onCardClicked;
+    private final Map<Card, Integer> renderedColumns = new IdentityHashMap<>();
+    private Card[] rendered = new Card[0];
+
+    private long renders;
+    private long unchangedRenders;
+    private long nodesAdded;
+    private long nodesRemoved;
+    private long nodesMoved;
+
+    /**
+     * Creates a renderer for the given grid.
+     *
+     * @param gridPane      the grid the cards are shown in, one card per column of row 0
+     * @param onCardClicked called with the card whose node was clicked
+     */
+    public HandRenderer(GridPane gridPane, Consumer<Card> onCardClicked) {
+        this.gridPane = gridPane;
+        this.onCardClicked = onCardClicked;
+    }
+
+    /**
+     * Shows the given cards, card {@code i} in column {@code i}, changing only the nodes that differ
+     * from the previous render. Must be called on the JavaFX Application Thread.
+     *
+     * @param visibleCards the cards to show, in column order
+     */
+    public void render(Card[] visibleCards) {
+        renders++;
+        if (sameCards(visibleCards)) {
+            unchangedRenders++;
+            return;
+        }
+
+        Map<Card, Integer> newColumns = new IdentityHashMap<>(visibleCards.length * 2);
+        for (int i = 0; i < visibleCards.length; i++) {
+            newColumns.put(visibleCards[i], i);
+        }
+
+        // Quitar los nodos de las cartas que ya no están visibles
+        for (Card card : rendered) {
+            if (!newColumns.containsKey(card)) {
+                ImageView view = card.getCard();
+                gridPane.getChildren().remove(view);
+                view.setOnMouseClicked(null);
+                nodesRemoved++;
+            }
+        }
+
+        // Mover las que cambiaron de columna y agregar las nuevas
+        for (int i = 0; i < visibleCards.length; i++) {
+            Card card = visibleCards[i];
+            Integer column = renderedColumns.get(card);
+            if (column == null) {
+                ImageView view = card.getCard();
+                view.setOnMouseClicked(event -> onCardClicked.accept(card));
+                gridPane.add(view, i, 0);
+                nodesAdded++;
+            } else if (column != i) {
+                GridPane.setColumnIndex(card.getCard(), i);
+                nodesMoved++;
+            }
+        }
+
+        renderedColumns.clear();
+        renderedColumns.putAll(newColumns);
+        rendered = visibleCards.clone();
+    }
+
+    /**
+     * Removes every rendered node, so the next render starts from an empty grid.
+     */
+    public void clear() {
+        render(new Card[0]);
+    }
+
+    private boolean sameCards(Card[] visibleCards) {
+        if (visibleCards.length != rendered.length) {
+            return false;
+        }
+        for (int i = 0; i < visibleCards.length; i++) {
+            if (visibleCards[i] != rendered[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getRenderCount() { return renders; }
+    public long getUnchangedRenderCount() { return unchangedRenders; }
+    public long getNodesAdded() { return nodesAdded; }
+    public long getNodesRemoved() { return nodesRemoved; }
+    public long getNodesMoved() { return nodesMoved; }
+
+    /**
+     * Returns a one-line summary of the rendering activity.
+     *
+     * @return render counts and the number of nodes added, removed and moved
+     */
+    public String getStatistics() {
+        return "renderizados=" + renders + " sin cambios=" + unchangedRenders
+                + " nodos agregados=" + nodesAdded + " quitados=" + nodesRemoved + " movidos=" + nodesMoved;
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.eiscuno.view;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+import org.example.eiscuno.model.metrics.FxTasks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-modal, in-scene notifications for game events.
+ * <p>
+ * Replaces {@code Alert.showAndWait()} for warnings that do not need an answer: a modal dialog
+ * stalls the JavaFX event loop until it is closed and several of them pile up when events fire
+ * together. Notifications are instead shown as labels inside a container of the game scene and
+ * disappear on their own, so they never block rendering or input.
+ * <ul>
+ *     <li>{@link #post(Level, String, String)} can be called from any thread; the notification is
+ *         handed to the JavaFX Application Thread through a lock-free queue.</li>
+ *     <li>Rate limiting: at most {@value #MAX_VISIBLE} notifications are visible at once and a new
+ *         one appears at most every {@value #MIN_INTERVAL_MILLIS} ms; the rest wait their turn.</li>
+ *     <li>De-duplication: a message equal to one that is visible or waiting is not added again;
+ *         the existing one shows a repeat counter and stays visible longer.</li>
+ * </ul>
+ */
+public class NotificationQueue {
+
+    /** Severity of a notification, which selects its style class. */
+    public enum Level { INFO, WARNING, ERROR }
+
+    /** Maximum number of notifications visible at the same time. */
+    public static final int MAX_VISIBLE = 3;
+    /** Minimum time between two notifications appearing. */
+    public static final long MIN_INTERVAL_MILLIS = 400;
+    /** Time a notification stays visible after its last repetition. */
+    public static final long DISPLAY_MILLIS = 4000;
+
+    private final VBox container;
+    private final ConcurrentLinkedQueue<Notice> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    // Solo se usan en el hilo de JavaFX
+    private final ArrayDeque<Notice> waiting = new ArrayDeque<>();
+    private final List<Notice> visible = new ArrayList<>(MAX_VISIBLE);
+    private final Timeline ticker;
+    private long lastShownMillis;
+    private long posted;
+    private long suppressed;
+
+    /**
+     * Creates a queue that shows its notifications in the given container.
+     *
+     * @param container the box, usually an overlay of the game scene, notifications are added to
+     */
+    public NotificationQueue(VBox container) {
+        this.container = container;
+        this.ticker = new Timeline(new KeyFrame(Duration.millis(100), event -> update()));
+        this.ticker.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * Queues a notification. Never blocks; may be called from any thread.
+     *
+     * @param level   the severity of the notification
+     * @param title   a short title, shown before the message
+     * @param message the text of the notification
+     */
+    public void post(Level level, String title, String message) {
+        incoming.add(new Notice(level, title, message));
+        if (drainScheduled.compareAndSet(false, true)) {
+            FxTasks.runLater("NotificationQueue.drain", this::drain);
+        }
+    }
+
+    public void info(String title, String message) { post(Level.INFO, title, message); }
+    public void warning(String title, String message) { post(Level.WARNING, title, message); }
+    public void error(String title, String message) { post(Level.ERROR, title, message); }
+
+    /**
+     * Moves the incoming notifications to the waiting list, merging repeated ones.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        Notice notice;
+        while ((notice = incoming.poll()) != null) {
+            posted++;
+            Notice existing = find(notice);
+            if (existing != null) {
+                existing.repeat();
+                suppressed++;
+            } else {
+                waiting.add(notice);
+            }
+        }
+        update();
+        if (ticker.getStatus() != Animation.Status.RUNNING && !(visible.isEmpty() && waiting.isEmpty())) {
+            ticker.play();
+        }
+    }
+
+    /**
+     * Removes expired notifications and shows waiting ones within the rate limit.
+     * Stops the ticker once there is nothing left to show.
+     */
+    private void update() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Notice> it = visible.iterator(); it.hasNext(); ) {
+            Notice notice = it.next();
+            if (now >= notice.expiresAt) {
+                container.getChildren().remove(notice.label);
+                it.remove();
+            }
+        }
+        if (!waiting.isEmpty() && visible.size() < MAX_VISIBLE && now - lastShownMillis >= MIN_INTERVAL_MILLIS) {
+            Notice notice = waiting.poll();
+            notice.show(now);
+            visible.add(notice);
+            container.getChildren().add(notice.label);
+            lastShownMillis = now;
+        }
+        if (visible.isEmpty() && waiting.isEmpty()) {
+            ticker.stop();
+        }
+    }
+
+    private Notice find(Notice notice) {
+        for (Notice candidate : visible) {
+            if (candidate.sameAs(notice)) {
+                return candidate;
+            }
+        }
+        for (Notice candidate : waiting) {
+            if (candidate.sameAs(notice)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes every notification, visible or waiting.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void clear() {
+        incoming.clear();
+        waiting.clear();
+        for (Notice notice : visible) {
+            container.getChildren().remove(notice.label);
+        }
+        visible.clear();
+        ticker.stop();
+    }
+
+    /**
+     * Returns a one-line summary of the notifications posted so far.
+     *
+     * @return posted and merged counts
+     */
+    public String getStatistics() {
+        return "notificaciones=" + posted + " repetidas=" + suppressed;
+    }
+
+    /**
+     * One notification; its label is created only when it becomes visible.
+     */
+    private static final class Notice {
+        private final Level level;
+        private final String title;
+        private final String message;
+        private int count = 1;
+        private long expiresAt;
+        private Label label;
+
+        private Notice(Level level, String title, String message) {
+            this.level = level;
+            this.title = title;
+            this.message = message;
+        }
+
+        private boolean sameAs(Notice other) {
+            return level == other.level && Objects.equals(title, other.title)
+                    && Objects.equals(message, other.message);
+        }
+
+        private void show(long now) {
+            label = new Label();
+            label.setWrapText(true);
+            label.getStyleClass().addAll("notification", "notification-" + level.name().toLowerCase());
+            expiresAt = now + DISPLAY_MILLIS;
+            refreshText();
+        }
+
+        private void repeat() {
+            count++;
+            if (label != null) {
+                expiresAt = System.currentTimeMillis() + DISPLAY_MILLIS;
+                refreshText();
+            }
+        }
+
+        private void refreshText() {
+            label.setText(title + ": " + message + (count > 1 ? " (x" + count + ")" : ""));
+        }
+    }
+}
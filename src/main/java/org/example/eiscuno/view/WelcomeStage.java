@@ -40,6 +40,9 @@ public class WelcomeStage extends Stage {
         this.getIcons().add(new Image(getClass().getResource("/org/example/eiscuno/favicon.png").toExternalForm()));
 
         show(); // Displays the stage
+
+        // Mientras el jugador está en la bienvenida, se prepara la escena de juego
+        GameScenePreloader.start();
     }
 
     /**
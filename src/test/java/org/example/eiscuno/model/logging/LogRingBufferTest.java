@@ -0,0 +1,107 @@
+package org.example.eiscuno.model.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LogRingBuffer} and the formatting of a {@link LogRecord}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>Messages offered by many threads at once are all taken once, each thread's in order</li>
+ *   <li>A full buffer drops and counts new messages instead of blocking</li>
+ *   <li>The "{}" placeholders are replaced with the arguments</li>
+ * </ul>
+ */
+class LogRingBufferTest {
+
+    /**
+     * Four producers and one consumer exchange every message exactly once, in each producer's order.
+     */
+    @Test
+    void concurrentProducersLoseNothing() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        LogRingBuffer buffer = new LogRingBuffer(64);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String name = "P" + p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(LogLevel.INFO, 0L, name, "{}", i, null)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        int[] next = new int[producers];
+        LogRecord record = new LogRecord();
+        int received = 0;
+        while (received < producers * perProducer) {
+            if (buffer.poll(record)) {
+                int producer = record.thread.charAt(1) - '0';
+                assertEquals(next[producer]++, record.first);
+                received++;
+            } else {
+                Thread.yield();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(buffer.poll(record));
+        for (int count : next) {
+            assertEquals(perProducer, count);
+        }
+        assertEquals(received, buffer.getConsumed());
+    }
+
+    /**
+     * Once the capacity is reached offers fail and are counted, and freeing one slot lets one more in.
+     */
+    @Test
+    void fullBufferDropsMessages() {
+        LogRingBuffer buffer = new LogRingBuffer(8);
+        assertEquals(8, buffer.getCapacity());
+        for (int i = 0; i < 8; i++) {
+            assertTrue(buffer.offer(LogLevel.DEBUG, i, "main", "mensaje", null, null));
+        }
+        assertFalse(buffer.offer(LogLevel.DEBUG, 8, "main", "mensaje", null, null));
+        assertEquals(1, buffer.getDropped());
+
+        LogRecord record = new LogRecord();
+        assertTrue(buffer.poll(record));
+        assertEquals(0L, record.timeMillis);
+        assertTrue(buffer.offer(LogLevel.DEBUG, 9, "main", "mensaje", null, null));
+    }
+
+    /**
+     * Placeholders take the arguments in order; missing arguments leave the rest of the pattern as is.
+     */
+    @Test
+    void formatsPlaceholders() {
+        LogRecord record = new LogRecord();
+        record.pattern = "Máquina robó: {} - {}";
+        record.first = "5";
+        record.second = "RED";
+        StringBuilder out = new StringBuilder();
+        record.formatMessage(out);
+        assertEquals("Máquina robó: 5 - RED", out.toString());
+
+        record.pattern = "Sin argumentos {}";
+        record.first = null;
+        record.second = null;
+        out.setLength(0);
+        record.formatMessage(out);
+        assertEquals("Sin argumentos null", out.toString());
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.eiscuno.model.metrics;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.exceptions.EmptyDeckException;
+import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.MachineTurn;
+import org.example.eiscuno.model.metrics.events.MachineDecisionEvent;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.simulation.PlayStrategies;
+import org.example.eiscuno.model.simulation.RuleOptions;
+import org.example.eiscuno.model.simulation.SimulatedGame;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Stack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Allocation budgets of the game's hot paths, measured with the per-thread allocation counter of
+ * {@link com.sun.management.ThreadMXBean}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>{@link GameUno#playCard(Card)} of a number card stays within its budget</li>
+ *   <li>A machine turn ({@link MachineTurn}) stays within its budget</li>
+ *   <li>A whole headless game ({@link SimulatedGame}) stays within its budget</li>
+ * </ul>
+ * Every operation is run until compiled before it is measured, and the cheapest of several rounds is
+ * kept, so the numbers are those of the game in steady state. A copied hand, a stream or a string built
+ * for a disabled log message on one of these paths shows up as a broken budget.
+ */
+class AllocationBudgetTest {
+
+    /*
+     * Los presupuestos cuentan los eventos de Flight Recorder (48 bytes cada uno): el JIT suele
+     * eliminarlos cuando no se graba, pero no siempre lo logra a tiempo para la medición.
+     */
+    /** Bytes per {@code playCard}: the growth of the table's list and two events. */
+    private static final long PLAY_CARD_BUDGET = 160;
+    /** Bytes per machine turn, playing or drawing: table growth and up to three events. */
+    private static final long MACHINE_TURN_BUDGET = 256;
+    /** Bytes per headless game, almost all of them the deck, the hands and the table. */
+    private static final long HEADLESS_GAME_BUDGET = 8 * 1024;
+
+    private static final int ROUNDS = 5;
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void enableAllocationCounter() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "La JVM no mide memoria asignada por hilo");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Playing a number card allocates little more than the slot it takes on the table.
+     */
+    @Test
+    void playCardStaysWithinBudget() throws InvalidCardPlayException {
+        int hand = 500;
+        for (int i = 0; i < 400; i++) {
+            playNumberCards(hand);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            best = Math.min(best, playNumberCards(hand) / hand);
+        }
+        assertWithinBudget("GameUno.playCard", best, PLAY_CARD_BUDGET);
+    }
+
+    /**
+     * A machine turn, whether it plays or draws, allocates only its decision event and table growth.
+     */
+    @Test
+    void machineTurnStaysWithinBudget() {
+        for (int i = 0; i < 3000; i++) {
+            playMachineTurns(i);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long[] measured = playMachineTurns(1000 + round);
+            best = Math.min(best, measured[0] / measured[1]);
+        }
+        assertWithinBudget("MachineTurn", best, MACHINE_TURN_BUDGET);
+    }
+
+    /**
+     * A whole headless game allocates about its own cards and nothing per move.
+     */
+    @Test
+    void headlessGameStaysWithinBudget() {
+        for (long seed = 0; seed < 5000; seed++) {
+            SimulatedGame.play(seed, PlayStrategies.FIRST, PlayStrategies.AGGRESSIVE, RuleOptions.DEFAULT);
+        }
+        int games = 500;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = allocatedBytes();
+            for (long seed = 0; seed < games; seed++) {
+                SimulatedGame.play(seed, PlayStrategies.FIRST, PlayStrategies.AGGRESSIVE, RuleOptions.DEFAULT);
+            }
+            best = Math.min(best, (allocatedBytes() - before) / games);
+        }
+        assertWithinBudget("SimulatedGame.play", best, HEADLESS_GAME_BUDGET);
+    }
+
+    /**
+     * Has the human play a hand of red number cards over a red card.
+     *
+     * @return the bytes allocated by the {@code playCard} calls alone
+     */
+    private static long playNumberCards(int hand) throws InvalidCardPlayException {
+        Player human = new Player("HUMAN_PLAYER");
+        GameUno gameUno = new GameUno(human, new Player("MACHINE_PLAYER"), new Deck(new Stack<>()), new Table());
+        int[] numbers = redNumberIds();
+        gameUno.getTable().addCardOnTheTable(CardCatalog.newCard(numbers[0]));
+        Card[] cards = new Card[hand];
+        for (int i = 0; i < hand; i++) {
+            cards[i] = CardCatalog.newCard(numbers[i % numbers.length]);
+            human.addCard(cards[i]);
+        }
+
+        long before = allocatedBytes();
+        for (Card card : cards) {
+            gameUno.playCard(card);
+        }
+        return allocatedBytes() - before;
+    }
+
+    /**
+     * Plays machine turns on a shuffled deck until the machine's hand or the deck runs out.
+     *
+     * @return the bytes allocated by the turns and the number of turns played
+     */
+    private static long[] playMachineTurns(long seed) {
+        Player machine = new Player("MACHINE_PLAYER");
+        Deck deck = new Deck(new Random(seed));
+        GameUno gameUno = new GameUno(new Player("HUMAN_PLAYER"), machine, deck, new Table());
+        gameUno.startGame(15);
+        MachineTurn machineTurn = new MachineTurn(gameUno, machine);
+
+        int turns = 0;
+        long before = allocatedBytes();
+        while (machine.getCardCount() > 0 && !gameUno.isGameOver()) {
+            MachineDecisionEvent decision = new MachineDecisionEvent();
+            try {
+                if (machineTurn.playCard(decision) == null) {
+                    machineTurn.drawCard(decision);
+                }
+            } catch (InvalidCardPlayException | EmptyDeckException e) {
+                break;
+            }
+            turns++;
+        }
+        long allocated = allocatedBytes() - before;
+        return new long[] {allocated, Math.max(1, turns)};
+    }
+
+    private static int[] redNumberIds() {
+        int[] ids = new int[CardCatalog.BASE_CARD_COUNT];
+        int count = 0;
+        for (int id = 0; id < CardCatalog.BASE_CARD_COUNT; id++) {
+            if ("RED".equals(CardCatalog.colorOf(id)) && CardCatalog.valueOf(id).matches("\\d")) {
+                ids[count++] = id;
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    private static long allocatedBytes() {
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private static void assertWithinBudget(String operation, long bytes, long budget) {
+        assertTrue(bytes <= budget, operation + " asignó " + bytes + " bytes; el presupuesto es " + budget);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.eiscuno.model.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MetricsRegistry}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>The same name always gives the same metric, and never a metric of another kind</li>
+ *   <li>A gauge takes the latest supplier</li>
+ *   <li>Metrics are readable as JMX attributes once exposed, including those created afterwards</li>
+ * </ul>
+ */
+class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    /**
+     * Asking twice for a name returns the same metric; asking for another kind fails.
+     */
+    @Test
+    void sameNameSameMetric() {
+        Counter counter = registry.counter("test.same");
+        counter.add(3);
+        assertSame(counter, registry.counter("test.same"));
+        assertEquals(3, registry.counter("test.same").getCount());
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("test.same"));
+    }
+
+    /**
+     * Registering a gauge again replaces its supplier.
+     */
+    @Test
+    void gaugeTakesLatestSupplier() {
+        Gauge gauge = registry.gauge("test.gauge", () -> 1);
+        registry.gauge("test.gauge", () -> 2);
+        assertEquals(2, gauge.getValue());
+    }
+
+    /**
+     * Counters, gauges and histograms are MBeans of the platform server after {@link MetricsRegistry#exposeJmx()}.
+     */
+    @Test
+    void metricsAreReadableThroughJmx() throws Exception {
+        Counter before = registry.counter("test.jmx.before");
+        before.increment();
+        registry.exposeJmx();
+        LatencyHistogram after = registry.histogram("test.jmx.after");
+        after.record(1_000);
+        Gauge gauge = registry.gauge("test.jmx.gauge", () -> 42);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(MetricsRegistry.objectName("test.jmx.before", before), "Count"));
+        assertEquals(1L, server.getAttribute(MetricsRegistry.objectName("test.jmx.after", after), "Count"));
+        assertEquals(42L, server.getAttribute(MetricsRegistry.objectName("test.jmx.gauge", gauge), "Value"));
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.eiscuno.model.metrics.events;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.eiscuno.model.simulation.GameResult;
+import org.example.eiscuno.model.simulation.PlayStrategies;
+import org.example.eiscuno.model.simulation.RuleOptions;
+import org.example.eiscuno.model.simulation.SimulatedGame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Flight Recorder events of the game engine.
+ * <p>
+ * Plays a headless game while recording and verifies that:
+ * </p>
+ * <ul>
+ *   <li>Every card played and drawn is one event, with its player and card</li>
+ *   <li>Every card played produces one effect event, special or not (the effect is empty for
+ *       cards without one)</li>
+ * </ul>
+ */
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * The events of a recorded game add up to the counts of its result.
+     */
+    @Test
+    void recordedGameMatchesResult() throws Exception {
+        List<RecordedEvent> events;
+        GameResult result;
+        try (Recording recording = new Recording()) {
+            recording.enable(CardPlayedEvent.class);
+            recording.enable(CardDrawnEvent.class);
+            recording.enable(PenaltyDrawEvent.class);
+            recording.enable(CardEffectEvent.class);
+            recording.start();
+            result = SimulatedGame.play(3, PlayStrategies.FIRST, PlayStrategies.AGGRESSIVE, RuleOptions.DEFAULT);
+            recording.stop();
+            Path file = tempDir.resolve("game.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        long played = count(events, "org.example.eiscuno.CardPlayed");
+        long drawnByChoice = count(events, "org.example.eiscuno.CardDrawn");
+        long penaltyCards = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.example.eiscuno.PenaltyDraw"))
+                .mapToLong(e -> e.getInt("drawn"))
+                .sum();
+        assertEquals(result.getCardsPlayed(), played);
+        assertEquals(result.getCardsDrawn(), drawnByChoice + penaltyCards);
+        assertEquals(played, count(events, "org.example.eiscuno.CardEffect"));
+
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("org.example.eiscuno.CardPlayed")) {
+                assertNotNull(event.getString("player"));
+                assertNotNull(event.getString("value"));
+            }
+        }
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the write-behind {@link AutoSaveService}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>Snapshots submitted during a write or the coalescing window collapse into the newest one</li>
+ *   <li>A snapshot older than the last one written is dropped</li>
+ *   <li>{@code shutdown} writes the pending snapshot without waiting out the window</li>
+ *   <li>Durable snapshots skip the coalescing window, and a replaced one completes with false</li>
+ * </ul>
+ */
+class AutoSaveServiceTest {
+    private final List<GameUnoState> writes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private CountDownLatch release;
+    private GameUno game;
+    private AutoSaveService service;
+
+    /**
+     * Handler that keeps the written snapshots in memory and, while {@link #release} is closed,
+     * holds the writer inside its first write.
+     */
+    private final ISerializableFileHandler gated = new ISerializableFileHandler() {
+        @Override
+        public void serialize(String filename, Object element) {
+            writing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writes.add((GameUnoState) element);
+        }
+
+        @Override
+        public Object deserialize(String filename) {
+            return null;
+        }
+    };
+
+    /**
+     * Creates a started game to take snapshots of; the gate is open unless a test closes it.
+     */
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(0);
+        game = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Deck(new Random(5)), new Table());
+        game.startGame();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown(2000);
+        }
+    }
+
+    private GameUnoState snapshot(long generation, int position) {
+        return GameUnoState.snapshotOf(game, generation, position);
+    }
+
+    /**
+     * Snapshots submitted while the first one is being written are replaced by the newest.
+     */
+    @Test
+    void snapshotsDuringAWriteAreCoalesced() throws InterruptedException {
+        release = new CountDownLatch(1);
+        service = new AutoSaveService(gated, "partida", 0);
+        GameUnoState first = snapshot(1, 0);
+        service.submit(first);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        service.submit(snapshot(1, 1));
+        service.submit(snapshot(1, 2));
+        GameUnoState newest = snapshot(1, 3);
+        service.submit(newest);
+        release.countDown();
+        awaitWrites(2);
+
+        assertEquals(List.of(first, newest), writes);
+        assertEquals(4, service.getSubmittedCount());
+        assertEquals(2, service.getWrittenCount());
+        assertEquals(2, service.getCoalescedCount());
+    }
+
+    /**
+     * Snapshots submitted within the coalescing window after a write are written once, at its end.
+     */
+    @Test
+    void snapshotsWithinTheWindowAreCoalesced() throws InterruptedException {
+        service = new AutoSaveService(gated, "partida", 200);
+        GameUnoState first = snapshot(1, 0);
+        service.submit(first);
+        awaitWrites(1);
+        long written = System.nanoTime();
+
+        service.submit(snapshot(1, 1));
+        GameUnoState newest = snapshot(1, 2);
+        service.submit(newest);
+        awaitWrites(2);
+
+        assertTrue(System.nanoTime() - written >= TimeUnit.MILLISECONDS.toNanos(150),
+                "Se escribió antes de terminar la ventana");
+        assertEquals(List.of(first, newest), writes);
+        assertEquals(1, service.getCoalescedCount());
+    }
+
+    /**
+     * A snapshot taken at an earlier journal position than the last one written is never written.
+     */
+    @Test
+    void olderSnapshotIsDropped() throws InterruptedException {
+        service = new AutoSaveService(gated, "partida", 0);
+        GameUnoState newer = snapshot(2, 0);
+        service.submit(newer);
+        awaitWrites(1);
+
+        service.submit(snapshot(1, 5));
+        service.shutdown(2000);
+
+        assertEquals(List.of(newer), writes);
+        assertEquals(1, service.getWrittenCount());
+        assertEquals(1, service.getCoalescedCount());
+    }
+
+    /**
+     * Shutting down writes the snapshot waiting for the end of a long window, without waiting for it.
+     */
+    @Test
+    void shutdownWritesThePendingSnapshot() throws InterruptedException {
+        service = new AutoSaveService(gated, "partida", 10_000);
+        service.submit(snapshot(1, 0));
+        awaitWrites(1);
+        GameUnoState pending = snapshot(1, 1);
+        service.submit(pending);
+
+        long start = System.nanoTime();
+        service.shutdown(2000);
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(2, writes.size());
+        assertSame(pending, writes.get(1));
+    }
+
+    /**
+     * A durable snapshot is written at once even inside a long coalescing window.
+     */
+    @Test
+    void durableSnapshotSkipsTheWindow()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        service = new AutoSaveService(gated, "partida", 10_000);
+        service.submit(snapshot(1, 0));
+        awaitWrites(1);
+
+        GameUnoState durable = snapshot(2, 0);
+        assertTrue(service.submitDurable(durable).get(5, TimeUnit.SECONDS));
+        assertSame(durable, writes.get(1));
+    }
+
+    /**
+     * A durable snapshot replaced before being written completes with false; the newer one is written.
+     */
+    @Test
+    void replacedDurableSnapshotCompletesWithFalse()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        release = new CountDownLatch(1);
+        service = new AutoSaveService(gated, "partida", 0);
+        service.submit(snapshot(1, 0));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> replaced = service.submitDurable(snapshot(2, 0));
+        GameUnoState durable = snapshot(3, 0);
+        CompletableFuture<Boolean> newest = service.submitDurable(durable);
+        assertFalse(replaced.getNow(true));
+
+        release.countDown();
+        assertTrue(newest.get(5, TimeUnit.SECONDS));
+        assertSame(durable, writes.get(1));
+    }
+
+    private void awaitWrites(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (writes.size() < count) {
+            assertTrue(System.nanoTime() < deadline, "El autoguardado no escribió");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the crash-safe saves of {@link BinaryGameStateFileHandler}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>A save keeps the save it replaces as the previous generation</li>
+ *   <li>A truncated or corrupted save falls back to the previous generation</li>
+ *   <li>{@code hasValidSave} reports whether any generation passes its checksum</li>
+ *   <li>A temporary file left by an interrupted save is ignored</li>
+ * </ul>
+ */
+class BinaryGameStateFileHandlerTest {
+    private BinaryGameStateFileHandler handler;
+    private Path save;
+    private GameUnoState older;
+    private GameUnoState newer;
+
+    /**
+     * Prepares two snapshots of a game, before and after the human player draws two cards.
+     */
+    @BeforeEach
+    void setUp(@TempDir Path dir) {
+        handler = new BinaryGameStateFileHandler();
+        save = dir.resolve("GameUnoState.ser");
+        GameUno game = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Deck(new Random(3)), new Table());
+        game.startGame();
+        older = GameUnoState.snapshotOf(game);
+        game.eatCard(game.getHumanPlayer(), 2);
+        newer = GameUnoState.snapshotOf(game);
+    }
+
+    private Path backup() {
+        return Path.of(save + ".bak");
+    }
+
+    private GameUnoState load() {
+        return (GameUnoState) handler.deserialize(save.toString());
+    }
+
+    /** Cuts a file in half, keeping its magic number so it is not taken for an old save. */
+    private static void truncate(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+    }
+
+    private static void assertSameHand(GameUnoState expected, GameUnoState actual) {
+        List<Card> cards = expected.getHumanPlayer().getCardsPlayer();
+        assertEquals(cards.size(), actual.getHumanPlayer().getCardCount());
+        for (int i = 0; i < cards.size(); i++) {
+            assertEquals(CardCatalog.idOf(cards.get(i)), CardCatalog.idOf(actual.getHumanPlayer().getCard(i)));
+        }
+    }
+
+    /**
+     * Tests that the second save leaves the first one as the previous generation.
+     */
+    @Test
+    void testSaveKeepsPreviousGeneration() {
+        handler.serialize(save.toString(), older);
+        handler.serialize(save.toString(), newer);
+
+        assertSameHand(newer, load());
+        assertTrue(Files.exists(backup()));
+        assertSameHand(older, (GameUnoState) handler.deserialize(backup().toString()));
+    }
+
+    /**
+     * Tests that a save cut short is replaced by the previous generation on load.
+     */
+    @Test
+    void testTruncatedSaveFallsBackToBackup() throws IOException {
+        handler.serialize(save.toString(), older);
+        handler.serialize(save.toString(), newer);
+        truncate(save);
+
+        assertSameHand(older, load());
+    }
+
+    /**
+     * Tests that a save with a flipped bit fails its CRC and the previous generation is loaded.
+     */
+    @Test
+    void testCorruptedSaveFallsBackToBackup() throws IOException {
+        handler.serialize(save.toString(), older);
+        handler.serialize(save.toString(), newer);
+        byte[] bytes = Files.readAllBytes(save);
+        bytes[GameUnoStateCodec.HEADER_SIZE + 1] ^= 0x10;
+        Files.write(save, bytes);
+
+        assertSameHand(older, load());
+    }
+
+    /**
+     * Tests that a save can be continued while at least one generation is valid.
+     */
+    @Test
+    void testHasValidSave() throws IOException {
+        assertFalse(handler.hasValidSave(save.toString()));
+
+        handler.serialize(save.toString(), older);
+        assertTrue(handler.hasValidSave(save.toString()));
+
+        handler.serialize(save.toString(), newer);
+        truncate(save);
+        assertTrue(handler.hasValidSave(save.toString()));
+
+        truncate(backup());
+        assertFalse(handler.hasValidSave(save.toString()));
+        assertNull(load());
+    }
+
+    /**
+     * Tests that a temporary file left by an interrupted save is neither loaded nor in the way
+     * of the next save.
+     */
+    @Test
+    void testLeftoverTempFileIsIgnored() throws IOException {
+        handler.serialize(save.toString(), older);
+        Path temp = Path.of(save + ".tmp");
+        Files.write(temp, new byte[]{(byte) 0xFF, 0x00, 0x42});
+
+        assertSameHand(older, load());
+        assertTrue(new BinaryGameStateFileHandler().hasValidSave(save.toString()));
+
+        handler.serialize(save.toString(), newer);
+        assertSameHand(newer, load());
+        assertFalse(Files.exists(temp));
+    }
+}
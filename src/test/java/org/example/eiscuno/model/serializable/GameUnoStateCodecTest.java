@@ -0,0 +1,112 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary save format implemented by {@link GameUnoStateCodec}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>Every zone of the game survives an encode/decode round trip</li>
+ *   <li>The chosen color of a wild card on the table is kept</li>
+ *   <li>A full game is encoded in less than 200 bytes</li>
+ *   <li>Corrupted data is rejected by the CRC check</li>
+ * </ul>
+ */
+class GameUnoStateCodecTest {
+    private GameUno game;
+
+    /**
+     * Creates a started game with a named human player.
+     */
+    @BeforeEach
+    void setUp() {
+        Player human = new Player("HUMAN_PLAYER");
+        human.setPlayerName("[Natalia]");
+        game = new GameUno(human, new Player("MACHINE_PLAYER"), new Deck(), new Table());
+        game.startGame();
+    }
+
+    private ByteBuffer encode(GameUnoState state) {
+        ByteBuffer buffer = ByteBuffer.allocate(GameUnoStateCodec.maxEncodedSize(state));
+        GameUnoStateCodec.encode(state, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void assertSameCards(List<Card> expected, List<Card> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(CardCatalog.idOf(expected.get(i)), CardCatalog.idOf(actual.get(i)));
+        }
+    }
+
+    /**
+     * Tests that deck, table, hands, names and flags are restored exactly.
+     */
+    @Test
+    void testRoundTripRestoresEveryZone() {
+        game.skipMachineTurn();
+        GameUnoState state = GameUnoState.snapshotOf(game);
+
+        GameUnoState decoded = GameUnoStateCodec.decode(encode(state));
+
+        assertSameCards(state.getDeck().getDeckOfCards(), decoded.getDeck().getDeckOfCards());
+        assertSameCards(state.getTable().getCardsTable(), decoded.getTable().getCardsTable());
+        assertSameCards(state.getHumanPlayer().getCardsPlayer(), decoded.getHumanPlayer().getCardsPlayer());
+        assertSameCards(state.getMachinePlayer().getCardsPlayer(), decoded.getMachinePlayer().getCardsPlayer());
+        assertEquals("[Natalia]", decoded.getHumanPlayer().getPlayerName());
+        assertTrue(decoded.isMachineBlocked());
+        assertFalse(decoded.isHumanBlocked());
+        assertEquals(state.isHumanTurn(), decoded.isHumanTurn());
+    }
+
+    /**
+     * Tests that a wild card keeps the color chosen for it.
+     */
+    @Test
+    void testWildCardKeepsChosenColor() {
+        Card wild = new Card("/org/example/eiscuno/cards-uno/4_wild_draw.png", "+4", null);
+        wild.setColor("BLUE");
+        game.getTable().addCardOnTheTable(wild);
+
+        GameUnoState decoded = GameUnoStateCodec.decode(encode(GameUnoState.snapshotOf(game)));
+        Card top = decoded.getTable().getCurrentCardOnTheTable();
+
+        assertEquals("+4", top.getValue());
+        assertEquals("BLUE", top.getColor());
+    }
+
+    /**
+     * Tests that a freshly started game is saved in less than 200 bytes.
+     */
+    @Test
+    void testEncodedGameIsCompact() {
+        assertTrue(encode(GameUnoState.snapshotOf(game)).remaining() < 200);
+    }
+
+    /**
+     * Tests that flipping a single payload bit is detected.
+     */
+    @Test
+    void testCorruptedPayloadIsRejected() {
+        ByteBuffer buffer = encode(GameUnoState.snapshotOf(game));
+        int index = GameUnoStateCodec.HEADER_SIZE + 3;
+        buffer.put(index, (byte) (buffer.get(index) ^ 0x01));
+
+        assertThrows(IllegalArgumentException.class, () -> GameUnoStateCodec.decode(buffer));
+    }
+}
@@ -0,0 +1,264 @@
+package org.example.eiscuno.model.serializable;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.exceptions.EmptyDeckException;
+import org.example.eiscuno.model.exceptions.InvalidCardPlayException;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MoveJournal} and its compaction.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>Snapshots are written on the autosave writer thread, never on the thread reporting the move</li>
+ *   <li>Moves reported while a snapshot is being written are carried into the new generation</li>
+ *   <li>The snapshot plus the journal replay to the same cards as the live game, plays and chosen
+ *       colors included</li>
+ *   <li>Replay stops before a torn or damaged last record</li>
+ *   <li>A journal of another generation than the snapshot is ignored</li>
+ * </ul>
+ */
+class MoveJournalTest {
+    @TempDir
+    Path dir;
+
+    private final BinaryGameStateFileHandler files = new BinaryGameStateFileHandler();
+    private String saveFile;
+    private String journalFile;
+    private AutoSaveService saves;
+    private MoveJournal journal;
+    private GameUno game;
+
+    /**
+     * With the writer stuck on the first snapshot, moves still return at once; once it is released
+     * the journal rotates, keeps the moves made meanwhile, and replays to the same cards.
+     */
+    @Test
+    void compactionRunsOffTheMoveThread() throws InterruptedException {
+        saveFile = dir.resolve("GameUnoState.ser").toString();
+        journalFile = dir.resolve("GameUnoState.journal").toString();
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Thread> writers = ConcurrentHashMap.newKeySet();
+        ISerializableFileHandler gated = new ISerializableFileHandler() {
+            @Override
+            public void serialize(String filename, Object element) {
+                writers.add(Thread.currentThread());
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                files.serialize(filename, element);
+            }
+
+            @Override
+            public Object deserialize(String filename) {
+                return files.deserialize(filename);
+            }
+        };
+        saves = new AutoSaveService(gated, saveFile, 0);
+        journal = new MoveJournal(journalFile, saves, 4);
+        game = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Deck(new Random(7)), new Table());
+        game.startGame();
+
+        long start = System.nanoTime();
+        journal.start(game, 0);
+        game.setMoveListener(journal);
+        game.eatCard(game.getHumanPlayer(), 6);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "Las jugadas esperaron al disco");
+        assertEquals(0, journal.getGeneration());
+
+        release.countDown();
+        long first = awaitChange(journal::getGeneration, 0);
+        assertEquals(6, journal.getPosition());
+
+        // El primer registro inicia otra compactación; los dos siguientes pasan a la nueva generación
+        game.eatCard(game.getMachinePlayer(), 3);
+        assertEquals(first + 1, awaitChange(journal::getGeneration, first));
+        assertEquals(2, journal.getPosition());
+        assertFalse(writers.contains(Thread.currentThread()));
+        assertFalse(Files.exists(Path.of(journalFile + ".tmp")));
+
+        stop();
+        assertSameCards(GameUnoState.snapshotOf(game), replay());
+    }
+
+    /**
+     * Plays, including wild cards with their chosen color, are replayed onto the snapshot.
+     */
+    @Test
+    void replaysPlaysAndChosenColors() throws InterruptedException {
+        start(11);
+        int colorsChosen = playMoves(40);
+        assertTrue(colorsChosen > 0, "La partida no eligió ningún color");
+        int position = journal.getPosition();
+
+        stop();
+        GameUnoState restored = replay();
+        assertSameCards(GameUnoState.snapshotOf(game), restored);
+        assertEquals(position, restored.getJournalPosition());
+        assertEquals(game.isHumanTurn(), restored.isHumanTurn());
+    }
+
+    /**
+     * A last record cut short by a crash is not applied; everything before it is.
+     */
+    @Test
+    void replayStopsAtTornRecord() throws IOException, InterruptedException, EmptyDeckException {
+        start(11);
+        playMoves(20);
+        GameUnoState beforeLastMove = GameUnoState.snapshotOf(game);
+        game.drawCard(game.getHumanPlayer());
+        stop();
+
+        Path path = Path.of(journalFile);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+
+        assertSameCards(beforeLastMove, replay());
+    }
+
+    /**
+     * A last record whose check byte does not match is not applied; everything before it is.
+     */
+    @Test
+    void replayStopsAtRecordFailingItsCheck() throws IOException, InterruptedException, EmptyDeckException {
+        start(11);
+        playMoves(20);
+        GameUnoState beforeLastMove = GameUnoState.snapshotOf(game);
+        game.drawCard(game.getHumanPlayer());
+        stop();
+
+        Path path = Path.of(journalFile);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(path, bytes);
+
+        assertSameCards(beforeLastMove, replay());
+    }
+
+    /**
+     * A snapshot of another generation already includes, or predates, the journaled moves:
+     * it is returned untouched.
+     */
+    @Test
+    void journalOfAnotherGenerationIsIgnored() throws InterruptedException {
+        start(11);
+        playMoves(10);
+        stop();
+
+        GameUnoState saved = (GameUnoState) files.deserialize(saveFile);
+        GameUnoState older = GameUnoState.snapshotOf(game, saved.getJournalGeneration() - 1, 0);
+        int handSize = older.getHumanPlayer().getCardCount();
+        int deckSize = older.getDeck().getDeckOfCards().size();
+
+        assertSame(older, MoveJournal.replay(journalFile, older));
+        assertEquals(handSize, older.getHumanPlayer().getCardCount());
+        assertEquals(deckSize, older.getDeck().getDeckOfCards().size());
+    }
+
+    /**
+     * Starts journaling a new game and waits until the first snapshot is on disk.
+     */
+    private void start(long seed) throws InterruptedException {
+        saveFile = dir.resolve("GameUnoState.ser").toString();
+        journalFile = dir.resolve("GameUnoState.journal").toString();
+        saves = new AutoSaveService(files, saveFile, 0);
+        journal = new MoveJournal(journalFile, saves, 1000);
+        game = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Deck(new Random(seed)), new Table());
+        game.startGame();
+        journal.start(game, 0);
+        game.setMoveListener(journal);
+        awaitChange(journal::getGeneration, 0);
+    }
+
+    /**
+     * Alternates the two players: each plays its first playable card, choosing blue for wild cards,
+     * or draws a card.
+     *
+     * @return the number of colors chosen
+     */
+    private int playMoves(int moves) {
+        int colorsChosen = 0;
+        for (int i = 0; i < moves && !game.isGameOver(); i++) {
+            Player player = i % 2 == 0 ? game.getHumanPlayer() : game.getMachinePlayer();
+            Card top = game.getTable().getCurrentCardOnTheTable();
+            Card playable = null;
+            for (Card card : player.getCardsPlayer()) {
+                if (card.canBePlayedOver(top)) {
+                    playable = card;
+                    break;
+                }
+            }
+            try {
+                if (playable == null) {
+                    game.drawCard(player);
+                    continue;
+                }
+                game.playCard(playable);
+            } catch (EmptyDeckException | InvalidCardPlayException e) {
+                fail(e);
+            }
+            if ("WILD".equals(playable.getValue()) || "+4".equals(playable.getValue())) {
+                game.chooseColor("BLUE");
+                colorsChosen++;
+            }
+        }
+        return colorsChosen;
+    }
+
+    private void stop() {
+        saves.shutdown(2000);
+        journal.close();
+    }
+
+    private GameUnoState replay() {
+        return MoveJournal.replay(journalFile, (GameUnoState) files.deserialize(saveFile));
+    }
+
+    private static void assertSameCards(GameUnoState expected, GameUnoState actual) {
+        assertEquals(ids(expected.getDeck().getDeckOfCards()), ids(actual.getDeck().getDeckOfCards()), "Mazo");
+        assertEquals(ids(expected.getTable().getCardsTable()), ids(actual.getTable().getCardsTable()), "Mesa");
+        assertEquals(ids(expected.getHumanPlayer().getCardsPlayer()), ids(actual.getHumanPlayer().getCardsPlayer()),
+                "Mano humana");
+        assertEquals(ids(expected.getMachinePlayer().getCardsPlayer()), ids(actual.getMachinePlayer().getCardsPlayer()),
+                "Mano de la máquina");
+    }
+
+    /** The card IDs in order; wild cards on the table include their chosen color. */
+    private static List<Integer> ids(List<Card> cards) {
+        return cards.stream().map(CardCatalog::idOf).toList();
+    }
+
+    private static long awaitChange(LongSupplier value, long from) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (value.getAsLong() == from) {
+            assertTrue(System.nanoTime() < deadline, "El diario no rotó");
+            Thread.sleep(5);
+        }
+        return value.getAsLong();
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.eiscuno.model.server;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.logging.LogLevel;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link GameSession} and the {@link GameServer} that hosts it.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>A new session deals a game and describes it</li>
+ *   <li>Invalid commands are answered with an error and change nothing</li>
+ *   <li>The largest hands always leave an initial card, and larger ones are refused by the server</li>
+ *   <li>Every game ends and a new one can be dealt in the same session</li>
+ *   <li>Two clients of the server play separate games over TCP</li>
+ *   <li>A binary client is recognised by its first frame and answered in frames</li>
+ *   <li>Text clients, also those starting with a non-ASCII byte, do not keep a pooled buffer</li>
+ * </ul>
+ */
+class GameSessionTest {
+
+    /**
+     * The state of a new game shows the card on the table and the client's five cards.
+     */
+    @Test
+    void newSessionDealsAGame() {
+        GameSession session = new GameSession(5);
+        String state = session.handle("STATE");
+        assertTrue(state.startsWith("OK top="), state);
+        assertEquals(5, field(state, "hand").split(",").length);
+        assertEquals("5", field(state, "machine"));
+        assertFalse(session.isOver());
+    }
+
+    /**
+     * With the largest hands the deck may keep only special cards; such deals are dealt again, so
+     * every session starts with a card on the table. One more card per player is refused.
+     */
+    @Test
+    void largestHandsStillDealAnInitialCard() {
+        int cards = CardCatalog.BASE_CARD_COUNT / 2 - 1;
+        // GameUno registra como error cada reparto sin carta inicial
+        LogLevel level = GameLog.getLevel();
+        GameLog.setLevel(LogLevel.OFF);
+        try {
+            for (int i = 0; i < 200; i++) {
+                String state = new GameSession(cards).handle("STATE");
+                assertTrue(state.startsWith("OK top="), state);
+            }
+        } finally {
+            GameLog.setLevel(level);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(0, cards + 1));
+    }
+
+    /**
+     * Unknown commands, missing arguments and cards out of the hand are rejected.
+     */
+    @Test
+    void invalidCommandsAreRejected() {
+        GameSession session = new GameSession(5);
+        String before = session.handle("STATE");
+        assertTrue(session.handle("JUMP").startsWith("ERR"));
+        assertTrue(session.handle("PLAY").startsWith("ERR"));
+        assertTrue(session.handle("PLAY x").startsWith("ERR"));
+        assertTrue(session.handle("PLAY 99").startsWith("ERR"));
+        assertEquals(before, session.handle("STATE"));
+    }
+
+    /**
+     * A client that plays the first card the server accepts, or draws, gets to the end of the game,
+     * and NEW starts again.
+     */
+    @Test
+    void everyGameEnds() {
+        GameSession session = new GameSession(5);
+        String state = session.handle("STATE");
+        for (int move = 0; move < 500 && !session.isOver(); move++) {
+            int handSize = field(state, "hand").isEmpty() ? 0 : field(state, "hand").split(",").length;
+            String reply = "ERR";
+            for (int i = 0; i < handSize && reply.startsWith("ERR"); i++) {
+                reply = session.handle("PLAY " + i + " RED");
+            }
+            state = reply.startsWith("ERR") ? session.handle("DRAW") : reply;
+        }
+        assertTrue(session.isOver());
+        assertTrue(state.startsWith("OVER winner="), state);
+        assertTrue(session.handle("DRAW").startsWith("ERR"));
+
+        assertTrue(session.handle("NEW").startsWith("OK"));
+        assertFalse(session.isOver());
+    }
+
+    /**
+     * Two connections get one session each, and the server counts them.
+     */
+    @Test
+    void serverHostsSeparateSessions() throws IOException {
+        try (GameServer server = new GameServer(0, 7);
+             Client first = new Client(server.getPort());
+             Client second = new Client(server.getPort())) {
+            assertEquals(7, field(first.send("STATE"), "hand").split(",").length);
+            assertTrue(second.send("DRAW").startsWith("O"));
+            assertEquals(7, field(first.send("STATE"), "hand").split(",").length);
+
+            String stats = first.send("STATS");
+            assertEquals("2", field(stats, "sessions"), stats);
+            assertEquals(GameServer.BYE, second.send("QUIT"));
+        }
+    }
+
+    /**
+     * A DRAW frame is answered with the card drawn and the new state, in binary frames.
+     */
+    @Test
+    void serverSpeaksTheBinaryProtocol() throws IOException {
+        try (GameServer server = new GameServer(0, 7);
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", server.getPort()))) {
+            ByteBuffer out = ByteBuffer.allocate(WireCodec.MAX_FRAME_SIZE);
+            WireCodec.putDraw(out);
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+
+            int[] drawn = {-1};
+            int[] handCount = {-1};
+            IWireHandler handler = new IWireHandler() {
+                @Override
+                public void onCardDrawn(int seat, int cardId) {
+                    if (seat == WireCodec.SEAT_HUMAN) {
+                        drawn[0] = cardId;
+                    }
+                }
+
+                @Override
+                public void onState(int topCardId, int deckSize, int machineCards, int count) {
+                    handCount[0] = count;
+                }
+            };
+            ByteBuffer in = ByteBuffer.allocate(4096);
+            while (handCount[0] < 0) {
+                assertTrue(channel.read(in) >= 0, "El servidor cerró la conexión");
+                in.flip();
+                WireCodec.decode(in, handler);
+                in.compact();
+            }
+            assertTrue(drawn[0] >= 0 && drawn[0] != WireCodec.NO_CARD);
+            // La máquina responde en el mismo turno y puede haber hecho robar más cartas al cliente
+            assertTrue(handCount[0] >= 8, "Cartas en la mano: " + handCount[0]);
+        }
+    }
+
+    /**
+     * Text sessions give their pooled buffer back once the protocol is known, and a first byte
+     * of 0x80 or more, here a UTF-8 byte order mark, is still text.
+     */
+    @Test
+    void textSessionsDoNotHoldPooledBuffers() throws IOException {
+        try (GameServer server = new GameServer(0, 7)) {
+            int available = GameServer.BUFFERS.getAvailable();
+            try (Client first = new Client(server.getPort());
+                 Client second = new Client(server.getPort());
+                 Client marked = new Client(server.getPort())) {
+                assertTrue(first.send("STATE").startsWith("OK"));
+                assertTrue(second.send("STATE").startsWith("OK"));
+                String reply = marked.send("\uFEFFSTATE");
+                assertNotNull(reply, "La sesión se cerró como si fuera binaria");
+                assertTrue(marked.send("STATE").startsWith("OK"));
+                assertTrue(GameServer.BUFFERS.getAvailable() >= available,
+                        "Búferes libres: " + GameServer.BUFFERS.getAvailable() + " de " + available);
+            }
+        }
+    }
+
+    private static String field(String reply, String name) {
+        for (String part : reply.split(" ")) {
+            if (part.startsWith(name + "=")) {
+                return part.substring(name.length() + 1);
+            }
+        }
+        return fail("Falta " + name + " en: " + reply);
+    }
+
+    private static final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        Client(int port) throws IOException {
+            socket = new Socket("127.0.0.1", port);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        String send(String command) throws IOException {
+            out.println(command);
+            return in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.eiscuno.model.server;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.exceptions.WireProtocolException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary frames of {@link WireCodec}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>Every frame type survives an encode/decode round trip</li>
+ *   <li>Frames split across reads are decoded once complete, and not before</li>
+ *   <li>Random and corrupted bytes only ever raise {@link WireProtocolException} (fuzzing)</li>
+ * </ul>
+ */
+class WireCodecTest {
+
+    /**
+     * Writes one frame of every type and reads back the same fields, in order.
+     */
+    @Test
+    void everyFrameRoundTrips() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        int wildRed = CardCatalog.withColor(wildId(), "RED");
+        WireCodec.putPlayCard(buffer, wildRed);
+        WireCodec.putDraw(buffer);
+        WireCodec.putChooseColor(buffer, 3);
+        WireCodec.putCallUno(buffer);
+        WireCodec.putNewGame(buffer);
+        WireCodec.putCardPlayed(buffer, WireCodec.SEAT_MACHINE, 7, 4);
+        WireCodec.putCardDrawn(buffer, WireCodec.SEAT_HUMAN, 20);
+        WireCodec.putCardDrawn(buffer, WireCodec.SEAT_MACHINE, WireCodec.NO_CARD);
+        WireCodec.putColorChosen(buffer, 1);
+        WireCodec.putState(buffer, 9, 300, 6, new int[] {1, 2, 61}, 3);
+        WireCodec.putGameOver(buffer, WireCodec.SEAT_NONE);
+        WireCodec.putError(buffer, WireCodec.ERROR_INVALID_CARD);
+        buffer.flip();
+
+        Recorder recorder = new Recorder();
+        assertEquals(12, WireCodec.decode(buffer, recorder));
+        assertFalse(buffer.hasRemaining());
+        assertEquals(List.of(
+                "play " + wildRed, "draw", "color 3", "uno", "new",
+                "played 1 7 4", "drawn 0 20", "drawn 1 255", "chosen 1",
+                "state 9 300 6 3", "hand 0 1", "hand 1 2", "hand 2 61",
+                "over 255", "error 2"), recorder.calls);
+    }
+
+    /**
+     * Feeding a STATE frame one byte at a time decodes nothing until its last byte arrives.
+     */
+    @Test
+    void splitFramesWaitForTheirLastByte() {
+        ByteBuffer frame = ByteBuffer.allocate(64);
+        WireCodec.putState(frame, 5, 40, 3, new int[] {10, 11}, 2);
+        frame.flip();
+
+        ByteBuffer in = ByteBuffer.allocateDirect(64);
+        Recorder recorder = new Recorder();
+        while (frame.hasRemaining()) {
+            in.put(frame.get());
+            in.flip();
+            int frames = WireCodec.decode(in, recorder);
+            in.compact();
+            assertEquals(frame.hasRemaining() ? 0 : 1, frames);
+        }
+        assertEquals(List.of("state 5 40 3 2", "hand 0 10", "hand 1 11"), recorder.calls);
+        assertEquals(0, in.position());
+    }
+
+    /**
+     * Random bytes, and valid frames with random bytes flipped or cut, are either decoded into fields
+     * within range or rejected with {@link WireProtocolException}; nothing else is ever thrown.
+     */
+    @Test
+    void fuzzedInputOnlyRaisesProtocolErrors() {
+        Random random = new Random(20240611L);
+        ByteBuffer valid = ByteBuffer.allocate(512);
+        WireCodec.putPlayCard(valid, 12);
+        WireCodec.putCardPlayed(valid, WireCodec.SEAT_HUMAN, 12, 5);
+        WireCodec.putState(valid, 12, 70, 5, new int[] {0, 13, 26, 39, 53}, 5);
+        WireCodec.putGameOver(valid, WireCodec.SEAT_MACHINE);
+        valid.flip();
+        byte[] template = new byte[valid.remaining()];
+        valid.get(template);
+
+        Recorder checker = new Recorder();
+        for (int round = 0; round < 20_000; round++) {
+            byte[] bytes;
+            if (round % 2 == 0) {
+                bytes = new byte[random.nextInt(64)];
+                random.nextBytes(bytes);
+            } else {
+                bytes = template.clone();
+                for (int flips = 1 + random.nextInt(3); flips > 0; flips--) {
+                    bytes[random.nextInt(bytes.length)] = (byte) random.nextInt(256);
+                }
+                bytes = Arrays.copyOf(bytes, random.nextInt(bytes.length + 1));
+            }
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            try {
+                WireCodec.decode(in, checker);
+                assertTrue(in.remaining() < WireCodec.LENGTH_SIZE
+                                || in.remaining() < WireCodec.LENGTH_SIZE + Short.toUnsignedInt(in.getShort(in.position())),
+                        "Quedó sin decodificar una trama completa");
+            } catch (WireProtocolException expected) {
+                // Trama rechazada: es lo esperado para datos corruptos
+            }
+        }
+    }
+
+    private static int wildId() {
+        for (int id = 0; id < CardCatalog.BASE_CARD_COUNT; id++) {
+            if ("WILD".equals(CardCatalog.valueOf(id))) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("El catálogo no tiene comodín");
+    }
+
+    /**
+     * Records every call as text, and checks that the decoded fields are within their ranges.
+     */
+    private static final class Recorder implements IWireHandler {
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void onPlayCard(int cardId) { card(cardId); calls.add("play " + cardId); }
+
+        @Override
+        public void onDraw() { calls.add("draw"); }
+
+        @Override
+        public void onChooseColor(int colorIndex) { color(colorIndex); calls.add("color " + colorIndex); }
+
+        @Override
+        public void onCallUno() { calls.add("uno"); }
+
+        @Override
+        public void onNewGame() { calls.add("new"); }
+
+        @Override
+        public void onCardPlayed(int seat, int cardId, int cardsLeft) {
+            seat(seat);
+            card(cardId);
+            calls.add("played " + seat + " " + cardId + " " + cardsLeft);
+        }
+
+        @Override
+        public void onCardDrawn(int seat, int cardId) {
+            seat(seat);
+            if (cardId != WireCodec.NO_CARD) {
+                card(cardId);
+            }
+            calls.add("drawn " + seat + " " + cardId);
+        }
+
+        @Override
+        public void onColorChosen(int colorIndex) { color(colorIndex); calls.add("chosen " + colorIndex); }
+
+        @Override
+        public void onState(int topCardId, int deckSize, int machineCards, int handCount) {
+            card(topCardId);
+            calls.add("state " + topCardId + " " + deckSize + " " + machineCards + " " + handCount);
+        }
+
+        @Override
+        public void onHandCard(int index, int cardId) { card(cardId); calls.add("hand " + index + " " + cardId); }
+
+        @Override
+        public void onGameOver(int winner) {
+            assertTrue(winner == WireCodec.SEAT_NONE || winner == WireCodec.SEAT_HUMAN || winner == WireCodec.SEAT_MACHINE);
+            calls.add("over " + winner);
+        }
+
+        @Override
+        public void onError(int code) { calls.add("error " + code); }
+
+        private static void card(int cardId) {
+            assertTrue(cardId >= 0 && cardId < CardCatalog.ID_COUNT, "Carta fuera de rango: " + cardId);
+        }
+
+        private static void color(int colorIndex) {
+            assertTrue(colorIndex >= 0 && colorIndex < CardCatalog.COLORS.length, "Color fuera de rango: " + colorIndex);
+        }
+
+        private static void seat(int seat) {
+            assertTrue(seat == WireCodec.SEAT_HUMAN || seat == WireCodec.SEAT_MACHINE, "Jugador fuera de rango: " + seat);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.effects.CardEffectManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LockstepSimulator} and the {@link EffectTable} it is built on.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>The effect table reproduces the effects of the {@link CardEffectManager}</li>
+ *   <li>A game depends only on its seed, not on the batch it is played in</li>
+ *   <li>Every game of a batch ends and is counted once</li>
+ * </ul>
+ */
+class LockstepSimulatorTest {
+
+    /**
+     * Probing the default effect manager finds the penalties and lost turns of the special cards.
+     */
+    @Test
+    void effectTableMatchesEffectManager() {
+        EffectTable table = EffectTable.probe(new CardEffectManager());
+        for (int id = 0; id < CardCatalog.BASE_CARD_COUNT; id++) {
+            String value = CardCatalog.valueOf(id);
+            int expectedPenalty = "+2".equals(value) ? 2 : "+4".equals(value) ? 4 : 0;
+            boolean expectedSkip = expectedPenalty > 0 || "SKIP".equals(value) || "REVERSE".equals(value);
+            assertEquals(expectedPenalty, table.penalty[id], value);
+            assertEquals(expectedSkip, table.skip[id], value);
+            assertEquals(expectedSkip || "WILD".equals(value), table.special[id], value);
+        }
+    }
+
+    /**
+     * The same seeds give the same statistics whether they are played in one batch or in many.
+     */
+    @Test
+    void resultsDoNotDependOnBatchSize() {
+        long[] seeds = new long[1000];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = i * 31L + 7;
+        }
+        SimulationStats whole = new SimulationStats();
+        new LockstepSimulator(seeds.length, LockstepSimulator.Policy.RANDOM, LockstepSimulator.Policy.AGGRESSIVE,
+                RuleOptions.DEFAULT).playBatch(seeds, seeds.length, whole);
+
+        SimulationStats split = new SimulationStats();
+        LockstepSimulator small = new LockstepSimulator(7, LockstepSimulator.Policy.RANDOM,
+                LockstepSimulator.Policy.AGGRESSIVE, RuleOptions.DEFAULT);
+        long[] chunk = new long[7];
+        for (int start = 0; start < seeds.length; start += chunk.length) {
+            int count = Math.min(chunk.length, seeds.length - start);
+            System.arraycopy(seeds, start, chunk, 0, count);
+            small.playBatch(chunk, count, split);
+        }
+
+        assertEquals(whole.getWins(0), split.getWins(0));
+        assertEquals(whole.getWins(1), split.getWins(1));
+        assertEquals(whole.getTurns(), split.getTurns());
+        assertEquals(whole.getCardsPlayed(), split.getCardsPlayed());
+        assertEquals(whole.getCardsDrawn(), split.getCardsDrawn());
+    }
+
+    /**
+     * Every game ends within the turn limit and is counted exactly once.
+     */
+    @Test
+    void everyGameIsCounted() {
+        RuleOptions rules = new RuleOptions(7, true, 300);
+        long[] seeds = new long[500];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = i;
+        }
+        SimulationStats stats = new SimulationStats();
+        new LockstepSimulator(seeds.length, LockstepSimulator.Policy.FIRST, LockstepSimulator.Policy.FIRST, rules)
+                .playBatch(seeds, seeds.length, stats);
+
+        assertEquals(seeds.length, stats.getGames());
+        assertEquals(stats.getEndReasonCount(GameResult.EndReason.WIN), stats.getWins(0) + stats.getWins(1));
+        assertTrue(stats.getTurns() <= (long) seeds.length * rules.getMaxTurns());
+        assertTrue(stats.getCardsPlayed() > 0);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.effects.CardEffectManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the {@link IPlayabilityKernel} implementations.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>The vector kernel gives exactly the scalar result, including the games left over after the SIMD loop</li>
+ *   <li>The lockstep simulator plays the same games with either kernel</li>
+ * </ul>
+ * The vector tests are skipped when the JVM runs without {@code jdk.incubator.vector}.
+ */
+class PlayabilityKernelTest {
+
+    /**
+     * Random hands and top cards give the same playable cards with both kernels, for every count.
+     */
+    @Test
+    void vectorMatchesScalar() {
+        IPlayabilityKernel vector = PlayabilityKernels.vector();
+        assumeTrue(vector != null, "jdk.incubator.vector no disponible");
+
+        SplittableRandom random = new SplittableRandom(42);
+        long[] matchMasks = new long[64];
+        for (int i = 0; i < matchMasks.length; i++) {
+            matchMasks[i] = random.nextLong();
+        }
+        for (int count = 0; count <= 67; count++) {
+            long[] hands = new long[count];
+            int[] matchIndex = new int[count];
+            for (int g = 0; g < count; g++) {
+                hands[g] = random.nextLong();
+                matchIndex[g] = random.nextInt(matchMasks.length);
+            }
+            long[] expected = new long[count];
+            long[] actual = new long[count];
+            PlayabilityKernels.SCALAR.playableMasks(hands, matchIndex, matchMasks, expected, count);
+            vector.playableMasks(hands, matchIndex, matchMasks, actual, count);
+            assertArrayEquals(expected, actual, "count=" + count);
+        }
+    }
+
+    /**
+     * A lockstep batch gives the same statistics with the vector kernel as with the scalar one.
+     */
+    @Test
+    void lockstepResultsDoNotDependOnKernel() {
+        IPlayabilityKernel vector = PlayabilityKernels.vector();
+        assumeTrue(vector != null, "jdk.incubator.vector no disponible");
+
+        long[] seeds = new long[777];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = i;
+        }
+        SimulationStats scalarStats = play(PlayabilityKernels.SCALAR, seeds);
+        SimulationStats vectorStats = play(vector, seeds);
+
+        assertEquals(scalarStats.getWins(0), vectorStats.getWins(0));
+        assertEquals(scalarStats.getWins(1), vectorStats.getWins(1));
+        assertEquals(scalarStats.getTurns(), vectorStats.getTurns());
+        assertEquals(scalarStats.getCardsPlayed(), vectorStats.getCardsPlayed());
+        assertEquals(scalarStats.getCardsDrawn(), vectorStats.getCardsDrawn());
+    }
+
+    private static SimulationStats play(IPlayabilityKernel kernel, long[] seeds) {
+        SimulationStats stats = new SimulationStats();
+        new LockstepSimulator(seeds.length, LockstepSimulator.Policy.RANDOM, LockstepSimulator.Policy.AGGRESSIVE,
+                RuleOptions.DEFAULT, new CardEffectManager(), kernel).playBatch(seeds, seeds.length, stats);
+        return stats;
+    }
+}
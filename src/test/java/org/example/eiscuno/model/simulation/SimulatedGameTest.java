@@ -0,0 +1,101 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.logging.GameLog;
+import org.example.eiscuno.model.logging.LogLevel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the headless games of {@link SimulatedGame}.
+ * <p>
+ * Verifies that:
+ * </p>
+ * <ul>
+ *   <li>The same seed always reproduces the same game</li>
+ *   <li>Every game ends, with a winner only when a hand is empty</li>
+ *   <li>The statistics add up the results of every game</li>
+ *   <li>A deal that leaves no normal card for the table ends the game instead of failing</li>
+ * </ul>
+ */
+class SimulatedGameTest {
+
+    /**
+     * Two games with the same seed and strategies are identical, move for move.
+     */
+    @Test
+    void sameSeedReproducesTheGame() {
+        for (long seed = 0; seed < 50; seed++) {
+            GameResult a = SimulatedGame.play(seed, PlayStrategies.RANDOM, PlayStrategies.AGGRESSIVE, RuleOptions.DEFAULT);
+            GameResult b = SimulatedGame.play(seed, PlayStrategies.RANDOM, PlayStrategies.AGGRESSIVE, RuleOptions.DEFAULT);
+            assertEquals(a.getWinner(), b.getWinner());
+            assertEquals(a.getEndReason(), b.getEndReason());
+            assertEquals(a.getTurns(), b.getTurns());
+            assertEquals(a.getCardsPlayed(), b.getCardsPlayed());
+            assertEquals(a.getCardsDrawn(), b.getCardsDrawn());
+        }
+    }
+
+    /**
+     * Games end within the turn limit and only a win has a winner.
+     */
+    @Test
+    void everyGameEnds() {
+        RuleOptions rules = new RuleOptions(7, true, 500);
+        for (long seed = 0; seed < 200; seed++) {
+            GameResult result = SimulatedGame.play(seed, PlayStrategies.FIRST, PlayStrategies.RANDOM, rules);
+            assertTrue(result.getTurns() <= rules.getMaxTurns());
+            assertEquals(result.getEndReason() == GameResult.EndReason.WIN, result.getWinner() >= 0);
+        }
+    }
+
+    /**
+     * The statistics count every game once and every win for its player.
+     */
+    @Test
+    void statisticsAddUpResults() {
+        SimulationStats stats = new SimulationStats();
+        long wins = 0;
+        for (long seed = 0; seed < 100; seed++) {
+            GameResult result = SimulatedGame.play(seed, PlayStrategies.FIRST, PlayStrategies.FIRST, RuleOptions.DEFAULT);
+            stats.add(result);
+            if (result.getWinner() >= 0) {
+                wins++;
+            }
+        }
+        assertEquals(100, stats.getGames());
+        assertEquals(wins, stats.getWins(0) + stats.getWins(1));
+        assertEquals(stats.getGames(), stats.getEndReasonCount(GameResult.EndReason.WIN)
+                + stats.getEndReasonCount(GameResult.EndReason.DECK_EXHAUSTED)
+                + stats.getEndReasonCount(GameResult.EndReason.TURN_LIMIT));
+    }
+
+    /**
+     * With the largest hands allowed only two cards are left, and when both are special cards there
+     * is no initial card: the game ends as {@code DECK_EXHAUSTED} without turns.
+     */
+    @Test
+    void dealWithoutInitialCardEndsTheGame() {
+        RuleOptions rules = new RuleOptions(CardCatalog.BASE_CARD_COUNT / 2 - 1, false, 100);
+        assertThrows(IllegalArgumentException.class,
+                () -> new RuleOptions(CardCatalog.BASE_CARD_COUNT / 2, false, 100));
+        int withoutInitialCard = 0;
+        // GameUno registra como error cada inicio sin carta inicial
+        LogLevel level = GameLog.getLevel();
+        GameLog.setLevel(LogLevel.OFF);
+        try {
+            for (long seed = 0; seed < 2000; seed++) {
+                GameResult result = SimulatedGame.play(seed, PlayStrategies.FIRST, PlayStrategies.FIRST, rules);
+                if (result.getTurns() == 0) {
+                    assertEquals(GameResult.EndReason.DECK_EXHAUSTED, result.getEndReason());
+                    assertEquals(-1, result.getWinner());
+                    withoutInitialCard++;
+                }
+            }
+        } finally {
+            GameLog.setLevel(level);
+        }
+        assertTrue(withoutInitialCard > 0);
+    }
+}